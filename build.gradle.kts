@@ -7,6 +7,7 @@ plugins {
     id("java")
     id("maven-publish")
     id("org.jetbrains.dokka") version "1.9.20"
+    id("me.champeau.jmh") version "0.7.2"
     kotlin("jvm")
 }
 
@@ -31,6 +32,39 @@ dependencies {
     implementation("com.google.zxing:core:3.3.1")
     implementation("com.google.zxing:javase:3.3.1")
     implementation("org.json:json:20231013")
+    testImplementation("junit:junit:4.12")
+    testImplementation("com.squareup.okhttp3:mockwebserver:3.14.6")
+}
+
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+dependencies {
+    "loadTestImplementation"("com.squareup.okhttp3:mockwebserver:3.14.6")
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the APIRequest load test against a loopback server, e.g. -PloadTestArgs=\"--concurrency=16\""
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.tecknobit.apimanager.loadtest.LoadGenerator")
+    args = (findProperty("loadTestArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("us")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results-$version.json"))
 }
 
 afterEvaluate {
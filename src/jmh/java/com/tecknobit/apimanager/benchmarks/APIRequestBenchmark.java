@@ -0,0 +1,83 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.apis.APIRequest;
+import com.tecknobit.apimanager.apis.APIRequest.Params;
+import org.openjdk.jmh.annotations.*;
+
+import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA256_ALGORITHM;
+import static com.tecknobit.apimanager.apis.APIRequest.HMAC_SHA512_ALGORITHM;
+
+/**
+ * The {@code APIRequestBenchmark} class is useful to measure the encoding of the params and the signature of the
+ * requests made with {@link APIRequest}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class APIRequestBenchmark {
+
+    /**
+     * {@code paramsCount} the number of the extra params to encode
+     */
+    @Param({"4", "32"})
+    public int paramsCount;
+
+    /**
+     * {@code algorithm} used to sign the requests
+     */
+    @Param({HMAC_SHA256_ALGORITHM, HMAC_SHA512_ALGORITHM})
+    public String algorithm;
+
+    /**
+     * {@code apiRequest} the request used to encode the params
+     */
+    private APIRequest apiRequest;
+
+    /**
+     * {@code extraParams} the extra params to encode
+     */
+    private Params extraParams;
+
+    /**
+     * {@code queryString} the query string to sign
+     */
+    private String queryString;
+
+    /**
+     * Method to set up the state of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        apiRequest = new APIRequest();
+        extraParams = new Params();
+        for (int j = 0; j < paramsCount; j++)
+            extraParams.addParam("param" + j, "value " + j + "/" + (j * 31));
+        queryString = apiRequest.encodeAdditionalParams("?symbol=BTCUSDT&side=BUY", extraParams);
+    }
+
+    /**
+     * Method to benchmark {@link APIRequest#encodeAdditionalParams(String, Params)} <br>
+     * No-any params required
+     *
+     * @return the params encoded as {@link String}
+     */
+    @Benchmark
+    public String encodeAdditionalParams() {
+        return apiRequest.encodeAdditionalParams("?symbol=BTCUSDT&side=BUY", extraParams);
+    }
+
+    /**
+     * Method to benchmark {@link APIRequest#getSignature(String, String, String)} <br>
+     * No-any params required
+     *
+     * @return the signature as {@link String}
+     */
+    @Benchmark
+    public String getSignature() throws Exception {
+        return APIRequest.getSignature("NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j",
+                queryString, algorithm);
+    }
+
+}
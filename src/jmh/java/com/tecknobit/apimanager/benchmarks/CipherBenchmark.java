@@ -0,0 +1,79 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.apis.encryption.BaseCipher;
+import com.tecknobit.apimanager.apis.encryption.aes.AESServerCipher;
+import com.tecknobit.apimanager.apis.encryption.rsa.RSAServerCipher;
+import org.openjdk.jmh.annotations.*;
+
+import static com.tecknobit.apimanager.apis.encryption.BaseCipher.Algorithm.CBC_ALGORITHM;
+import static com.tecknobit.apimanager.apis.encryption.aes.AESServerCipher.AESKeySize.k256;
+import static com.tecknobit.apimanager.apis.encryption.rsa.RSAServerCipher.RSAKeyStrength.HIGH_STRENGTH_KEY;
+
+/**
+ * The {@code CipherBenchmark} class is useful to measure the encryption and the decryption made with the
+ * {@link BaseCipher} implementations
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class CipherBenchmark {
+
+    /**
+     * {@code CONTENT} the content to encrypt, short enough to fit in a single RSA block
+     */
+    private static final String CONTENT = "{\"symbol\":\"BTCUSDT\",\"side\":\"BUY\",\"price\":\"30000.00\"}";
+
+    /**
+     * {@code cipherType} the type of the cipher to benchmark
+     */
+    @Param({"AES", "RSA"})
+    public String cipherType;
+
+    /**
+     * {@code cipher} the cipher to benchmark
+     */
+    private BaseCipher cipher;
+
+    /**
+     * {@code encryptedContent} the content already encrypted to decrypt
+     */
+    private String encryptedContent;
+
+    /**
+     * Method to set up the state of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() throws Exception {
+        if (cipherType.equals("AES"))
+            cipher = new AESServerCipher(AESServerCipher.createIvParameterSpec(), AESServerCipher.createSecretKey(k256),
+                    CBC_ALGORITHM);
+        else
+            cipher = new RSAServerCipher(RSAServerCipher.generateRSAKeyPair(HIGH_STRENGTH_KEY));
+        encryptedContent = cipher.encryptBase64(CONTENT);
+    }
+
+    /**
+     * Method to benchmark {@link BaseCipher#encryptBase64(Object)} <br>
+     * No-any params required
+     *
+     * @return the content encrypted as {@link String}
+     */
+    @Benchmark
+    public String encryptBase64() throws Exception {
+        return cipher.encryptBase64(CONTENT);
+    }
+
+    /**
+     * Method to benchmark {@link BaseCipher#decryptBase64(String)} <br>
+     * No-any params required
+     *
+     * @return the content decrypted as {@link String}
+     */
+    @Benchmark
+    public String decryptBase64() throws Exception {
+        return cipher.decryptBase64(encryptedContent);
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.trading.CryptocurrencyTool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The {@code CryptocurrencyToolBenchmark} class is useful to measure the lookups made with {@link CryptocurrencyTool}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class CryptocurrencyToolBenchmark {
+
+    /**
+     * {@code symbol} the symbol to lookup, from a coin at the top of the coins map, to one at its end, to a missing one
+     */
+    @Param({"DAI", "ZRX", "RAMA", "MISSING"})
+    public String symbol;
+
+    /**
+     * Method to benchmark {@link CryptocurrencyTool#getCryptocurrencyName(String)} <br>
+     * No-any params required
+     *
+     * @return the name fetched as {@link String}
+     */
+    @Benchmark
+    public String getCryptocurrencyName() {
+        return CryptocurrencyTool.getCryptocurrencyName(symbol);
+    }
+
+    /**
+     * Method to benchmark {@link CryptocurrencyTool#getBaseFromSymbol(String)} <br>
+     * No-any params required
+     *
+     * @return the base fetched as {@link String}
+     */
+    @Benchmark
+    public String getBaseFromSymbol() {
+        return CryptocurrencyTool.getBaseFromSymbol(symbol + "USDT");
+    }
+
+}
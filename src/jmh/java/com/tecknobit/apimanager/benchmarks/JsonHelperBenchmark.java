@@ -0,0 +1,111 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.formatters.JsonHelper;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * The {@code JsonHelperBenchmark} class is useful to measure the lookups made with {@link JsonHelper} on small and
+ * large documents
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @implNote the documents are generated with a fixed seed, so the results are comparable across versions
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class JsonHelperBenchmark {
+
+    /**
+     * {@code levels} the number of the price levels of the document, {@code "10"} is a small document, while
+     * {@code "5000"} a large one
+     */
+    @Param({"10", "5000"})
+    public int levels;
+
+    /**
+     * {@code source} the document as {@link String}
+     */
+    private String source;
+
+    /**
+     * {@code jsonHelper} the helper reused between the invocations
+     */
+    private JsonHelper jsonHelper;
+
+    /**
+     * Method to set up the state of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        source = createOrderBook(levels).toString();
+        jsonHelper = new JsonHelper(source);
+    }
+
+    /**
+     * Method to benchmark {@link JsonHelper#getString(String)} on a reused helper <br>
+     * No-any params required
+     *
+     * @return the value fetched as {@link String}
+     */
+    @Benchmark
+    public String getString() {
+        return jsonHelper.getString("symbol");
+    }
+
+    /**
+     * Method to benchmark the parsing of a document and a single {@link JsonHelper#getString(String)} <br>
+     * No-any params required
+     *
+     * @return the value fetched as {@link String}
+     */
+    @Benchmark
+    public String parseAndGetString() {
+        return new JsonHelper(source).getString("symbol");
+    }
+
+    /**
+     * Method to benchmark {@link JsonHelper#fetchList(String)} on a reused helper <br>
+     * No-any params required
+     *
+     * @return the list fetched as {@link ArrayList}
+     */
+    @Benchmark
+    public ArrayList<Object> fetchList() {
+        return jsonHelper.fetchList("bids");
+    }
+
+    /**
+     * Method to create a sample order book document
+     *
+     * @param levels: the number of the price levels for each side
+     * @return the order book as {@link JSONObject}
+     */
+    static JSONObject createOrderBook(int levels) {
+        Random random = new Random(42);
+        JSONArray bids = new JSONArray();
+        JSONArray asks = new JSONArray();
+        for (int j = 0; j < levels; j++) {
+            bids.put(new JSONObject()
+                    .put("price", String.format("%.8f", 30000 - j * 0.5 - random.nextDouble()))
+                    .put("qty", String.format("%.8f", random.nextDouble() * 3)));
+            asks.put(new JSONObject()
+                    .put("price", String.format("%.8f", 30000 + j * 0.5 + random.nextDouble()))
+                    .put("qty", String.format("%.8f", random.nextDouble() * 3)));
+        }
+        return new JSONObject()
+                .put("code", 0)
+                .put("data", new JSONObject()
+                        .put("lastUpdateId", 1027024)
+                        .put("asks", asks)
+                        .put("bids", bids)
+                        .put("info", new JSONObject()
+                                .put("symbol", "BTCUSDT")
+                                .put("timestamp", 1700000000000L)));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.apis.sockets.SocketManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * The {@code SocketManagerBenchmark} class is useful to measure the round trips made with {@link SocketManager}
+ * against a local loopback server
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class SocketManagerBenchmark {
+
+    /**
+     * {@code payloadSize} the size of the content message to send
+     */
+    @Param({"64", "4096"})
+    public int payloadSize;
+
+    /**
+     * {@code server} the loopback server which echoes the content messages
+     */
+    private SocketManager server;
+
+    /**
+     * {@code client} the client which sends the content messages
+     */
+    private SocketManager client;
+
+    /**
+     * {@code content} the content message to send
+     */
+    private String content;
+
+    /**
+     * Method to set up the state of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() throws Exception {
+        int port;
+        try (ServerSocket freePort = new ServerSocket(0)) {
+            port = freePort.getLocalPort();
+        }
+        content = "x".repeat(payloadSize);
+        server = new SocketManager(false);
+        server.startListener(port, () -> {
+            while (server.continueListening()) {
+                try {
+                    Socket socket = server.acceptRequest();
+                    if (socket == null)
+                        break;
+                    server.writeContentTo(socket, server.readContent(socket));
+                    socket.close();
+                } catch (Exception e) {
+                    break;
+                }
+            }
+        });
+        client = new SocketManager("localhost", port);
+    }
+
+    /**
+     * Method to benchmark a round trip made with {@link SocketManager#writeContent(Object)} and
+     * {@link SocketManager#readContent()} <br>
+     * No-any params required
+     *
+     * @return the content message echoed as {@link String}
+     */
+    @Benchmark
+    public String roundTrip() throws Exception {
+        client.writeContent(content);
+        return client.readContent();
+    }
+
+    /**
+     * Method to tear down the state of the benchmark <br>
+     * No-any params required
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stopListener();
+        server.getActiveServerSocket().close();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.tecknobit.apimanager.benchmarks;
+
+import com.tecknobit.apimanager.formatters.TimeFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+
+/**
+ * The {@code TimeFormatterBenchmark} class is useful to measure the formatting and the parsing made with
+ * {@link TimeFormatter}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+@State(Scope.Benchmark)
+public class TimeFormatterBenchmark {
+
+    /**
+     * {@code TIMESTAMP} the fixed timestamp to format
+     */
+    private static final long TIMESTAMP = 1700000000000L;
+
+    /**
+     * {@code timeFormatter} the formatter to benchmark
+     */
+    private TimeFormatter timeFormatter;
+
+    /**
+     * {@code date} the date to parse
+     */
+    private String date;
+
+    /**
+     * Method to set up the state of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        timeFormatter = TimeFormatter.getInstance(Locale.ROOT);
+        date = timeFormatter.formatAsString(TIMESTAMP);
+    }
+
+    /**
+     * Method to benchmark {@link TimeFormatter#formatAsString(long)} <br>
+     * No-any params required
+     *
+     * @return the timestamp formatted as {@link String}
+     */
+    @Benchmark
+    public String formatAsString() {
+        return timeFormatter.formatAsString(TIMESTAMP);
+    }
+
+    /**
+     * Method to benchmark {@link TimeFormatter#formatAsTimestamp(String)} <br>
+     * No-any params required
+     *
+     * @return the date parsed as long
+     */
+    @Benchmark
+    public long formatAsTimestamp() {
+        return timeFormatter.formatAsTimestamp(date);
+    }
+
+}
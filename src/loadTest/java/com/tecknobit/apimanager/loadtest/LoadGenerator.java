@@ -0,0 +1,166 @@
+package com.tecknobit.apimanager.loadtest;
+
+import com.tecknobit.apimanager.apis.APIRequest;
+import com.tecknobit.apimanager.apis.APIRequest.Params;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+
+/**
+ * The {@code LoadGenerator} class is useful to drive a load test through {@link APIRequest} against a
+ * {@link LoopbackServer}, so pools and timeouts can be sized offline without hitting real exchanges <br>
+ * Each worker thread owns its {@link APIRequest}, as the class keeps the state of the last request sent
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class LoadGenerator {
+
+    /**
+     * {@code concurrency} the number of worker threads
+     */
+    private final int concurrency;
+
+    /**
+     * {@code requests} the number of requests to send
+     */
+    private final int requests;
+
+    /**
+     * {@code requestTimeout} the timeout of each request in milliseconds
+     */
+    private final long requestTimeout;
+
+    /**
+     * {@code requestPayload} the payload to send with {@code "POST"} requests, null to send {@code "GET"} requests
+     */
+    private final Params requestPayload;
+
+    /**
+     * Constructor to init {@link LoadGenerator}
+     *
+     * @param concurrency:        the number of worker threads
+     * @param requests:           the number of requests to send
+     * @param requestTimeout:     the timeout of each request in milliseconds
+     * @param requestPayloadSize: the size of the payload to send with {@code "POST"} requests, 0 to send {@code "GET"} requests
+     */
+    public LoadGenerator(int concurrency, int requests, long requestTimeout, int requestPayloadSize) {
+        if (concurrency <= 0 || requests <= 0)
+            throw new IllegalArgumentException("Concurrency and requests must be greater than zero");
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.requestTimeout = requestTimeout;
+        if (requestPayloadSize > 0) {
+            requestPayload = new Params();
+            int param = 0;
+            int size = 0;
+            while (size < requestPayloadSize) {
+                String value = "value_" + param;
+                requestPayload.addParam("param_" + param++, value);
+                size += value.length() + 16;
+            }
+        } else
+            requestPayload = null;
+    }
+
+    /**
+     * Method to run the load test
+     *
+     * @param server: the server to send the requests to
+     * @return the results of the run as {@link LoadReport}
+     * @throws InterruptedException when the run has been interrupted
+     */
+    public LoadReport run(LoopbackServer server) throws InterruptedException {
+        String url = server.getUrl("/api/v3/depth");
+        long[] latencies = new long[requests];
+        AtomicLong nextRequest = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong allocatedBytes = new AtomicLong();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(concurrency);
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long startConnections = server.getConnections();
+        for (int j = 0; j < concurrency; j++) {
+            Thread worker = new Thread(() -> {
+                APIRequest apiRequest = new APIRequest(requestTimeout);
+                try {
+                    startLatch.await();
+                    long startAllocation = threadMXBean.getCurrentThreadAllocatedBytes();
+                    int index;
+                    while ((index = (int) nextRequest.getAndIncrement()) < requests) {
+                        long start = System.nanoTime();
+                        try {
+                            if (requestPayload != null)
+                                apiRequest.sendJSONPayloadedAPIRequest(url, POST, requestPayload);
+                            else
+                                apiRequest.sendAPIRequest(url, GET);
+                            if (!apiRequest.isSuccessful())
+                                errors.incrementAndGet();
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - start;
+                    }
+                    allocatedBytes.addAndGet(threadMXBean.getCurrentThreadAllocatedBytes() - startAllocation);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            }, "load-generator-" + j);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        long start = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await();
+        long elapsed = System.nanoTime() - start;
+        return new LoadReport(requests, errors.get(), elapsed, latencies, allocatedBytes.get(),
+                server.getConnections() - startConnections);
+    }
+
+    /**
+     * Method to run a load test from the command line <br>
+     * The options available are {@code --concurrency}, {@code --requests}, {@code --payload} (the size in bytes of
+     * the responses), {@code --request-payload} (the size in bytes of the {@code "POST"} payloads), {@code --latency},
+     * {@code --jitter} and {@code --timeout} (all in milliseconds), e.g. {@code --concurrency=16 --latency=5}
+     *
+     * @param args: the options of the run
+     */
+    public static void main(String[] args) throws Exception {
+        int concurrency = 8;
+        int requests = 10000;
+        int payloadSize = 4096;
+        int requestPayloadSize = 0;
+        long latency = 0;
+        long jitter = 0;
+        long timeout = 10000;
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2)
+                throw new IllegalArgumentException("Invalid option: " + arg);
+            switch (option[0]) {
+                case "--concurrency" -> concurrency = Integer.parseInt(option[1]);
+                case "--requests" -> requests = Integer.parseInt(option[1]);
+                case "--payload" -> payloadSize = Integer.parseInt(option[1]);
+                case "--request-payload" -> requestPayloadSize = Integer.parseInt(option[1]);
+                case "--latency" -> latency = Long.parseLong(option[1]);
+                case "--jitter" -> jitter = Long.parseLong(option[1]);
+                case "--timeout" -> timeout = Long.parseLong(option[1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + option[0]);
+            }
+        }
+        try (LoopbackServer server = new LoopbackServer(payloadSize, latency, jitter)) {
+            LoadGenerator warmup = new LoadGenerator(concurrency, Math.min(requests, 1000), timeout,
+                    requestPayloadSize);
+            warmup.run(server);
+            System.out.println(new LoadGenerator(concurrency, requests, timeout, requestPayloadSize).run(server));
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.tecknobit.apimanager.loadtest;
+
+import org.json.JSONObject;
+
+import java.util.Arrays;
+
+/**
+ * The {@code LoadReport} class is useful to collect the results of a load test run by {@link LoadGenerator}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class LoadReport {
+
+    /**
+     * {@code requests} the number of requests sent
+     */
+    private final long requests;
+
+    /**
+     * {@code errors} the number of requests failed
+     */
+    private final long errors;
+
+    /**
+     * {@code elapsedNanos} the duration of the run in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * {@code latencies} the sorted latencies of the requests in nanoseconds
+     */
+    private final long[] latencies;
+
+    /**
+     * {@code allocatedBytes} the bytes allocated by the client threads during the run
+     */
+    private final long allocatedBytes;
+
+    /**
+     * {@code connections} the number of connections opened on the server
+     */
+    private final long connections;
+
+    /**
+     * Constructor to init {@link LoadReport}
+     *
+     * @param requests:       the number of requests sent
+     * @param errors:         the number of requests failed
+     * @param elapsedNanos:   the duration of the run in nanoseconds
+     * @param latencies:      the latencies of the requests in nanoseconds
+     * @param allocatedBytes: the bytes allocated by the client threads during the run
+     * @param connections:    the number of connections opened on the server
+     */
+    public LoadReport(long requests, long errors, long elapsedNanos, long[] latencies, long allocatedBytes,
+                      long connections) {
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        Arrays.sort(this.latencies);
+        this.allocatedBytes = allocatedBytes;
+        this.connections = connections;
+    }
+
+    /**
+     * Method to get the throughput of the run <br>
+     * No-any params required
+     *
+     * @return the throughput in requests per second as double
+     */
+    public double getThroughput() {
+        return requests / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Method to get a percentile of the latencies
+     *
+     * @param percentile: the percentile to get, e.g. 99.9
+     * @return the latency in milliseconds as double
+     */
+    public double getLatencyPercentile(double percentile) {
+        if (latencies.length == 0)
+            return 0;
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1e6;
+    }
+
+    /**
+     * Method to get the allocation rate of the client threads <br>
+     * No-any params required
+     *
+     * @return the allocation rate in megabytes per second as double
+     */
+    public double getAllocationRate() {
+        return allocatedBytes / 1048576.0 / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Method to get the bytes allocated for each request <br>
+     * No-any params required
+     *
+     * @return the bytes allocated for each request as long
+     */
+    public long getAllocatedBytesPerRequest() {
+        return requests > 0 ? allocatedBytes / requests : 0;
+    }
+
+    /**
+     * Method to get {@link #requests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requests} instance as long
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * Method to get {@link #errors} instance <br>
+     * No-any params required
+     *
+     * @return {@link #errors} instance as long
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Method to get {@link #connections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connections} instance as long
+     */
+    public long getConnections() {
+        return connections;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("requests", requests)
+                .put("errors", errors)
+                .put("elapsedMillis", elapsedNanos / 1000000)
+                .put("throughputPerSecond", getThroughput())
+                .put("latencyMillis", new JSONObject()
+                        .put("p50", getLatencyPercentile(50))
+                        .put("p90", getLatencyPercentile(90))
+                        .put("p99", getLatencyPercentile(99))
+                        .put("p999", getLatencyPercentile(99.9))
+                        .put("max", getLatencyPercentile(100)))
+                .put("allocationRateMBPerSecond", getAllocationRate())
+                .put("allocatedBytesPerRequest", getAllocatedBytesPerRequest())
+                .put("connectionsOpened", connections)
+                .toString();
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.tecknobit.apimanager.loadtest;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code LoopbackServer} class is useful to stand in for a real exchange during the load tests, serving on the
+ * loopback interface responses with a configurable payload size and an injected latency
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class LoopbackServer extends Dispatcher implements Closeable {
+
+    /**
+     * {@code SERVER_LOGGER} the logger of the embedded http server, raised to {@link Level#WARNING} so the requests are
+     * not logged on the console during the measurements
+     */
+    private static final Logger SERVER_LOGGER = Logger.getLogger(MockWebServer.class.getName());
+
+    /**
+     * {@code mockWebServer} the embedded http server
+     */
+    private final MockWebServer mockWebServer;
+
+    /**
+     * {@code payload} the body of the responses served
+     */
+    private final String payload;
+
+    /**
+     * {@code latency} the latency, in milliseconds, injected before each response
+     */
+    private final long latency;
+
+    /**
+     * {@code jitter} the max random latency, in milliseconds, added to the {@link #latency}
+     */
+    private final long jitter;
+
+    /**
+     * {@code requests} the number of requests served
+     */
+    private final AtomicLong requests;
+
+    /**
+     * {@code connections} the number of connections opened by the clients
+     */
+    private final AtomicLong connections;
+
+    /**
+     * Constructor to init {@link LoopbackServer}
+     *
+     * @param payloadSize: the size, in bytes, of the body of the responses
+     * @param latency:     the latency, in milliseconds, injected before each response
+     * @param jitter:      the max random latency, in milliseconds, added to the {@code "latency"}
+     * @throws IOException when the server cannot be started
+     */
+    public LoopbackServer(int payloadSize, long latency, long jitter) throws IOException {
+        this.payload = createPayload(payloadSize);
+        this.latency = latency;
+        this.jitter = jitter;
+        requests = new AtomicLong();
+        connections = new AtomicLong();
+        SERVER_LOGGER.setLevel(Level.WARNING);
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(this);
+        mockWebServer.start(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    /**
+     * Method to dispatch a request received
+     *
+     * @param request: the request received
+     * @return the response to serve as {@link MockResponse}
+     */
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+        requests.incrementAndGet();
+        if (request.getSequenceNumber() == 0)
+            connections.incrementAndGet();
+        long delay = latency;
+        if (jitter > 0)
+            delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+        return new MockResponse()
+                .setResponseCode(200)
+                .setHeader("Content-Type", "application/json")
+                .setHeadersDelay(delay, MILLISECONDS)
+                .setBody(payload);
+    }
+
+    /**
+     * Method to get the url of an endpoint of the server
+     *
+     * @param path: the path of the endpoint
+     * @return the url as {@link String}
+     */
+    public String getUrl(String path) {
+        return mockWebServer.url(path).toString();
+    }
+
+    /**
+     * Method to get {@link #requests} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requests} instance as long
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Method to get {@link #connections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connections} instance as long
+     */
+    public long getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * Method to stop the server <br>
+     * No-any params required
+     *
+     * @throws IOException when the server cannot be stopped
+     */
+    @Override
+    public void close() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    /**
+     * Method to create a {@code "JSON"} payload of a given size
+     *
+     * @param payloadSize: the size, in bytes, of the payload
+     * @return the payload as {@link String}
+     */
+    private static String createPayload(int payloadSize) {
+        StringBuilder payload = new StringBuilder("{\"data\":[");
+        int item = 0;
+        while (payload.length() < payloadSize - 64) {
+            if (item > 0)
+                payload.append(',');
+            payload.append("{\"id\":").append(item).append(",\"price\":\"30000.").append(item % 100)
+                    .append("\",\"qty\":\"0.00010000\"}");
+            item++;
+        }
+        payload.append("],\"symbol\":\"BTCUSDT\"}");
+        return payload.toString();
+    }
+
+}
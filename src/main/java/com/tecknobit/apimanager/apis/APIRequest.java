@@ -1,7 +1,9 @@
 package com.tecknobit.apimanager.apis;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.apimanager.formatters.JsonWriter;
 import okhttp3.*;
+import okio.BufferedSink;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -487,13 +489,14 @@ public class APIRequest {
     private void setRequest(String requestUrl, RequestMethod method, Params payload, boolean isJsonPayload) {
         RequestBody requestBody = null;
         if (payload != null) {
-            String cPayload;
             if (isJsonPayload) {
                 setContentType("application/json");
-                cPayload = payload.createJSONPayload().toString();
+                MediaType jsonContentType = contentType;
+                if (jsonContentType.charset() == null)
+                    jsonContentType = MediaType.parse(jsonContentType + "; charset=utf-8");
+                requestBody = RequestBody.create(jsonContentType, payload.createJSONPayloadBytes());
             } else
-                cPayload = payload.createPayload();
-            requestBody = RequestBody.create(contentType, cPayload);
+                requestBody = RequestBody.create(contentType, payload.createPayload());
         } else if (payload == null && method == PATCH)
             requestBody = RequestBody.create(contentType, "");
         request = new Request.Builder()
@@ -1386,6 +1389,30 @@ public class APIRequest {
             return createJSONPayload();
         }
 
+        /**
+         * Method to assemble a body params of an {@code "HTTP"} request serialized in {@code "JSON"} format without
+         * building the {@link JSONObject} payload <br>
+         * No-any params required
+         *
+         * @return body params as {@code "UTF-8"} bytes
+         * @throws JSONException when a param is a not finite number
+         */
+        public byte[] createJSONPayloadBytes() {
+            return JsonWriter.serialize(params);
+        }
+
+        /**
+         * Method to write a body params of an {@code "HTTP"} request serialized in {@code "JSON"} format directly in a
+         * sink
+         *
+         * @param sink: the sink where write the payload
+         * @throws JSONException when a param is a not finite number
+         * @throws IOException   when an error occurred writing in the sink
+         */
+        public void writeJSONPayload(BufferedSink sink) throws IOException {
+            JsonWriter.serialize(params, sink);
+        }
+
         /**
          * Returns a string representation of the object <br>
          * No-any params required
@@ -125,8 +125,12 @@ public abstract class BaseCipher {
      *
      * @param content: content to encrypt
      * @return content encrypted as array of byte
+     * @apiNote the arrays of byte are encrypted as they are, for the other contents will be encrypted the
+     * {@code "UTF-8"} bytes of their {@code "toString()"}'s method
      */
     public <T> byte[] encrypt(T content) throws Exception {
+        if (content instanceof byte[] bytes)
+            return cipher.doFinal(bytes);
         return cipher.doFinal(content.toString().getBytes(UTF_8));
     }
 
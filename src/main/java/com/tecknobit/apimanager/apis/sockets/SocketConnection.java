@@ -0,0 +1,488 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import org.json.JSONObject;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code SocketConnection} class is useful to exchange multiple content messages over the same {@link Socket},
+ * keeping for all its lifetime the same buffered streams, so the bytes already buffered are never lost between two
+ * reads and no stream is created for each message
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the contents are exchanged one for each line, as done by the {@link SocketManager}, or one for each
+ * length-prefixed frame: a frame starts with the length of its payload encoded as unsigned varint, so from one to five
+ * bytes with seven bits of the length each, followed by the payload bytes without any escaping
+ * @see SocketConnectionPool
+ * @since 2.2.5
+ */
+public class SocketConnection implements Closeable {
+
+    /**
+     * {@code MAX_FRAME_SIZE} is constant that contains the max size of the payload of a frame, the frames declaring
+     * a bigger payload are rejected before allocating it
+     */
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * {@code BUFFER_SIZE} is constant that contains the size of the buffers of the streams
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * {@code socket} the socket of the connection
+     */
+    private final Socket socket;
+
+    /**
+     * {@code host} the host of the connection
+     */
+    private final String host;
+
+    /**
+     * {@code port} the port of the connection
+     */
+    private final int port;
+
+    /**
+     * {@code input} the buffered input stream of the {@link #socket}
+     */
+    private final BufferedInputStream input;
+
+    /**
+     * {@code output} the buffered output stream of the {@link #socket}
+     */
+    private final BufferedOutputStream output;
+
+    /**
+     * {@code line} the buffer of the line which is being read
+     */
+    private byte[] line;
+
+    /**
+     * {@code lastUse} the last time, in milliseconds, when the connection has been used
+     */
+    private volatile long lastUse;
+
+    /**
+     * {@code broken} whether the connection cannot be used anymore, for example when the end of the stream has been
+     * reached
+     */
+    private volatile boolean broken;
+
+    /**
+     * {@code closed} whether the connection has been closed
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * {@code metrics} the metrics of the connection
+     */
+    private volatile SocketMetrics metrics;
+
+    /**
+     * {@code metricsPort} the port for which the {@link #metrics} are collected
+     */
+    private volatile int metricsPort;
+
+    /**
+     * Constructor to init {@link SocketConnection}
+     *
+     * @param host:           host to connect
+     * @param port:           port to connect
+     * @param connectTimeout: the max time, in milliseconds, to wait for the connection, 0 to wait indefinitely
+     * @throws IOException when the connection cannot be established
+     */
+    public SocketConnection(String host, int port, int connectTimeout) throws IOException {
+        this(connect(host, port, connectTimeout), host, port);
+    }
+
+    /**
+     * Constructor to init {@link SocketConnection}
+     *
+     * @param socket: the socket already connected to wrap
+     * @throws IOException when the streams of the socket cannot be fetched
+     */
+    public SocketConnection(Socket socket) throws IOException {
+        this(socket, socket.getInetAddress().getHostAddress(), socket.getPort());
+    }
+
+    /**
+     * Constructor to init {@link SocketConnection}
+     *
+     * @param socket: the socket already connected to wrap
+     * @param host:   the host of the connection
+     * @param port:   the port of the connection
+     * @throws IOException when the streams of the socket cannot be fetched
+     */
+    private SocketConnection(Socket socket, String host, int port) throws IOException {
+        this.socket = socket;
+        this.host = host;
+        this.port = port;
+        input = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+        output = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+        line = new byte[256];
+        lastUse = System.currentTimeMillis();
+        closed = new AtomicBoolean();
+        metrics = SocketMetrics.NOOP;
+    }
+
+    /**
+     * Method to set the metrics of the connection, the connection is counted as opened if the metrics were not
+     * already set
+     *
+     * @param metrics: the metrics of the connection
+     * @param port:    the port for which the metrics are collected
+     */
+    void bindMetrics(SocketMetrics metrics, int port) {
+        if (metrics == SocketMetrics.NOOP || this.metrics != SocketMetrics.NOOP || closed.get())
+            return;
+        metricsPort = port;
+        this.metrics = metrics;
+        metrics.onConnectionOpened(port);
+    }
+
+    /**
+     * Method to open a socket
+     *
+     * @param host:           host to connect
+     * @param port:           port to connect
+     * @param connectTimeout: the max time, in milliseconds, to wait for the connection
+     * @return the socket connected as {@link Socket}
+     * @throws IOException when the connection cannot be established
+     */
+    private static Socket connect(String host, int port, int connectTimeout) throws IOException {
+        Socket socket = SocketChannel.open().socket();
+        try {
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress(host, port), connectTimeout);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        return socket;
+    }
+
+    /**
+     * Method to write a content as a line and to send it
+     *
+     * @param content: the content to send, it must not contain line breaks
+     * @throws IOException when the content cannot be sent
+     */
+    public void writeLine(String content) throws IOException {
+        SocketMetrics metrics = this.metrics;
+        long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+        try {
+            byte[] bytes = content.getBytes(UTF_8);
+            output.write(bytes);
+            output.write('\n');
+            output.flush();
+            lastUse = System.currentTimeMillis();
+            if (metrics != SocketMetrics.NOOP) {
+                metrics.onBytesWritten(metricsPort, bytes.length + 1);
+                metrics.onFrameWritten(metricsPort, System.nanoTime() - start);
+            }
+        } catch (IOException e) {
+            broken = true;
+            metrics.onError(metricsPort, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to write a payload as a length-prefixed frame and to send it
+     *
+     * @param payload: the payload to send, from its position to its limit
+     * @throws IOException when the payload cannot be sent
+     */
+    public void writeFrame(ByteBuffer payload) throws IOException {
+        SocketMetrics metrics = this.metrics;
+        long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+        try {
+            byte[] frame = frameOf(payload);
+            output.write(frame);
+            output.flush();
+            lastUse = System.currentTimeMillis();
+            if (metrics != SocketMetrics.NOOP) {
+                metrics.onBytesWritten(metricsPort, frame.length);
+                metrics.onFrameWritten(metricsPort, System.nanoTime() - start);
+            }
+        } catch (IOException e) {
+            broken = true;
+            metrics.onError(metricsPort, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to read the payload of a length-prefixed frame received <br>
+     * No-any params required
+     *
+     * @return the payload received as array of byte, null if the end of the stream has been reached
+     * @throws IOException when the frame cannot be read or is not a valid frame
+     */
+    public byte[] readFrame() throws IOException {
+        SocketMetrics metrics = this.metrics;
+        long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+        try {
+            byte[] payload = readFrame(input);
+            if (payload == null)
+                broken = true;
+            else {
+                lastUse = System.currentTimeMillis();
+                if (metrics != SocketMetrics.NOOP) {
+                    int length = payload.length;
+                    int headerLength = 1;
+                    for (int value = length >>> 7; value != 0; value >>>= 7)
+                        headerLength++;
+                    metrics.onBytesRead(metricsPort, headerLength + length);
+                    metrics.onFrameRead(metricsPort, System.nanoTime() - start);
+                }
+            }
+            return payload;
+        } catch (IOException e) {
+            broken = true;
+            metrics.onError(metricsPort, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to create a length-prefixed frame
+     *
+     * @param payload: the payload of the frame, from its position to its limit, the position is not changed
+     * @return the frame as array of byte, with the header and the payload
+     * @throws IllegalArgumentException when the payload is bigger than {@link #MAX_FRAME_SIZE}
+     */
+    public static byte[] frameOf(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (length > MAX_FRAME_SIZE)
+            throw new IllegalArgumentException("The payload exceeds the max size of a frame: " + length);
+        int headerLength = 1;
+        for (int value = length >>> 7; value != 0; value >>>= 7)
+            headerLength++;
+        byte[] frame = new byte[headerLength + length];
+        int value = length;
+        for (int j = 0; j < headerLength - 1; j++) {
+            frame[j] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        frame[headerLength - 1] = (byte) value;
+        payload.duplicate().get(frame, headerLength, length);
+        return frame;
+    }
+
+    /**
+     * Method to read the payload of a length-prefixed frame from a stream, the header is read one byte at a time and
+     * the payload with a single bulk read, so no byte after the frame is consumed
+     *
+     * @param input: the stream from read the frame
+     * @return the payload read as array of byte, null if the end of the stream has been reached before the frame
+     * @throws IOException when the frame cannot be read or is not a valid frame
+     */
+    public static byte[] readFrame(InputStream input) throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            int current = input.read();
+            if (current == -1) {
+                if (shift == 0)
+                    return null;
+                throw new EOFException("The stream ended inside the header of a frame");
+            }
+            length |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0)
+                break;
+            if (shift == 28)
+                throw new StreamCorruptedException("Invalid header of a frame");
+        }
+        if (length < 0 || length > MAX_FRAME_SIZE)
+            throw new StreamCorruptedException("The frame exceeds the max size of a frame: " + length);
+        byte[] payload = input.readNBytes(length);
+        if (payload.length != length)
+            throw new EOFException("The stream ended inside the payload of a frame");
+        return payload;
+    }
+
+    /**
+     * Method to read a line received <br>
+     * No-any params required
+     *
+     * @return the line received as {@link String}, without the line terminator, null if the end of the stream has been
+     * reached
+     * @throws IOException when the line cannot be read
+     */
+    public String readLine() throws IOException {
+        SocketMetrics metrics = this.metrics;
+        long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+        try {
+            int length = 0;
+            int current;
+            while ((current = input.read()) != -1) {
+                if (current == '\n') {
+                    if (metrics != SocketMetrics.NOOP) {
+                        metrics.onBytesRead(metricsPort, length + 1);
+                        metrics.onFrameRead(metricsPort, System.nanoTime() - start);
+                    }
+                    if (length > 0 && line[length - 1] == '\r')
+                        length--;
+                    lastUse = System.currentTimeMillis();
+                    return new String(line, 0, length, UTF_8);
+                }
+                if (length == line.length)
+                    line = Arrays.copyOf(line, length * 2);
+                line[length++] = (byte) current;
+            }
+            broken = true;
+            if (length == 0)
+                return null;
+            if (metrics != SocketMetrics.NOOP) {
+                metrics.onBytesRead(metricsPort, length);
+                metrics.onFrameRead(metricsPort, System.nanoTime() - start);
+            }
+            return new String(line, 0, length, UTF_8);
+        } catch (IOException e) {
+            broken = true;
+            metrics.onError(metricsPort, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to check whether the connection can be used, without waiting for the peer <br>
+     * No-any params required
+     *
+     * @return whether the connection is open, the peer has not closed it and there are not unread bytes as boolean
+     * @apiNote the unread bytes are considered as an invalid state because they do not belong to the next content
+     * requested. The connections opened by this class are checked with a non-blocking read, the other ones wait for
+     * the peer at most one millisecond
+     */
+    public boolean isHealthy() {
+        if (broken || socket.isClosed() || socket.isInputShutdown() || socket.isOutputShutdown())
+            return false;
+        try {
+            if (input.available() > 0)
+                return false;
+            SocketChannel channel = socket.getChannel();
+            if (channel != null) {
+                channel.configureBlocking(false);
+                try {
+                    int read = channel.read(ByteBuffer.allocate(1));
+                    if (read == 0)
+                        return true;
+                    broken = true;
+                } finally {
+                    channel.configureBlocking(true);
+                }
+                return false;
+            }
+            int timeout = socket.getSoTimeout();
+            socket.setSoTimeout(1);
+            try {
+                input.mark(1);
+                if (input.read() == -1)
+                    broken = true;
+                else
+                    input.reset();
+            } catch (SocketTimeoutException e) {
+                return true;
+            } finally {
+                socket.setSoTimeout(timeout);
+            }
+        } catch (IOException e) {
+            broken = true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to get {@link #socket} instance <br>
+     * No-any params required
+     *
+     * @return {@link #socket} instance as {@link Socket}
+     */
+    public Socket getSocket() {
+        return socket;
+    }
+
+    /**
+     * Method to get {@link #host} instance <br>
+     * No-any params required
+     *
+     * @return {@link #host} instance as {@link String}
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Method to get {@link #port} instance <br>
+     * No-any params required
+     *
+     * @return {@link #port} instance as int
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Method to get {@link #lastUse} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lastUse} instance as long
+     */
+    public long getLastUse() {
+        return lastUse;
+    }
+
+    /**
+     * Method to get whether the connection cannot be used anymore <br>
+     * No-any params required
+     *
+     * @return whether the connection cannot be used anymore as boolean
+     */
+    public boolean isBroken() {
+        return broken || socket.isClosed();
+    }
+
+    /**
+     * Method to close the connection <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        broken = true;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+        if (closed.compareAndSet(false, true))
+            metrics.onConnectionClosed(metricsPort);
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("host", host)
+                .put("port", port)
+                .put("broken", isBroken())
+                .put("lastUse", lastUse)
+                .toString();
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code SocketConnectionPool} class is useful to reuse the connections to the same host and port for multiple
+ * exchanges, so each exchange does not pay the opening of a new connection
+ *
+ * <pre>
+ *     {@code
+ *
+ *         SocketManager client = new SocketManager("localhost", 1000);
+ *         client.setConnectionPool(new SocketConnectionPool());
+ *
+ *         // the connection is opened only by the first exchange and then reused
+ *         client.writeContent("makeSomething");
+ *         client.readContent(); // --> the connection is released to the pool, not closed
+ *         client.writeContent("makeSomethingElse");
+ *         client.readContent();
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the connections are kept alive with the {@code "SO_KEEPALIVE"} option, the idle connections unused for
+ * more than the idle timeout are closed in background and each idle connection is checked before being reused, so a
+ * connection closed by the server is discarded instead of being returned
+ * @see SocketConnection
+ * @since 2.2.5
+ */
+public class SocketConnectionPool implements Closeable {
+
+    /**
+     * {@code DEFAULT_MAX_IDLE_CONNECTIONS} is constant that contains the default max number of the idle connections
+     * kept for each host and port
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 8;
+
+    /**
+     * {@code DEFAULT_IDLE_TIMEOUT} is constant that contains the default time, in milliseconds, after that an idle
+     * connection is closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+    /**
+     * {@code DEFAULT_CONNECT_TIMEOUT} is constant that contains the default max time, in milliseconds, to wait for a
+     * new connection
+     */
+    public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+
+    /**
+     * {@code idleConnections} the idle connections for each host and port, the most recently used first
+     */
+    private final ConcurrentHashMap<String, ConcurrentLinkedDeque<SocketConnection>> idleConnections;
+
+    /**
+     * {@code maxIdleConnections} the max number of the idle connections kept for each host and port
+     */
+    private final int maxIdleConnections;
+
+    /**
+     * {@code idleTimeout} the time, in milliseconds, after that an idle connection is closed
+     */
+    private final long idleTimeout;
+
+    /**
+     * {@code connectTimeout} the max time, in milliseconds, to wait for a new connection
+     */
+    private final int connectTimeout;
+
+    /**
+     * {@code scheduler} used to close the idle connections expired
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * {@code closed} whether the pool has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init {@link SocketConnectionPool} <br>
+     * No-any params required
+     *
+     * @apiNote the pool will use {@link #DEFAULT_MAX_IDLE_CONNECTIONS}, {@link #DEFAULT_IDLE_TIMEOUT} and
+     * {@link #DEFAULT_CONNECT_TIMEOUT}
+     */
+    public SocketConnectionPool() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructor to init {@link SocketConnectionPool}
+     *
+     * @param maxIdleConnections: the max number of the idle connections kept for each host and port
+     * @param idleTimeout:        the time, in milliseconds, after that an idle connection is closed
+     * @apiNote the pool will use {@link #DEFAULT_CONNECT_TIMEOUT}
+     */
+    public SocketConnectionPool(int maxIdleConnections, long idleTimeout) {
+        this(maxIdleConnections, idleTimeout, DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Constructor to init {@link SocketConnectionPool}
+     *
+     * @param maxIdleConnections: the max number of the idle connections kept for each host and port
+     * @param idleTimeout:        the time, in milliseconds, after that an idle connection is closed
+     * @param connectTimeout:     the max time, in milliseconds, to wait for a new connection
+     */
+    public SocketConnectionPool(int maxIdleConnections, long idleTimeout, int connectTimeout) {
+        if (maxIdleConnections < 0 || idleTimeout <= 0 || connectTimeout < 0)
+            throw new IllegalArgumentException("The limits of the pool must be positive values");
+        this.maxIdleConnections = maxIdleConnections;
+        this.idleTimeout = idleTimeout;
+        this.connectTimeout = connectTimeout;
+        idleConnections = new ConcurrentHashMap<>();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SocketConnectionPool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionInterval = Math.max(idleTimeout / 2, 1);
+        scheduler.scheduleWithFixedDelay(this::evictIdleConnections, evictionInterval, evictionInterval, MILLISECONDS);
+    }
+
+    /**
+     * Method to acquire a connection to a host and port, reusing an idle connection if available
+     *
+     * @param host: host to connect
+     * @param port: port to connect
+     * @return the connection acquired as {@link SocketConnection}
+     * @throws IOException when a new connection cannot be established
+     * @apiNote the connection acquired must be returned with {@link #release(SocketConnection)} when the exchange is
+     * completed
+     */
+    public SocketConnection acquire(String host, int port) throws IOException {
+        if (closed)
+            throw new IllegalStateException("The pool has been closed");
+        ConcurrentLinkedDeque<SocketConnection> connections = idleConnections.get(routeOf(host, port));
+        if (connections != null) {
+            SocketConnection connection;
+            while ((connection = connections.pollFirst()) != null) {
+                if (System.currentTimeMillis() - connection.getLastUse() < idleTimeout && connection.isHealthy())
+                    return connection;
+                connection.close();
+            }
+        }
+        return new SocketConnection(host, port, connectTimeout);
+    }
+
+    /**
+     * Method to return a connection to the pool, so it can be reused by the next exchanges with the same host and port
+     *
+     * @param connection: the connection to return
+     * @apiNote the connection is closed if it is broken, if the pool has been closed or if the pool already keeps
+     * the max number of the idle connections for its host and port
+     */
+    public void release(SocketConnection connection) {
+        if (closed || connection.isBroken()) {
+            connection.close();
+            return;
+        }
+        ConcurrentLinkedDeque<SocketConnection> connections = idleConnections.computeIfAbsent(
+                routeOf(connection.getHost(), connection.getPort()), route -> new ConcurrentLinkedDeque<>());
+        if (connections.size() >= maxIdleConnections) {
+            connection.close();
+            return;
+        }
+        connections.offerFirst(connection);
+        if (closed && connections.remove(connection))
+            connection.close();
+    }
+
+    /**
+     * Method to close the idle connections unused for more than the idle timeout <br>
+     * No-any params required
+     */
+    public void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (ConcurrentLinkedDeque<SocketConnection> connections : idleConnections.values()) {
+            Iterator<SocketConnection> iterator = connections.descendingIterator();
+            while (iterator.hasNext()) {
+                SocketConnection connection = iterator.next();
+                if ((connection.isBroken() || now - connection.getLastUse() >= idleTimeout)
+                        && connections.remove(connection)) {
+                    connection.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to get the number of the idle connections kept by the pool <br>
+     * No-any params required
+     *
+     * @return the number of the idle connections as int
+     */
+    public int getIdleConnections() {
+        int count = 0;
+        for (ConcurrentLinkedDeque<SocketConnection> connections : idleConnections.values())
+            count += connections.size();
+        return count;
+    }
+
+    /**
+     * Method to get the number of the idle connections kept by the pool for a host and port
+     *
+     * @param host: host of the connections
+     * @param port: port of the connections
+     * @return the number of the idle connections as int
+     */
+    public int getIdleConnections(String host, int port) {
+        ConcurrentLinkedDeque<SocketConnection> connections = idleConnections.get(routeOf(host, port));
+        return connections == null ? 0 : connections.size();
+    }
+
+    /**
+     * Method to get {@link #maxIdleConnections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxIdleConnections} instance as int
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Method to get {@link #idleTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #idleTimeout} instance as long
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Method to get {@link #connectTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connectTimeout} instance as int
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Method to close the pool and all its idle connections, the connections acquired will be closed when released
+     * <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        for (ConcurrentLinkedDeque<SocketConnection> connections : idleConnections.values()) {
+            SocketConnection connection;
+            while ((connection = connections.pollFirst()) != null)
+                connection.close();
+        }
+    }
+
+    /**
+     * Method to get the key of the connections to a host and port
+     *
+     * @param host: host of the connections
+     * @param port: port of the connections
+     * @return the key of the connections as {@link String}
+     */
+    private static String routeOf(String host, int port) {
+        return host + ":" + port;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("idleConnections", getIdleConnections())
+                .put("maxIdleConnections", maxIdleConnections)
+                .put("idleTimeout", idleTimeout)
+                .put("connectTimeout", connectTimeout)
+                .toString();
+    }
+
+}
@@ -0,0 +1,1765 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.apimanager.exceptions.SocketOverflowException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StreamCorruptedException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.channels.SelectionKey.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code SocketEngine} class is useful to serve many concurrent clients on a single port with non-blocking sockets,
+ * each accepted connection is managed as an independent {@link SocketSession} with its own state
+ *
+ * <pre>
+ *     {@code
+ *
+ *         SocketManager server = new SocketManager(true);
+ *
+ *         // callbacks mode: the contents are dispatched to the handler by the I/O threads
+ *         server.startEngine(1000, new SocketEngine.SessionHandler() {
+ *             @Override
+ *             public void onContent(SocketEngine.SocketSession session, String content) throws Exception {
+ *                 session.writeContent("executed");
+ *             }
+ *         });
+ *
+ *         // pull mode: the sessions and their contents are pulled by your threads
+ *         SocketEngine engine = server.startEngine(1001, null);
+ *         SocketEngine.SocketSession session = engine.acceptSession();
+ *         String request = session.readContent();
+ *         session.writeContent("executed");
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the contents are exchanged with the same format used by the {@link SocketManager} that started the engine,
+ * so one content for each line, or for each frame with the {@link SocketManager.Framing#LENGTH_PREFIXED} framing,
+ * encrypted when the manager is an encrypted one, then the clients of the {@link SocketManager} can communicate with
+ * the engine without changes
+ * @implNote the connections are accepted and served by a small pool of I/O threads, each one with its own
+ * {@link Selector}, so the number of threads does not depend on the number of the connections. The callbacks of the
+ * {@link SessionHandler} are executed by the I/O threads, so they must not block: the long operations have to be
+ * executed on another executor. The contents written are queued for each session and the contents queued are written
+ * together with a single gathering write, the max number of the contents queued for each session can be limited with
+ * {@link #setOutboundLimit(int, OverflowPolicy)}
+ * @see SocketManager
+ * @since 2.2.5
+ */
+public class SocketEngine implements Closeable {
+
+    /**
+     * {@code DEFAULT_IO_THREADS} is constant that contains the default number of the I/O threads of an engine
+     */
+    public static final int DEFAULT_IO_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * {@code READ_BUFFER_SIZE} is constant that contains the size of the buffer used by each I/O thread to read from
+     * the connections
+     */
+    private static final int READ_BUFFER_SIZE = 16384;
+
+    /**
+     * {@code MAX_GATHERED_BUFFERS} is constant that contains the max number of the pending contents written with a
+     * single write operation
+     */
+    private static final int MAX_GATHERED_BUFFERS = 64;
+
+    /**
+     * {@code END_OF_CONTENTS} is constant that marks the end of the contents of a session in pull mode
+     */
+    private static final String END_OF_CONTENTS = new String("END_OF_CONTENTS");
+
+    /**
+     * {@code DRAIN_CHECK_INTERVAL} is constant that contains the interval, in milliseconds, between two checks of the
+     * sessions which are being drained
+     */
+    private static final long DRAIN_CHECK_INTERVAL = 10;
+
+    /**
+     * {@code ACCEPT_BACKOFF} is constant that contains the time, in milliseconds, while the connections are not
+     * accepted after a failure of the server channel, as when the process has no more file descriptors
+     */
+    private static final long ACCEPT_BACKOFF = 100;
+
+    /**
+     * {@code IO_THREAD} marks the I/O threads of all the engines, so a writer running on any of them never waits for the
+     * room of an outbound queue
+     */
+    private static final ThreadLocal<Boolean> IO_THREAD = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * {@code DISPATCHING} the session whose event is being handled by the current I/O thread, its reading is paused
+     * when the handler writes to a full outbound queue
+     */
+    private static final ThreadLocal<SocketSession> DISPATCHING = new ThreadLocal<>();
+
+    /**
+     * {@code manager} the manager which started the engine and formats the contents
+     */
+    private final SocketManager manager;
+
+    /**
+     * {@code port} the port where the engine accepts the connections
+     */
+    private final int port;
+
+    /**
+     * {@code lengthPrefixed} whether the contents are exchanged as length-prefixed frames instead of lines
+     */
+    private final boolean lengthPrefixed;
+
+    /**
+     * {@code handler} the handler of the sessions, null if the engine works in pull mode
+     */
+    private final SessionHandler handler;
+
+    /**
+     * {@code serverChannel} the channel which accepts the connections
+     */
+    private final ServerSocketChannel serverChannel;
+
+    /**
+     * {@code reactors} the I/O threads of the engine
+     */
+    private final Reactor[] reactors;
+
+    /**
+     * {@code sessions} the sessions currently open
+     */
+    private final Collection<SocketSession> sessions;
+
+    /**
+     * {@code acceptedSessions} the sessions accepted and not pulled yet when the engine works in pull mode
+     */
+    private final LinkedBlockingQueue<SocketSession> acceptedSessions;
+
+    /**
+     * {@code nextReactor} the counter used to assign the accepted connections to the I/O threads
+     */
+    private final AtomicInteger nextReactor;
+
+    /**
+     * {@code sessionIds} the counter used to assign the identifiers to the sessions
+     */
+    private final AtomicLong sessionIds;
+
+    /**
+     * {@code topics} the sessions subscribed to each topic
+     */
+    private final ConcurrentHashMap<String, Set<SocketSession>> topics;
+
+    /**
+     * {@code maxQueuedContents} the max number of the contents queued for each session
+     */
+    private volatile int maxQueuedContents = Integer.MAX_VALUE;
+
+    /**
+     * {@code overflowPolicy} the policy to apply when the outbound queue of a session is full
+     */
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * {@code failedSessions} the number of the sessions closed because of an error
+     */
+    private final AtomicLong failedSessions;
+
+    /**
+     * {@code failedAccepts} the number of the connections which cannot be accepted because of an error
+     */
+    private final AtomicLong failedAccepts;
+
+    /**
+     * {@code running} whether the engine is running
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructor to init {@link SocketEngine}
+     *
+     * @param manager:   the manager which starts the engine and formats the contents
+     * @param port:      the port where accept the connections
+     * @param ioThreads: the number of the I/O threads
+     * @param handler:   the handler of the sessions, null to pull the sessions and their contents with
+     *                   {@link #acceptSession()} and {@link SocketSession#readContent()}
+     * @throws IOException when the port cannot be bound
+     */
+    SocketEngine(SocketManager manager, int port, int ioThreads, SessionHandler handler) throws IOException {
+        if (ioThreads < 1)
+            throw new IllegalArgumentException("The engine needs at least one I/O thread");
+        this.manager = manager;
+        this.port = port;
+        this.handler = handler;
+        lengthPrefixed = manager.getFraming() == SocketManager.Framing.LENGTH_PREFIXED;
+        sessions = ConcurrentHashMap.newKeySet();
+        topics = new ConcurrentHashMap<>();
+        acceptedSessions = handler == null ? new LinkedBlockingQueue<>() : null;
+        nextReactor = new AtomicInteger();
+        sessionIds = new AtomicLong();
+        failedSessions = new AtomicLong();
+        failedAccepts = new AtomicLong();
+        serverChannel = ServerSocketChannel.open();
+        reactors = new Reactor[ioThreads];
+        try {
+            serverChannel.configureBlocking(false);
+            serverChannel.bind(new InetSocketAddress(port));
+            for (int j = 0; j < ioThreads; j++)
+                reactors[j] = new Reactor(j);
+        } catch (IOException e) {
+            for (Reactor reactor : reactors)
+                if (reactor != null)
+                    reactor.selector.close();
+            serverChannel.close();
+            throw e;
+        }
+        running = true;
+        reactors[0].execute(() -> reactors[0].register(serverChannel, OP_ACCEPT, null));
+        for (Reactor reactor : reactors)
+            reactor.thread.start();
+    }
+
+    /**
+     * Method to accept a new session, waiting until a connection is accepted <br>
+     * No-any params required
+     *
+     * @return the session accepted as {@link SocketSession}, null if the engine has been closed
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     * @apiNote this method can be used only when the engine works in pull mode, so without a {@link SessionHandler}
+     */
+    @Wrapper
+    public SocketSession acceptSession() throws InterruptedException {
+        return acceptSession(Long.MAX_VALUE);
+    }
+
+    /**
+     * Method to accept a new session, waiting until a connection is accepted or the timeout expires
+     *
+     * @param timeout: the max time, in milliseconds, to wait
+     * @return the session accepted as {@link SocketSession}, null if the timeout expired or the engine has been closed
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     * @apiNote this method can be used only when the engine works in pull mode, so without a {@link SessionHandler}
+     */
+    public SocketSession acceptSession(long timeout) throws InterruptedException {
+        if (acceptedSessions == null)
+            throw new IllegalStateException("The sessions are dispatched to the handler of the engine");
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(timeout, Long.MAX_VALUE / 2));
+        while (running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return null;
+            SocketSession session = acceptedSessions.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(100)),
+                    TimeUnit.NANOSECONDS);
+            if (session != null)
+                return session;
+        }
+        return null;
+    }
+
+    /**
+     * Method to stop the engine gracefully: the new connections are refused, the sessions are closed as soon as they
+     * are drained and, when the timeout elapses, the sessions not drained yet are closed discarding their contents
+     *
+     * @param timeout: the max time, in milliseconds, to wait for the sessions to be drained
+     * @return the report of the shutdown as {@link SocketManager.ShutdownReport}
+     * @apiNote a session is drained when all its queued contents have been written, all the contents received in pull
+     * mode have been read and all the requests of the {@link SocketMultiplexer}s have been replied, meanwhile the
+     * sessions continue to be served as usual
+     */
+    public SocketManager.ShutdownReport shutdown(long timeout) {
+        long start = System.nanoTime();
+        stopAccepting();
+        SocketManager.ShutdownReport report = drain(start + TimeUnit.MILLISECONDS.toNanos(Math.max(timeout, 0)));
+        return new SocketManager.ShutdownReport(report.getDrainedSessions(), report.getAbortedSessions(),
+                report.getDroppedContents(), 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Method to stop accepting the new connections, the sessions already open continue to be served <br>
+     * No-any params required
+     */
+    void stopAccepting() {
+        if (running) {
+            reactors[0].execute(() -> {
+                try {
+                    serverChannel.close();
+                } catch (IOException ignored) {
+                }
+            });
+        }
+    }
+
+    /**
+     * Method to drain the sessions and then to stop the engine
+     *
+     * @param deadline: the time, as {@link System#nanoTime()} value, when the sessions not drained yet are closed
+     * @return the report of the sessions closed as {@link SocketManager.ShutdownReport}
+     */
+    SocketManager.ShutdownReport drain(long deadline) {
+        AtomicInteger drainedSessions = new AtomicInteger();
+        AtomicInteger abortedSessions = new AtomicInteger();
+        AtomicLong droppedContents = new AtomicLong();
+        try {
+            while (running && !sessions.isEmpty()) {
+                for (Reactor reactor : reactors) {
+                    reactor.execute(() -> {
+                        for (SelectionKey registered : reactor.selector.keys())
+                            if (registered.attachment() instanceof SocketSession session && session.closeIfDrained())
+                                drainedSessions.incrementAndGet();
+                    });
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    break;
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(DRAIN_CHECK_INTERVAL)));
+            }
+            if (running && !sessions.isEmpty()) {
+                CountDownLatch aborted = new CountDownLatch(reactors.length);
+                for (Reactor reactor : reactors) {
+                    reactor.execute(() -> {
+                        for (SelectionKey registered : reactor.selector.keys()) {
+                            if (registered.attachment() instanceof SocketSession session
+                                    && session.closed.compareAndSet(false, true)) {
+                                abortedSessions.incrementAndGet();
+                                droppedContents.addAndGet(session.getUndeliveredContents());
+                                session.release();
+                            }
+                        }
+                        aborted.countDown();
+                    });
+                }
+                aborted.await(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        close();
+        return new SocketManager.ShutdownReport(drainedSessions.get(), abortedSessions.get(), droppedContents.get(),
+                0, 0);
+    }
+
+    /**
+     * Method to stop the engine, closing all its sessions <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        if (!running)
+            return;
+        running = false;
+        for (Reactor reactor : reactors)
+            reactor.selector.wakeup();
+        for (Reactor reactor : reactors) {
+            if (reactor.thread != Thread.currentThread()) {
+                try {
+                    reactor.thread.join(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        for (SocketSession session : sessions) {
+            session.closed.set(true);
+            session.release();
+        }
+    }
+
+    /**
+     * Method to send a content message to all the open sessions, the content is formatted once and the same bytes are
+     * queued for all the sessions
+     *
+     * @param content: content message to send
+     * @return the number of the sessions where the content has been queued as int
+     * @throws Exception when the content cannot be formatted
+     * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent. The
+     * broadcast never waits for a session: when the outbound queue of a session is full the content is dropped for
+     * that session, unless the {@link OverflowPolicy#DROP_OLDEST} policy is set
+     */
+    public <T> int broadcast(T content) throws Exception {
+        return fanOut(sessions, content);
+    }
+
+    /**
+     * Method to send a content message to all the sessions subscribed to a topic, the content is formatted once and
+     * the same bytes are queued for all the sessions
+     *
+     * @param topic:   the topic of the content
+     * @param content: content message to send
+     * @return the number of the sessions where the content has been queued as int
+     * @throws Exception when the content cannot be formatted
+     * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent, the
+     * content is sent as it is, so it has to contain the topic if the clients need it. The publish never waits for a
+     * session as the {@link #broadcast(Object)} does
+     * @see SocketSession#subscribe(String)
+     */
+    public <T> int publish(String topic, T content) throws Exception {
+        Set<SocketSession> subscribers = topics.get(topic);
+        if (subscribers == null)
+            return 0;
+        return fanOut(subscribers, content);
+    }
+
+    /**
+     * Method to queue a content message for a group of sessions, formatting it once
+     *
+     * @param targets: the sessions where queue the content
+     * @param content: content message to send
+     * @return the number of the sessions where the content has been queued as int
+     * @throws Exception when the content cannot be formatted
+     */
+    private <T> int fanOut(Collection<SocketSession> targets, T content) throws Exception {
+        if (targets.isEmpty())
+            return 0;
+        ByteBuffer frame = frameOf(manager.encodeContent(content.toString()));
+        int delivered = 0;
+        for (SocketSession session : targets) {
+            try {
+                if (session.offer(frame.duplicate(), false))
+                    delivered++;
+            } catch (IOException ignored) {
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Method to get the topics with at least one session subscribed <br>
+     * No-any params required
+     *
+     * @return the topics as {@link Set} of {@link String}
+     */
+    public Set<String> getTopics() {
+        return Collections.unmodifiableSet(topics.keySet());
+    }
+
+    /**
+     * Method to get the number of the sessions subscribed to a topic
+     *
+     * @param topic: the topic of the sessions
+     * @return the number of the sessions subscribed as int
+     */
+    public int getSubscribers(String topic) {
+        Set<SocketSession> subscribers = topics.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    /**
+     * Method to limit the number of the contents queued for each session
+     *
+     * @param maxQueuedContents: the max number of the contents queued for each session
+     * @param overflowPolicy:    the policy to apply when the outbound queue of a session is full
+     * @throws IllegalArgumentException when {@code "maxQueuedContents"} is not a positive value
+     * @apiNote the limit is applied to the contents written after this method, by default the queues are not limited
+     */
+    public void setOutboundLimit(int maxQueuedContents, OverflowPolicy overflowPolicy) {
+        if (maxQueuedContents < 1)
+            throw new IllegalArgumentException("The max number of the contents queued must be a positive value");
+        this.overflowPolicy = overflowPolicy;
+        this.maxQueuedContents = maxQueuedContents;
+    }
+
+    /**
+     * Method to get {@link #maxQueuedContents} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxQueuedContents} instance as int
+     */
+    public int getMaxQueuedContents() {
+        return maxQueuedContents;
+    }
+
+    /**
+     * Method to get {@link #overflowPolicy} instance <br>
+     * No-any params required
+     *
+     * @return {@link #overflowPolicy} instance as {@link OverflowPolicy}
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Method to create the frame of a content message
+     *
+     * @param content: the content message already formatted
+     * @return the frame as {@link ByteBuffer}
+     */
+    private ByteBuffer frameOf(String content) {
+        byte[] message = content.getBytes(UTF_8);
+        if (lengthPrefixed)
+            return ByteBuffer.wrap(SocketConnection.frameOf(ByteBuffer.wrap(message)));
+        byte[] frame = Arrays.copyOf(message, message.length + 1);
+        frame[message.length] = '\n';
+        return ByteBuffer.wrap(frame);
+    }
+
+    /**
+     * Method to get {@link #port} instance <br>
+     * No-any params required
+     *
+     * @return {@link #port} instance as int
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Method to get the sessions currently open <br>
+     * No-any params required
+     *
+     * @return the sessions currently open as {@link Collection} of {@link SocketSession}
+     */
+    public Collection<SocketSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions);
+    }
+
+    /**
+     * Method to get the number of the sessions currently open <br>
+     * No-any params required
+     *
+     * @return the number of the sessions currently open as int
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Method to get the number of the contents queued and not yet written by all the sessions <br>
+     * No-any params required
+     *
+     * @return the number of the contents queued as long
+     */
+    public long getQueuedContents() {
+        long queuedContents = 0;
+        for (SocketSession session : sessions)
+            queuedContents += session.getQueuedContents();
+        return queuedContents;
+    }
+
+    /**
+     * Method to get the number of the I/O threads <br>
+     * No-any params required
+     *
+     * @return the number of the I/O threads as int
+     */
+    public int getIoThreads() {
+        return reactors.length;
+    }
+
+    /**
+     * Method to get the number of the sessions closed because of an error, as a content which cannot be formatted or
+     * a handler which fails, the other sessions are not affected by these errors <br>
+     * No-any params required
+     *
+     * @return the number of the sessions closed because of an error as long
+     */
+    public long getFailedSessions() {
+        return failedSessions.get();
+    }
+
+    /**
+     * Method to get the number of the connections which cannot be accepted because of an error, each error is also
+     * reported to the {@link SocketMetrics} of the manager <br>
+     * No-any params required
+     *
+     * @return the number of the connections which cannot be accepted because of an error as long
+     */
+    public long getFailedAccepts() {
+        return failedAccepts.get();
+    }
+
+    /**
+     * Method to get {@link #running} instance <br>
+     * No-any params required
+     *
+     * @return {@link #running} instance as boolean
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("port", port)
+                .put("ioThreads", reactors.length)
+                .put("activeSessions", sessions.size())
+                .put("failedSessions", failedSessions.get())
+                .put("failedAccepts", failedAccepts.get())
+                .put("queuedContents", getQueuedContents())
+                .put("topics", topics.keySet())
+                .put("maxQueuedContents", maxQueuedContents)
+                .put("overflowPolicy", overflowPolicy)
+                .put("running", running)
+                .toString();
+    }
+
+    /**
+     * {@code OverflowPolicy} list of available policies to apply when the outbound queue of a session is full
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * {@code BLOCK} the writer waits until the queue has room, only the threads which are not I/O threads wait: when
+         * the writer is a {@link SessionHandler} callback, running on an I/O thread of any engine, the content is queued
+         * and the reading of the session handled is paused until the queue has room, the other writes made by the I/O
+         * threads are rejected with a {@link SocketOverflowException}
+         */
+        BLOCK,
+
+        /**
+         * {@code DROP_OLDEST} the oldest contents not yet written are dropped to make room
+         */
+        DROP_OLDEST,
+
+        /**
+         * {@code FAIL_FAST} the content is rejected with a {@link SocketOverflowException}
+         */
+        FAIL_FAST
+
+    }
+
+    /**
+     * The {@code SessionHandler} interface is useful to handle the events of the sessions of a {@link SocketEngine}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @apiNote the methods are invoked by the I/O thread of the session, so the events of a session are handled in
+     * order, one at a time
+     * @since 2.2.5
+     */
+    public interface SessionHandler {
+
+        /**
+         * Method invoked when a session has been opened
+         *
+         * @param session: the session opened
+         * @throws Exception when an error occurred, the session will be closed
+         */
+        default void onOpen(SocketSession session) throws Exception {
+        }
+
+        /**
+         * Method invoked when a content has been received by a session
+         *
+         * @param session: the session which received the content
+         * @param content: the content received
+         * @throws Exception when an error occurred, the session will be closed
+         */
+        void onContent(SocketSession session, String content) throws Exception;
+
+        /**
+         * Method invoked when an error occurred in a session, the session will be closed after this method
+         *
+         * @param session: the session where the error occurred
+         * @param error:   the error occurred
+         */
+        default void onError(SocketSession session, Exception error) {
+        }
+
+        /**
+         * Method invoked when a session has been closed
+         *
+         * @param session: the session closed
+         */
+        default void onClose(SocketSession session) {
+        }
+
+    }
+
+    /**
+     * The {@code SocketSession} class is useful to manage a single connection accepted by a {@link SocketEngine},
+     * writing and reading its contents
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public final class SocketSession implements Closeable {
+
+        /**
+         * {@code id} the identifier of the session
+         */
+        private final long id;
+
+        /**
+         * {@code channel} the channel of the connection
+         */
+        private final SocketChannel channel;
+
+        /**
+         * {@code reactor} the I/O thread which serves the session
+         */
+        private final Reactor reactor;
+
+        /**
+         * {@code remoteAddress} the address of the client
+         */
+        private final SocketAddress remoteAddress;
+
+        /**
+         * {@code attributes} the custom state attached to the session
+         */
+        private final ConcurrentHashMap<String, Object> attributes;
+
+        /**
+         * {@code outbound} the contents to write not written yet, guarded by itself
+         */
+        private final ArrayDeque<ByteBuffer> outbound;
+
+        /**
+         * {@code subscriptions} the topics the session is subscribed to
+         */
+        private final Set<String> subscriptions;
+
+        /**
+         * {@code droppedContents} the number of the contents dropped because the {@link #outbound} queue was full
+         */
+        private long droppedContents;
+
+        /**
+         * {@code flushScheduled} whether a flush of the {@link #outbound} contents has been already scheduled
+         */
+        private final AtomicBoolean flushScheduled;
+
+        /**
+         * {@code pausedWriters} the sessions whose reading is paused until the {@link #outbound} queue has room, guarded
+         * by the lock of the queue
+         */
+        private final Set<SocketSession> pausedWriters;
+
+        /**
+         * {@code pauses} the number of the full queues which paused the reading of the session, used only by its I/O
+         * thread
+         */
+        private int pauses;
+
+        /**
+         * {@code pendingInput} the bytes read and not decoded yet because the reading has been paused, null if there
+         * are no pending bytes
+         */
+        private byte[] pendingInput;
+
+        /**
+         * {@code inbound} the contents received not read yet when the engine works in pull mode
+         */
+        private final LinkedBlockingQueue<String> inbound;
+
+        /**
+         * {@code key} the key of the channel registered in the selector of the {@link #reactor}
+         */
+        private SelectionKey key;
+
+        /**
+         * {@code line} the bytes of the line, or of the payload of the frame, which is being received
+         */
+        private byte[] line;
+
+        /**
+         * {@code lineLength} the number of the bytes of the {@link #line}
+         */
+        private int lineLength;
+
+        /**
+         * {@code frameLength} the length of the payload of the frame which is being received, -1 if its header is
+         * being received
+         */
+        private int frameLength = -1;
+
+        /**
+         * {@code headerShift} the bits of the header of the frame already received
+         */
+        private int headerShift;
+
+        /**
+         * {@code lastContentRed} the last content received by the session
+         */
+        private volatile String lastContentRed;
+
+        /**
+         * {@code opened} whether the session has been opened and counted by the {@link SocketMetrics}
+         */
+        private volatile boolean opened;
+
+        /**
+         * {@code pendingReplies} the number of the requests received and not replied yet
+         */
+        private final AtomicInteger pendingReplies;
+
+        /**
+         * {@code closed} whether the session has been closed
+         */
+        private final AtomicBoolean closed;
+
+        /**
+         * Constructor to init {@link SocketSession}
+         *
+         * @param channel: the channel of the connection
+         * @param reactor: the I/O thread which serves the session
+         * @throws IOException when the address of the client cannot be fetched
+         */
+        private SocketSession(SocketChannel channel, Reactor reactor) throws IOException {
+            id = sessionIds.incrementAndGet();
+            this.channel = channel;
+            this.reactor = reactor;
+            remoteAddress = channel.getRemoteAddress();
+            attributes = new ConcurrentHashMap<>();
+            outbound = new ArrayDeque<>();
+            subscriptions = ConcurrentHashMap.newKeySet();
+            flushScheduled = new AtomicBoolean();
+            pausedWriters = new HashSet<>();
+            inbound = handler == null ? new LinkedBlockingQueue<>() : null;
+            line = new byte[256];
+            pendingReplies = new AtomicInteger();
+            closed = new AtomicBoolean();
+        }
+
+        /**
+         * Method to write a content message to the client
+         *
+         * @param content: content message to send
+         * @throws Exception when the content cannot be formatted, for example when it contains the reserved
+         *                   {@code "@-/-/-@"} sequence
+         * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent, the
+         * content is formatted by the {@link SocketManager} of the engine, so it is encrypted if the manager is an
+         * encrypted one
+         */
+        public <T> void writeContent(T content) throws Exception {
+            writePlainContent(manager.encodeContent(content.toString()));
+        }
+
+        /**
+         * Method to write a plain content message to the client, it is not formatted by the {@link SocketManager}
+         *
+         * @param content: content message to send
+         * @throws IOException when the session has been closed or when the content is rejected by the
+         *                     {@link OverflowPolicy} of the engine
+         * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
+         */
+        public <T> void writePlainContent(T content) throws IOException {
+            offer(frameOf(content.toString()), true);
+        }
+
+        /**
+         * Method to read a content message received from the client, waiting until it is received
+         * <br>
+         * No-any params required
+         *
+         * @return content message received as {@link String}, null if the session has been closed
+         * @throws InterruptedException when the current thread is interrupted while waiting
+         * @apiNote this method can be used only when the engine works in pull mode, so without a {@link SessionHandler}
+         */
+        public String readContent() throws InterruptedException {
+            if (inbound == null)
+                throw new IllegalStateException("The contents are dispatched to the handler of the engine");
+            if (closed.get() && inbound.isEmpty())
+                return null;
+            String content = inbound.take();
+            if (content == END_OF_CONTENTS) {
+                inbound.offer(END_OF_CONTENTS);
+                return null;
+            }
+            return content;
+        }
+
+        /**
+         * Method to read the last content message received from the client <br>
+         * No-any params required
+         *
+         * @return last content message received as {@link String}
+         */
+        public String readLastContent() {
+            return lastContentRed;
+        }
+
+        /**
+         * Method to queue a frame to write, applying the {@link OverflowPolicy} of the engine when the queue is full
+         *
+         * @param frame: the frame to write
+         * @param wait:  whether the writer can wait for the room with the {@link OverflowPolicy#BLOCK} policy, if
+         *               not the frame is dropped as with the {@link OverflowPolicy#FAIL_FAST} policy, but without
+         *               exception
+         * @return whether the frame has been queued as boolean
+         * @throws IOException when the session has been closed or when the frame is rejected
+         */
+        private boolean offer(ByteBuffer frame, boolean wait) throws IOException {
+            synchronized (outbound) {
+                if (closed.get())
+                    throw new ClosedChannelException();
+                int limit = maxQueuedContents;
+                if (outbound.size() >= limit) {
+                    switch (overflowPolicy) {
+                        case DROP_OLDEST -> dropOldest(outbound.size() - limit + 1);
+                        case FAIL_FAST -> {
+                            droppedContents++;
+                            if (!wait)
+                                return false;
+                            throw new SocketOverflowException(outbound.size());
+                        }
+                        case BLOCK -> {
+                            if (!wait) {
+                                droppedContents++;
+                                return false;
+                            }
+                            if (!IO_THREAD.get())
+                                awaitRoom(limit);
+                            else {
+                                SocketSession writer = DISPATCHING.get();
+                                if (writer == null) {
+                                    droppedContents++;
+                                    throw new SocketOverflowException(outbound.size());
+                                }
+                                if (pausedWriters.add(writer))
+                                    writer.pauseReading();
+                            }
+                        }
+                    }
+                }
+                outbound.add(frame);
+            }
+            if (flushScheduled.compareAndSet(false, true))
+                reactor.execute(this::flush);
+            return true;
+        }
+
+        /**
+         * Method to drop the oldest frames not yet written, invoked holding the lock of the {@link #outbound} queue
+         *
+         * @param count: the number of the frames to drop
+         */
+        private void dropOldest(int count) {
+            Iterator<ByteBuffer> frames = outbound.iterator();
+            boolean head = true;
+            while (count > 0 && frames.hasNext()) {
+                ByteBuffer frame = frames.next();
+                if (head && frame.position() > 0) {
+                    head = false;
+                    continue;
+                }
+                head = false;
+                frames.remove();
+                droppedContents++;
+                count--;
+            }
+        }
+
+        /**
+         * Method to wait until the {@link #outbound} queue has room, invoked holding its lock
+         *
+         * @param limit: the max number of the frames queued
+         * @throws IOException when the session has been closed or the current thread is interrupted while waiting
+         */
+        private void awaitRoom(int limit) throws IOException {
+            while (outbound.size() >= limit) {
+                if (closed.get())
+                    throw new ClosedChannelException();
+                try {
+                    outbound.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the outbound queue");
+                }
+            }
+            if (closed.get())
+                throw new ClosedChannelException();
+        }
+
+        /**
+         * Method to write the pending frames, invoked by the I/O thread <br>
+         * No-any params required
+         */
+        private void flush() {
+            flushScheduled.set(false);
+            if (closed.get())
+                return;
+            ByteBuffer[] buffers = reactor.gatheredBuffers;
+            SocketMetrics metrics = manager.metrics;
+            try {
+                synchronized (outbound) {
+                    boolean written = false;
+                    while (true) {
+                        int count = 0;
+                        for (ByteBuffer buffer : outbound) {
+                            buffers[count++] = buffer;
+                            if (count == MAX_GATHERED_BUFFERS)
+                                break;
+                        }
+                        if (count == 0)
+                            break;
+                        long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+                        long bytes = channel.write(buffers, 0, count);
+                        long latency = metrics != SocketMetrics.NOOP ? System.nanoTime() - start : 0;
+                        metrics.onBytesWritten(port, bytes);
+                        int completed = 0;
+                        while (completed < count && !buffers[completed].hasRemaining()) {
+                            outbound.poll();
+                            metrics.onFrameWritten(port, latency);
+                            completed++;
+                        }
+                        written |= completed > 0;
+                        if (completed < count)
+                            break;
+                    }
+                    if (written) {
+                        outbound.notifyAll();
+                        if (outbound.size() < maxQueuedContents)
+                            resumeWriters();
+                    }
+                    if (key != null && key.isValid()) {
+                        if (outbound.isEmpty())
+                            key.interestOps(key.interestOps() & ~OP_WRITE);
+                        else
+                            key.interestOps(key.interestOps() | OP_WRITE);
+                    }
+                }
+            } catch (IOException e) {
+                fail(e);
+            } finally {
+                Arrays.fill(buffers, null);
+            }
+        }
+
+        /**
+         * Method to read the bytes available from the channel, invoked by the I/O thread
+         *
+         * @param buffer: the buffer of the I/O thread where read the bytes
+         */
+        private void read(ByteBuffer buffer) {
+            try {
+                int read = 0;
+                while (pauses == 0 && (read = channel.read(buffer.clear())) > 0) {
+                    manager.metrics.onBytesRead(port, read);
+                    buffer.flip();
+                    decode(buffer);
+                    if (closed.get())
+                        return;
+                }
+                if (read < 0)
+                    close();
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Method to split the bytes read in lines and to dispatch their contents
+         *
+         * @param buffer: the bytes read
+         * @throws Exception when a line exceeds the {@link SocketConnection#MAX_FRAME_SIZE}, a content cannot be
+         *                   formatted or the handler fails
+         */
+        private void decode(ByteBuffer buffer) throws Exception {
+            if (lengthPrefixed) {
+                decodeFrames(buffer);
+                return;
+            }
+            while (buffer.hasRemaining()) {
+                byte current = buffer.get();
+                if (current == '\n') {
+                    int length = lineLength;
+                    if (length > 0 && line[length - 1] == '\r')
+                        length--;
+                    lineLength = 0;
+                    dispatch(new String(line, 0, length, UTF_8));
+                    if (closed.get() || keepPendingInput(buffer))
+                        return;
+                } else {
+                    if (lineLength == line.length) {
+                        if (lineLength >= SocketConnection.MAX_FRAME_SIZE)
+                            throw new StreamCorruptedException("The line exceeds the max size of a frame: " + lineLength);
+                        line = Arrays.copyOf(line, Math.min(line.length * 2, SocketConnection.MAX_FRAME_SIZE));
+                    }
+                    line[lineLength++] = current;
+                }
+            }
+        }
+
+        /**
+         * Method to split the bytes read in length-prefixed frames and to dispatch their contents
+         *
+         * @param buffer: the bytes read
+         * @throws Exception when a frame is not valid, a content cannot be formatted or the handler fails
+         */
+        private void decodeFrames(ByteBuffer buffer) throws Exception {
+            while (buffer.hasRemaining()) {
+                if (frameLength < 0) {
+                    byte current = buffer.get();
+                    lineLength |= (current & 0x7F) << headerShift;
+                    if ((current & 0x80) != 0) {
+                        headerShift += 7;
+                        if (headerShift > 28)
+                            throw new StreamCorruptedException("Invalid header of a frame");
+                        continue;
+                    }
+                    if (lineLength < 0 || lineLength > SocketConnection.MAX_FRAME_SIZE)
+                        throw new StreamCorruptedException("The frame exceeds the max size of a frame: " + lineLength);
+                    frameLength = lineLength;
+                    lineLength = 0;
+                    headerShift = 0;
+                    if (line.length < frameLength)
+                        line = new byte[frameLength];
+                }
+                int count = Math.min(buffer.remaining(), frameLength - lineLength);
+                buffer.get(line, lineLength, count);
+                lineLength += count;
+                if (lineLength == frameLength) {
+                    int length = lineLength;
+                    frameLength = -1;
+                    lineLength = 0;
+                    dispatch(new String(line, 0, length, UTF_8));
+                    if (closed.get() || keepPendingInput(buffer))
+                        return;
+                }
+            }
+        }
+
+        /**
+         * Method to keep the bytes not decoded yet when the reading of the session has been paused, they will be
+         * decoded when the reading will be resumed
+         *
+         * @param buffer: the bytes read
+         * @return whether the reading has been paused as boolean
+         */
+        private boolean keepPendingInput(ByteBuffer buffer) {
+            if (pauses == 0)
+                return false;
+            if (buffer.hasRemaining()) {
+                pendingInput = new byte[buffer.remaining()];
+                buffer.get(pendingInput);
+            }
+            return true;
+        }
+
+        /**
+         * Method to pause the reading of the session until the full queue where it wrote has room, invoked by its I/O
+         * thread <br>
+         * No-any params required
+         */
+        private void pauseReading() {
+            if (pauses++ == 0 && key != null && key.isValid())
+                key.interestOps(key.interestOps() & ~OP_READ);
+        }
+
+        /**
+         * Method to resume the reading of the session when a full queue where it wrote has room, invoked by its I/O
+         * thread, the bytes kept while the reading was paused are decoded first <br>
+         * No-any params required
+         */
+        private void resumeReading() {
+            if (pauses == 0 || --pauses > 0 || closed.get())
+                return;
+            if (pendingInput != null) {
+                ByteBuffer pending = ByteBuffer.wrap(pendingInput);
+                pendingInput = null;
+                try {
+                    decode(pending);
+                } catch (Exception e) {
+                    fail(e);
+                    return;
+                }
+                if (pauses > 0 || closed.get())
+                    return;
+            }
+            if (key != null && key.isValid())
+                key.interestOps(key.interestOps() | OP_READ);
+        }
+
+        /**
+         * Method to resume the reading of the sessions paused by the {@link #outbound} queue, invoked holding its lock
+         * <br>
+         * No-any params required
+         */
+        private void resumeWriters() {
+            for (SocketSession writer : pausedWriters)
+                writer.reactor.execute(writer::resumeReading);
+            pausedWriters.clear();
+        }
+
+        /**
+         * Method to dispatch a line received
+         *
+         * @param received: the line received
+         * @throws Exception when the content cannot be formatted or the handler fails
+         */
+        private void dispatch(String received) throws Exception {
+            SocketMetrics metrics = manager.metrics;
+            long start = metrics != SocketMetrics.NOOP ? System.nanoTime() : 0;
+            String content = manager.decodeContent(received);
+            lastContentRed = content;
+            if (handler != null) {
+                DISPATCHING.set(this);
+                try {
+                    handler.onContent(this, content);
+                } finally {
+                    DISPATCHING.remove();
+                }
+            } else
+                inbound.add(content);
+            if (metrics != SocketMetrics.NOOP)
+                metrics.onFrameRead(port, System.nanoTime() - start);
+        }
+
+        /**
+         * Method to close the session after an error
+         *
+         * @param error: the error occurred
+         */
+        private void fail(Exception error) {
+            if (!closed.get()) {
+                failedSessions.incrementAndGet();
+                manager.metrics.onError(port, error);
+                if (handler != null) {
+                    try {
+                        handler.onError(this, error);
+                    } catch (RuntimeException ignored) {
+                    }
+                }
+            }
+            close();
+        }
+
+        /**
+         * Method to mark a request received as waiting for its reply, so the session is not drained until the request
+         * is replied <br>
+         * No-any params required
+         */
+        void beginRequest() {
+            pendingReplies.incrementAndGet();
+        }
+
+        /**
+         * Method to mark a request received as replied <br>
+         * No-any params required
+         */
+        void endRequest() {
+            pendingReplies.decrementAndGet();
+        }
+
+        /**
+         * Method to get the number of the contents not delivered yet: the queued contents, the requests not replied
+         * and the contents received not read yet <br>
+         * No-any params required
+         *
+         * @return the number of the contents not delivered as int
+         */
+        private int getUndeliveredContents() {
+            // the replies are queued before being marked as sent, so they are counted first to never miss one
+            int undelivered = Math.max(pendingReplies.get(), 0);
+            undelivered += getQueuedContents();
+            if (inbound != null)
+                for (String content : inbound)
+                    if (content != END_OF_CONTENTS)
+                        undelivered++;
+            return undelivered;
+        }
+
+        /**
+         * Method to close the session if it has been drained, invoked by the I/O thread <br>
+         * No-any params required
+         *
+         * @return whether the session has been closed as boolean
+         */
+        private boolean closeIfDrained() {
+            if (getUndeliveredContents() > 0 || !closed.compareAndSet(false, true))
+                return false;
+            release();
+            return true;
+        }
+
+        /**
+         * Method to close the session, the contents not written yet are discarded <br>
+         * No-any params required
+         */
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true))
+                return;
+            if (Thread.currentThread() == reactor.thread)
+                release();
+            else
+                reactor.execute(this::release);
+        }
+
+        /**
+         * Method to release the resources of the session, invoked by the I/O thread <br>
+         * No-any params required
+         */
+        private void release() {
+            if (key != null)
+                key.cancel();
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+            synchronized (outbound) {
+                outbound.clear();
+                outbound.notifyAll();
+                resumeWriters();
+            }
+            sessions.remove(this);
+            if (opened) {
+                opened = false;
+                manager.metrics.onConnectionClosed(port);
+            }
+            for (String topic : subscriptions)
+                unsubscribe(topic);
+            if (inbound != null)
+                inbound.offer(END_OF_CONTENTS);
+            if (handler != null) {
+                try {
+                    handler.onClose(this);
+                } catch (RuntimeException ignored) {
+                }
+            }
+        }
+
+        /**
+         * Method to set an attribute of the session
+         *
+         * @param name:  the name of the attribute
+         * @param value: the value of the attribute, null to remove it
+         */
+        public void setAttribute(String name, Object value) {
+            if (value == null)
+                attributes.remove(name);
+            else
+                attributes.put(name, value);
+        }
+
+        /**
+         * Method to get an attribute of the session
+         *
+         * @param name: the name of the attribute
+         * @return the value of the attribute as {@link T}, null if it is not set
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getAttribute(String name) {
+            return (T) attributes.get(name);
+        }
+
+        /**
+         * Method to subscribe the session to a topic, so it will receive the contents published on that topic
+         *
+         * @param topic: the topic to subscribe
+         * @return whether the session has been subscribed as boolean, false if it was already subscribed or if it has
+         * been closed
+         * @see SocketEngine#publish(String, Object)
+         */
+        public boolean subscribe(String topic) {
+            if (closed.get() || !subscriptions.add(topic))
+                return false;
+            topics.compute(topic, (name, subscribers) -> {
+                if (subscribers == null)
+                    subscribers = ConcurrentHashMap.newKeySet();
+                subscribers.add(this);
+                return subscribers;
+            });
+            if (closed.get()) {
+                unsubscribe(topic);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Method to unsubscribe the session from a topic
+         *
+         * @param topic: the topic to unsubscribe
+         * @return whether the session was subscribed to the topic as boolean
+         */
+        public boolean unsubscribe(String topic) {
+            if (!subscriptions.remove(topic))
+                return false;
+            topics.computeIfPresent(topic, (name, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            return true;
+        }
+
+        /**
+         * Method to get the topics the session is subscribed to <br>
+         * No-any params required
+         *
+         * @return the topics as {@link Set} of {@link String}
+         */
+        public Set<String> getSubscriptions() {
+            return Collections.unmodifiableSet(subscriptions);
+        }
+
+        /**
+         * Method to get the number of the contents queued and not yet written <br>
+         * No-any params required
+         *
+         * @return the number of the contents queued as int
+         */
+        public int getQueuedContents() {
+            synchronized (outbound) {
+                return outbound.size();
+            }
+        }
+
+        /**
+         * Method to get {@link #droppedContents} instance <br>
+         * No-any params required
+         *
+         * @return {@link #droppedContents} instance as long
+         */
+        public long getDroppedContents() {
+            synchronized (outbound) {
+                return droppedContents;
+            }
+        }
+
+        /**
+         * Method to get {@link #id} instance <br>
+         * No-any params required
+         *
+         * @return {@link #id} instance as long
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Method to get {@link #remoteAddress} instance <br>
+         * No-any params required
+         *
+         * @return {@link #remoteAddress} instance as {@link SocketAddress}
+         */
+        public SocketAddress getRemoteAddress() {
+            return remoteAddress;
+        }
+
+        /**
+         * Method to get the ip address of the client <br>
+         * No-any params required
+         *
+         * @return the ip address of the client as {@link String}
+         */
+        public String getIpAddress() {
+            return ((InetSocketAddress) remoteAddress).getAddress().getHostAddress();
+        }
+
+        /**
+         * Method to get the engine of the session <br>
+         * No-any params required
+         *
+         * @return the engine of the session as {@link SocketEngine}
+         */
+        public SocketEngine getEngine() {
+            return SocketEngine.this;
+        }
+
+        /**
+         * Method to get whether the session is open <br>
+         * No-any params required
+         *
+         * @return whether the session is open as boolean
+         */
+        public boolean isOpen() {
+            return !closed.get();
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject()
+                    .put("id", id)
+                    .put("remoteAddress", String.valueOf(remoteAddress))
+                    .put("subscriptions", subscriptions)
+                    .put("queuedContents", getQueuedContents())
+                    .put("droppedContents", getDroppedContents())
+                    .put("pendingReplies", pendingReplies.get())
+                    .put("open", isOpen())
+                    .toString();
+        }
+
+    }
+
+    /**
+     * The {@code Reactor} class is useful to serve with a single I/O thread the connections assigned to it
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private final class Reactor implements Runnable {
+
+        /**
+         * {@code selector} the selector of the connections served
+         */
+        private final Selector selector;
+
+        /**
+         * {@code thread} the I/O thread
+         */
+        private final Thread thread;
+
+        /**
+         * {@code tasks} the tasks to execute on the I/O thread
+         */
+        private final ConcurrentLinkedQueue<Runnable> tasks;
+
+        /**
+         * {@code readBuffer} the buffer used to read from the connections
+         */
+        private final ByteBuffer readBuffer;
+
+        /**
+         * {@code gatheredBuffers} the array used to write the pending contents of a session with a single write
+         */
+        private final ByteBuffer[] gatheredBuffers;
+
+        /**
+         * {@code acceptKey} the key of the server channel, null if the I/O thread does not accept the connections
+         */
+        private SelectionKey acceptKey;
+
+        /**
+         * {@code acceptResumeTime} the time, in nanoseconds, when the connections will be accepted again after a
+         * failure of the server channel, zero if the accepting is not paused
+         */
+        private long acceptResumeTime;
+
+        /**
+         * Constructor to init {@link Reactor}
+         *
+         * @param index: the index of the I/O thread
+         * @throws IOException when the selector cannot be opened
+         */
+        private Reactor(int index) throws IOException {
+            selector = Selector.open();
+            tasks = new ConcurrentLinkedQueue<>();
+            readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            gatheredBuffers = new ByteBuffer[MAX_GATHERED_BUFFERS];
+            thread = new Thread(this, "SocketEngine-" + port + "-io-" + index);
+            thread.setDaemon(true);
+        }
+
+        /**
+         * Method to execute a task on the I/O thread
+         *
+         * @param task: the task to execute
+         */
+        private void execute(Runnable task) {
+            tasks.add(task);
+            if (Thread.currentThread() != thread)
+                selector.wakeup();
+        }
+
+        /**
+         * Method to register a channel in the selector, invoked by the I/O thread
+         *
+         * @param channel:    the channel to register
+         * @param operations: the operations of interest
+         * @param session:    the session of the channel, null for the server channel
+         * @return the key of the channel registered as {@link SelectionKey}, null if the channel is closed
+         */
+        private SelectionKey register(SelectableChannel channel, int operations, SocketSession session) {
+            try {
+                return channel.register(selector, operations, session);
+            } catch (ClosedChannelException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Method to run the loop of the I/O thread <br>
+         * No-any params required
+         */
+        @Override
+        public void run() {
+            IO_THREAD.set(true);
+            try {
+                while (running) {
+                    selector.select(resumeAccept());
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey selected = keys.next();
+                        keys.remove();
+                        if (!selected.isValid())
+                            continue;
+                        if (selected.isAcceptable())
+                            accept(selected);
+                        else {
+                            SocketSession session = (SocketSession) selected.attachment();
+                            try {
+                                if (selected.isReadable())
+                                    session.read(readBuffer);
+                                if (selected.isValid() && selected.isWritable())
+                                    session.flush();
+                            } catch (RuntimeException e) {
+                                // an unexpected error closes only its session, not the other ones of the thread
+                                session.fail(e);
+                            }
+                        }
+                    }
+                    runTasks();
+                }
+            } catch (IOException | ClosedSelectorException ignored) {
+            } finally {
+                shutdown();
+            }
+        }
+
+        /**
+         * Method to execute the pending tasks <br>
+         * No-any params required
+         */
+        private void runTasks() {
+            Runnable task;
+            while ((task = tasks.poll()) != null)
+                task.run();
+        }
+
+        /**
+         * Method to accept the pending connections and to assign them to the I/O threads, a connection which cannot be
+         * set up is closed, while a failure of the server channel pauses the accepting for the {@link #ACCEPT_BACKOFF}
+         * time, so a persistent error does not spin the I/O thread
+         *
+         * @param acceptKey: the key of the server channel
+         */
+        private void accept(SelectionKey acceptKey) {
+            this.acceptKey = acceptKey;
+            while (true) {
+                SocketChannel channel;
+                try {
+                    channel = serverChannel.accept();
+                } catch (IOException e) {
+                    if (running) {
+                        failAccept(e);
+                        acceptKey.interestOps(0);
+                        acceptResumeTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ACCEPT_BACKOFF);
+                    }
+                    return;
+                }
+                if (channel == null)
+                    return;
+                try {
+                    channel.configureBlocking(false);
+                    channel.socket().setTcpNoDelay(true);
+                    Reactor reactor = reactors[Math.floorMod(nextReactor.getAndIncrement(), reactors.length)];
+                    SocketSession session = new SocketSession(channel, reactor);
+                    sessions.add(session);
+                    reactor.execute(() -> reactor.open(session));
+                } catch (IOException | RuntimeException e) {
+                    failAccept(e);
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            }
+        }
+
+        /**
+         * Method to count and to report a connection which cannot be accepted
+         *
+         * @param error: the error occurred
+         */
+        private void failAccept(Exception error) {
+            failedAccepts.incrementAndGet();
+            manager.metrics.onError(port, error);
+        }
+
+        /**
+         * Method to accept the connections again when the {@link #ACCEPT_BACKOFF} time is elapsed <br>
+         * No-any params required
+         *
+         * @return the time, in milliseconds, to wait before accepting the connections again as long, zero if the
+         * accepting is not paused
+         */
+        private long resumeAccept() {
+            if (acceptResumeTime == 0)
+                return 0;
+            long remaining = acceptResumeTime - System.nanoTime();
+            if (remaining > 0)
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining));
+            acceptResumeTime = 0;
+            if (acceptKey.isValid())
+                acceptKey.interestOps(OP_ACCEPT);
+            return 0;
+        }
+
+        /**
+         * Method to open a session accepted, invoked by the I/O thread which serves it
+         *
+         * @param session: the session to open
+         */
+        private void open(SocketSession session) {
+            session.key = register(session.channel, OP_READ, session);
+            if (session.key == null || !running) {
+                session.close();
+                return;
+            }
+            session.opened = true;
+            manager.metrics.onConnectionOpened(port);
+            if (handler != null) {
+                DISPATCHING.set(session);
+                try {
+                    handler.onOpen(session);
+                } catch (Exception e) {
+                    session.fail(e);
+                } finally {
+                    DISPATCHING.remove();
+                }
+            } else
+                acceptedSessions.add(session);
+        }
+
+        /**
+         * Method to close the sessions served and the selector when the engine is stopped <br>
+         * No-any params required
+         */
+        private void shutdown() {
+            runTasks();
+            for (SelectionKey registered : selector.keys()) {
+                if (registered.attachment() instanceof SocketSession session) {
+                    session.closed.set(true);
+                    session.release();
+                }
+            }
+            try {
+                if (this == reactors[0])
+                    serverChannel.close();
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+    }
+
+}
@@ -2,18 +2,24 @@ package com.tecknobit.apimanager.apis.sockets;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.apimanager.apis.APIRequest;
+import com.tecknobit.apimanager.exceptions.ListenerConfigurationException;
+import com.tecknobit.apimanager.exceptions.ReservedSequenceException;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.net.*;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+import static com.tecknobit.apimanager.apis.sockets.SocketManager.Framing.LENGTH_PREFIXED;
+import static com.tecknobit.apimanager.apis.sockets.SocketManager.Framing.LINE_DELIMITED;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * The {@code SocketManager} class is useful to dynamically manage communication by sockets
@@ -35,6 +41,11 @@ public class SocketManager {
      */
     protected final ConcurrentHashMap<Integer, Listener> listeners;
 
+    /**
+     * {@code engines} list of the non-blocking engines started on the ports of the server
+     */
+    protected final ConcurrentHashMap<Integer, SocketEngine> engines;
+
     /**
      * {@code allowMultipleListeners} whether accept multiple listeners at the same time
      */
@@ -70,6 +81,44 @@ public class SocketManager {
      */
     protected Socket socket;
 
+    /**
+     * {@code framing} the framing of the content messages exchanged
+     */
+    protected volatile Framing framing = LINE_DELIMITED;
+
+    /**
+     * {@code connectionPool} the pool of the persistent connections to use client side, null to open a new connection
+     * for each exchange
+     */
+    protected SocketConnectionPool connectionPool;
+
+    /**
+     * {@code connection} the persistent connection used in the current exchange, null if the {@link #connectionPool}
+     * is not set
+     */
+    protected SocketConnection connection;
+
+    /**
+     * {@code multiplexers} the multiplexers opened client side for each host and port
+     */
+    protected final ConcurrentHashMap<String, SocketMultiplexer> multiplexers = new ConcurrentHashMap<>();
+
+    /**
+     * {@code socketConnections} the connections of the sockets used in the communication, each one keeps the same
+     * buffered streams for the whole lifetime of its socket
+     */
+    protected final ConcurrentHashMap<Socket, SocketConnection> socketConnections = new ConcurrentHashMap<>();
+
+    /**
+     * {@code metrics} the metrics of the connections, {@link SocketMetrics#NOOP} to not collect them
+     */
+    protected volatile SocketMetrics metrics = SocketMetrics.NOOP;
+
+    /**
+     * {@code failedConnections} the number of the connections closed because their {@link ConnectionHandler} failed
+     */
+    protected final AtomicLong failedConnections = new AtomicLong();
+
     /**
      * {@code publicHostAddress} public host address
      */
@@ -109,6 +158,7 @@ public class SocketManager {
         currentServerPort = serverPort;
         allowMultipleListeners = false;
         listeners = null;
+        engines = null;
         executor = null;
     }
 
@@ -123,6 +173,7 @@ public class SocketManager {
         serverUse = true;
         this.allowMultipleListeners = allowMultipleListeners;
         currentHost = InetAddress.getLocalHost().getHostAddress();
+        engines = new ConcurrentHashMap<>();
         if (allowMultipleListeners) {
             executor = Executors.newCachedThreadPool();
             listeners = new ConcurrentHashMap<>();
@@ -139,7 +190,9 @@ public class SocketManager {
      * @param port:    port to use by the listener
      * @param routine: routine to execute by the listener
      * @apiNote this method will be executed only if the {@link #serverUse} is set to {@code "true"}
-     * @throws IOException when some errors have been occurred, for example same port for different listeners
+     * @throws IOException when some errors have been occurred
+     * @throws ListenerConfigurationException when the listener cannot be started, for example same port for different
+     *                                        listeners
      */
     public void startListener(int port, Runnable routine) throws IOException {
         if (serverUse) {
@@ -148,15 +201,16 @@ public class SocketManager {
                     if (!listeners.containsKey(port))
                         listeners.put(port, new Listener(new ServerSocket(port), true));
                     else
-                        exit("You cannot have more listeners on the same port: [" + port + "]");
+                        throw new ListenerConfigurationException(port, "You cannot have more listeners on the same port: ["
+                                + port + "]");
                 } else {
                     if (serverSocket == null) {
                         serverSocket = new ServerSocket(port);
                         currentServerPort = port;
                         continueSingleRoutine = true;
                     } else {
-                        exit("If the \"allowMultipleListeners\" flag is set to false you cannot use multiple " +
-                                "listeners at the same time");
+                        throw new ListenerConfigurationException(port, "If the \"allowMultipleListeners\" flag is set " +
+                                "to false you cannot use multiple listeners at the same time");
                     }
                 }
             }
@@ -164,6 +218,208 @@ public class SocketManager {
         }
     }
 
+    /**
+     * Method to start a new listener which serves its connections one at a time, isolating the failures of each
+     * connection
+     *
+     * @param port:    port to use by the listener
+     * @param handler: the handler of the connections accepted
+     * @apiNote this method will be executed only if the {@link #serverUse} is set to {@code "true"}, when the handler
+     * fails the connection is closed and counted in {@link #getFailedConnections()}, while the listener continues to
+     * accept the next connections until it is stopped
+     * @throws IOException when some errors have been occurred
+     * @throws ListenerConfigurationException when the listener cannot be started, for example same port for different
+     *                                        listeners
+     */
+    public void startListener(int port, ConnectionHandler handler) throws IOException {
+        startListener(port, () -> serveConnections(port, handler));
+    }
+
+    /**
+     * Method to accept and to serve the connections of a listener, executed as its routine
+     *
+     * @param port:    port of the listener
+     * @param handler: the handler of the connections accepted
+     */
+    private void serveConnections(int port, ConnectionHandler handler) {
+        while (continueListeningOn(port)) {
+            Socket accepted = null;
+            try {
+                accepted = acceptRequestOn(port);
+                if (accepted == null)
+                    break;
+                handler.onConnection(accepted);
+            } catch (Exception e) {
+                if (accepted != null)
+                    failedConnections.incrementAndGet();
+                // the I/O errors of the connections are already counted by the connections themselves
+                if (accepted == null || !(e instanceof IOException))
+                    metrics.onError(port, e);
+                try {
+                    handler.onError(accepted, e);
+                } catch (RuntimeException ignored) {
+                }
+            } finally {
+                if (accepted != null)
+                    closeSocket(accepted);
+            }
+        }
+    }
+
+    /**
+     * Method to start a non-blocking engine which serves many concurrent clients on a port
+     *
+     * @param port:    port where accept the connections
+     * @param handler: the handler of the sessions, null to pull the sessions and their contents with
+     *                 {@link SocketEngine#acceptSession()} and {@link SocketEngine.SocketSession#readContent()}
+     * @return the engine started as {@link SocketEngine}
+     * @throws IOException when the port cannot be bound
+     * @apiNote the engine will use {@link SocketEngine#DEFAULT_IO_THREADS} I/O threads
+     */
+    @Wrapper
+    public SocketEngine startEngine(int port, SocketEngine.SessionHandler handler) throws IOException {
+        return startEngine(port, SocketEngine.DEFAULT_IO_THREADS, handler);
+    }
+
+    /**
+     * Method to start a non-blocking engine which serves many concurrent clients on a port
+     *
+     * @param port:      port where accept the connections
+     * @param ioThreads: the number of the I/O threads which serve the connections
+     * @param handler:   the handler of the sessions, null to pull the sessions and their contents with
+     *                   {@link SocketEngine#acceptSession()} and {@link SocketEngine.SocketSession#readContent()}
+     * @return the engine started as {@link SocketEngine}
+     * @throws IOException when the port cannot be bound
+     * @apiNote this method can be used only if the {@link #serverUse} is set to {@code "true"}, each accepted
+     * connection has its own session, so, unlike the {@link #acceptRequestOn(int)} method, the clients do not share the
+     * {@link #socket} instance
+     */
+    public SocketEngine startEngine(int port, int ioThreads, SocketEngine.SessionHandler handler) throws IOException {
+        if (!serverUse)
+            throw new IllegalStateException("You cannot use this method when this class is used client-side");
+        if (engines.containsKey(port) || (listeners != null && listeners.containsKey(port))
+                || (serverSocket != null && currentServerPort == port)) {
+            throw new ListenerConfigurationException(port, "You cannot have more listeners on the same port: [" + port
+                    + "]");
+        }
+        SocketEngine engine = new SocketEngine(this, port, ioThreads, handler);
+        if (engines.putIfAbsent(port, engine) != null) {
+            engine.close();
+            throw new ListenerConfigurationException(port, "You cannot have more listeners on the same port: [" + port
+                    + "]");
+        }
+        return engine;
+    }
+
+    /**
+     * Method to start a non-blocking engine which serves the requests sent by the {@link SocketMultiplexer}s
+     *
+     * @param port:    port where accept the connections
+     * @param handler: the handler of the requests
+     * @return the engine started as {@link SocketEngine}
+     * @throws IOException when the port cannot be bound
+     * @apiNote the engine will use {@link SocketEngine#DEFAULT_IO_THREADS} I/O threads
+     */
+    @Wrapper
+    public SocketEngine startRequestEngine(int port, SocketMultiplexer.RequestHandler handler) throws IOException {
+        return startEngine(port, SocketMultiplexer.handlerOf(handler));
+    }
+
+    /**
+     * Method to send a content message to all the sessions of the engines subscribed to a topic
+     *
+     * @param topic:   the topic of the content
+     * @param content: content message to send
+     * @return the number of the sessions where the content has been queued as int
+     * @throws Exception when the content cannot be formatted
+     * @apiNote the content is formatted once for each engine, see {@link SocketEngine#publish(String, Object)}
+     */
+    public <T> int publish(String topic, T content) throws Exception {
+        if (!serverUse)
+            throw new IllegalStateException("You cannot use this method when this class is used client-side");
+        int delivered = 0;
+        for (SocketEngine engine : engines.values())
+            delivered += engine.publish(topic, content);
+        return delivered;
+    }
+
+    /**
+     * Method to get the engine started on a port
+     *
+     * @param port: port of the engine
+     * @return the engine as {@link SocketEngine}, null if an engine is not started on the port
+     */
+    public SocketEngine getEngine(int port) {
+        if (engines == null)
+            return null;
+        return engines.get(port);
+    }
+
+    /**
+     * Method to stop the engine started on a port, closing all its sessions
+     *
+     * @param port: port of the engine to stop
+     */
+    public void stopEngine(int port) {
+        if (engines != null) {
+            SocketEngine engine = engines.remove(port);
+            if (engine != null)
+                engine.close();
+        }
+    }
+
+    /**
+     * Method to format a content message before sending it over the non-blocking sessions or the multiplexers
+     *
+     * @param content: the content message to format
+     * @return the content formatted as {@link String}, it must not contain line breaks
+     * @throws Exception when the content cannot be formatted
+     * @apiNote the line breaks of the content are replaced by the {@link #NEW_LINE_REPLACER}, the content is not
+     * changed with the {@link Framing#LENGTH_PREFIXED} framing
+     */
+    protected String encodeContent(String content) throws Exception {
+        if (framing == LENGTH_PREFIXED)
+            return content;
+        if (content.contains(NEW_LINE_REPLACER))
+            throw new ReservedSequenceException(NEW_LINE_REPLACER);
+        return content.replace("\n", NEW_LINE_REPLACER);
+    }
+
+    /**
+     * Method to restore a content message received over the non-blocking sessions or the multiplexers
+     *
+     * @param content: the content message received
+     * @return the content restored as {@link String}
+     * @throws Exception when the content cannot be restored
+     */
+    protected String decodeContent(String content) throws Exception {
+        if (framing == LENGTH_PREFIXED)
+            return content;
+        return content.replace(NEW_LINE_REPLACER, "\n");
+    }
+
+    /**
+     * Method to format a binary payload before sending it
+     *
+     * @param payload: the payload to format, from its position to its limit
+     * @return the payload formatted as {@link ByteBuffer}
+     * @throws Exception when the payload cannot be formatted
+     */
+    protected ByteBuffer encodeFrame(ByteBuffer payload) throws Exception {
+        return payload;
+    }
+
+    /**
+     * Method to restore a binary payload received
+     *
+     * @param payload: the payload received
+     * @return the payload restored as array of byte
+     * @throws Exception when the payload cannot be restored
+     */
+    protected byte[] decodeFrame(byte[] payload) throws Exception {
+        return payload;
+    }
+
     /**
      * Method to accept a new socket request <br>
      * No-any params required
@@ -182,7 +438,8 @@ public class SocketManager {
      * Method to accept a new socket request
      *
      * @param port: port of the server socket where this request must be accepted and routed
-     * @return socket accepted as {@link Socket}
+     * @return socket accepted as {@link Socket}, null if the listener has been stopped, also while this method was
+     * waiting for the request
      *
      * @apiNote this method will be executed only if the {@link #serverUse} is set to {@code "true"}
      * @implSpec this method need to be invoked when {@link #allowMultipleListeners} is set to {@code "true"}
@@ -190,14 +447,23 @@ public class SocketManager {
      */
     public Socket acceptRequestOn(int port) throws IOException {
         if (serverUse) {
+            ServerSocket acceptingSocket = serverSocket;
             if (allowMultipleListeners) {
                 if (listeners.size() == 1)
                     port = listeners.keys().nextElement();
-                serverSocket = listeners.get(port).getServerSocket();
+                Listener listener = listeners.get(port);
+                if (listener == null)
+                    return null;
+                serverSocket = acceptingSocket = listener.getServerSocket();
             }
-            if (!serverSocket.isClosed())
-                return socket = serverSocket.accept();
-            else
+            if (!acceptingSocket.isClosed()) {
+                try {
+                    return socket = acceptingSocket.accept();
+                } catch (SocketException e) {
+                    if (!acceptingSocket.isClosed())
+                        throw e;
+                }
+            } else if (!allowMultipleListeners)
                 executor.shutdown();
         }
         return null;
@@ -357,7 +623,7 @@ public class SocketManager {
     @Wrapper
     public <T> void writeContentTo(String host, int port, T content) throws Exception {
         if (!serverUse)
-            socket = new Socket(host, port);
+            openSocket(host, port);
         writeContentTo(socket, content);
     }
 
@@ -367,14 +633,14 @@ public class SocketManager {
      * @param targetSocket: target socket to use to send the content message
      * @param content:      content message to send
      * @throws Exception when some errors have been occurred
+     * @throws ReservedSequenceException when the content contains the reserved {@code "@-/-/-@"} sequence, nothing
+     *                                   is sent, so the connection can be still used
      * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
      */
     public <T> void writeContentTo(Socket targetSocket, T content) throws Exception {
         String message = content.toString();
-        if (message.contains(NEW_LINE_REPLACER)) {
-            socket.close();
-            exit("\"@-/-/-@\" is a reserved char, please do not insert it");
-        }
+        if (framing == LINE_DELIMITED && message.contains(NEW_LINE_REPLACER))
+            throw new ReservedSequenceException(NEW_LINE_REPLACER);
         writePlainContentTo(targetSocket, message);
     }
 
@@ -428,7 +694,7 @@ public class SocketManager {
     @Wrapper
     public <T> void writePlainContentTo(String host, int port, T content) throws Exception {
         if (!serverUse)
-            socket = new Socket(host, port);
+            openSocket(host, port);
         writePlainContentTo(socket, content);
     }
 
@@ -438,16 +704,152 @@ public class SocketManager {
      * @param targetSocket: target socket to use to send the content message
      * @param content:      content message to send
      * @throws Exception when some errors have been occurred
+     * @throws ReservedSequenceException when the content contains the reserved {@code "@-/-/-@"} sequence, nothing
+     *                                   is sent, so the connection can be still used
      * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
      */
     public <T> void writePlainContentTo(Socket targetSocket, T content) throws Exception {
-        PrintWriter printWriter = new PrintWriter(targetSocket.getOutputStream(), true);
         String message = content.toString();
-        if (message.contains(NEW_LINE_REPLACER)) {
-            socket.close();
-            exit("\"@-/-/-@\" is a reserved char, please do not insert it");
+        if (framing == LENGTH_PREFIXED) {
+            sendFrame(targetSocket, ByteBuffer.wrap(message.getBytes(UTF_8)));
+            return;
+        }
+        if (message.contains(NEW_LINE_REPLACER))
+            throw new ReservedSequenceException(NEW_LINE_REPLACER);
+        connectionOf(targetSocket).writeLine(message);
+    }
+
+    /**
+     * Method to write a binary payload to send with the socket request
+     *
+     * @param payload: the payload to send
+     * @throws Exception when some errors have been occurred
+     * @apiNote the payload is always sent as a length-prefixed frame, whatever is the {@link #framing} of the content
+     * messages
+     */
+    @Wrapper
+    public void writeBytes(byte[] payload) throws Exception {
+        writeBytesTo(currentHost, currentServerPort, payload);
+    }
+
+    /**
+     * Method to write a binary payload to send with the socket request
+     *
+     * @param host:    host of the server socket where this request must be accepted and routed
+     * @param port:    port of the server socket where this request must be accepted and routed
+     * @param payload: the payload to send
+     * @throws Exception when some errors have been occurred
+     * @apiNote the payload is always sent as a length-prefixed frame, whatever is the {@link #framing} of the content
+     * messages
+     */
+    @Wrapper
+    public void writeBytesTo(String host, int port, byte[] payload) throws Exception {
+        if (!serverUse)
+            openSocket(host, port);
+        writeBytesTo(socket, payload);
+    }
+
+    /**
+     * Method to write a binary payload to send with the socket request
+     *
+     * @param targetSocket: target socket to use to send the payload
+     * @param payload:      the payload to send
+     * @throws Exception when some errors have been occurred
+     * @apiNote the payload is always sent as a length-prefixed frame, whatever is the {@link #framing} of the content
+     * messages
+     */
+    @Wrapper
+    public void writeBytesTo(Socket targetSocket, byte[] payload) throws Exception {
+        writeBytesTo(targetSocket, ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * Method to write a binary payload to send with the socket request
+     *
+     * @param targetSocket: target socket to use to send the payload
+     * @param payload:      the payload to send, from its position to its limit, the position is not changed
+     * @throws Exception when some errors have been occurred
+     * @apiNote the payload is always sent as a length-prefixed frame, whatever is the {@link #framing} of the content
+     * messages
+     */
+    public void writeBytesTo(Socket targetSocket, ByteBuffer payload) throws Exception {
+        sendFrame(targetSocket, encodeFrame(payload));
+    }
+
+    /**
+     * Method to send a length-prefixed frame
+     *
+     * @param targetSocket: target socket to use to send the frame
+     * @param payload:      the payload of the frame, from its position to its limit
+     * @throws IOException when the frame cannot be sent
+     */
+    protected void sendFrame(Socket targetSocket, ByteBuffer payload) throws IOException {
+        connectionOf(targetSocket).writeFrame(payload);
+    }
+
+    /**
+     * Method to get the connection of a socket, creating it at the first use of the socket
+     *
+     * @param targetSocket: the socket of the connection
+     * @return the connection of the socket as {@link SocketConnection}
+     * @throws IOException when the streams of the socket cannot be fetched
+     * @apiNote the same connection is used for all the content messages exchanged with the socket, so the bytes of
+     * the next content messages already buffered are not lost between two reads. The connections of the sockets
+     * closed are discarded when a new connection is created
+     */
+    protected SocketConnection connectionOf(Socket targetSocket) throws IOException {
+        SocketConnection current = connection;
+        if (current != null && current.getSocket() == targetSocket)
+            return current;
+        SocketConnection socketConnection = socketConnections.get(targetSocket);
+        if (socketConnection == null) {
+            socketConnections.values().removeIf(brokenConnection -> {
+                if (!brokenConnection.isBroken())
+                    return false;
+                brokenConnection.close();
+                return true;
+            });
+            socketConnection = new SocketConnection(targetSocket);
+            SocketConnection previous = socketConnections.putIfAbsent(targetSocket, socketConnection);
+            if (previous != null)
+                socketConnection = previous;
+            else
+                socketConnection.bindMetrics(metrics, serverUse ? targetSocket.getLocalPort() : targetSocket.getPort());
+        }
+        return socketConnection;
+    }
+
+    /**
+     * Method to open the socket to use in the next exchange, client side
+     *
+     * @param host: host of the server socket where the request must be accepted and routed
+     * @param port: port of the server socket where the request must be accepted and routed
+     * @throws IOException when the connection cannot be established
+     * @apiNote when the {@link #connectionPool} is set the connection is acquired from it, and a connection still used
+     * by a previous exchange not completed with {@link #readContent()} is closed, because its response would be read
+     * by the next exchange
+     */
+    protected void openSocket(String host, int port) throws IOException {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (socket != null) {
+            SocketConnection previous = socketConnections.remove(socket);
+            if (previous != null)
+                previous.close();
+        }
+        try {
+            if (connectionPool != null) {
+                connection = connectionPool.acquire(host, port);
+                connection.bindMetrics(metrics, port);
+                socket = connection.getSocket();
+            } else
+                socket = new Socket(host, port);
+        } catch (IOException e) {
+            metrics.onError(port, e);
+            throw e;
         }
-        printWriter.println(message);
     }
 
     /**
@@ -470,15 +872,94 @@ public class SocketManager {
      * @throws Exception when some errors have been occurred
      */
     public String readContent(Socket targetSocket) throws Exception {
-        String content = new BufferedReader(new InputStreamReader(targetSocket.getInputStream())).readLine();
+        String content = receiveContent(targetSocket);
         lastContentRed = content;
         if (!serverUse || content == null)
-            targetSocket.close();
-        if (content != null)
+            releaseSocket(targetSocket);
+        if (content != null && framing == LINE_DELIMITED)
             content = content.replaceAll(NEW_LINE_REPLACER, "\n");
         return content;
     }
 
+    /**
+     * Method to read a binary payload received with the socket request <br>
+     * No-any params required
+     *
+     * @return the payload received as array of byte, null if the connection has been closed
+     * @throws Exception when some errors have been occurred
+     */
+    @Wrapper
+    public byte[] readBytes() throws Exception {
+        return readBytes(socket);
+    }
+
+    /**
+     * Method to read a binary payload received with the socket request
+     *
+     * @param targetSocket: target socket to use to receive the payload
+     * @return the payload received as array of byte, null if the connection has been closed
+     * @throws Exception when some errors have been occurred
+     */
+    public byte[] readBytes(Socket targetSocket) throws Exception {
+        byte[] payload = receiveFrame(targetSocket);
+        if (!serverUse || payload == null)
+            releaseSocket(targetSocket);
+        if (payload != null)
+            payload = decodeFrame(payload);
+        return payload;
+    }
+
+    /**
+     * Method to receive the raw line of a content message
+     *
+     * @param targetSocket: target socket to use to receive the content message
+     * @return the raw line received as {@link String}, null if the end of the stream has been reached
+     * @throws IOException when the line cannot be read
+     */
+    protected String receiveContent(Socket targetSocket) throws IOException {
+        if (framing == LENGTH_PREFIXED) {
+            byte[] payload = receiveFrame(targetSocket);
+            return payload != null ? new String(payload, UTF_8) : null;
+        }
+        return connectionOf(targetSocket).readLine();
+    }
+
+    /**
+     * Method to receive the payload of a length-prefixed frame
+     *
+     * @param targetSocket: target socket to use to receive the frame
+     * @return the payload received as array of byte, null if the end of the stream has been reached
+     * @throws IOException when the frame cannot be read or is not a valid frame
+     */
+    protected byte[] receiveFrame(Socket targetSocket) throws IOException {
+        return connectionOf(targetSocket).readFrame();
+    }
+
+    /**
+     * Method to release a socket when its exchange is completed
+     *
+     * @param targetSocket: target socket to release
+     * @throws IOException when the socket cannot be closed
+     * @apiNote the persistent connections are returned to the {@link #connectionPool} to be reused, the other sockets
+     * are closed
+     */
+    protected void releaseSocket(Socket targetSocket) throws IOException {
+        if (connection != null && connection.getSocket() == targetSocket) {
+            SocketConnection released = connection;
+            connection = null;
+            if (connectionPool != null)
+                connectionPool.release(released);
+            else
+                released.close();
+        } else {
+            SocketConnection socketConnection = socketConnections.remove(targetSocket);
+            if (socketConnection != null)
+                socketConnection.close();
+            else
+                targetSocket.close();
+        }
+    }
+
     /**
      * Method to read the last content message red in the stream with the socket request <br>
      * No-any params required
@@ -624,13 +1105,18 @@ public class SocketManager {
      *        //  their workflow
      *     }
      * </pre>
-     * @apiNote this method need to be invoked when {@link #allowMultipleListeners} is set to {@code "true"}
+     * @apiNote this method need to be invoked when {@link #allowMultipleListeners} is set to {@code "true"}, the server
+     * socket of the listener is closed, so a routine waiting in {@link #acceptRequestOn(int)} is released, use
+     * {@link #shutdown(long)} to let the routines complete the requests in progress
      */
     public void stopListenerOn(int port) {
-        if (allowMultipleListeners)
-            listeners.get(port).stopRoutine();
-        else {
+        if (allowMultipleListeners) {
+            Listener listener = listeners.get(port);
+            if (listener != null)
+                listener.stopRoutine();
+        } else {
             continueSingleRoutine = false;
+            closeServerSocket(serverSocket);
             executor.shutdownNow();
         }
     }
@@ -669,9 +1155,13 @@ public class SocketManager {
      *         // all the listeners will be stopped at the same time
      *     }
      * </pre>
-     * @apiNote this method need to be invoked when {@link #allowMultipleListeners} is set to {@code "true"}
+     * @apiNote this method need to be invoked when {@link #allowMultipleListeners} is set to {@code "true"}, also the
+     * engines started with {@link #startEngine(int, SocketEngine.SessionHandler)} will be stopped
      */
     public void stopAllListeners() {
+        if (engines != null)
+            for (Integer port : engines.keySet())
+                stopEngine(port);
         if (allowMultipleListeners) {
             for (Listener listener : listeners.values())
                 listener.stopRoutine();
@@ -680,13 +1170,149 @@ public class SocketManager {
     }
 
     /**
-     * Method to print an error occurred and exit with status code <b>1</b>
+     * Method to stop gracefully all the listeners and the engines of the server: the new requests are refused, the
+     * requests in progress can be completed until the timeout elapses and then the remaining ones are interrupted
      *
-     * @param errorMessage: error message to print
+     * @param timeout: the max time, in milliseconds, to wait for the requests in progress
+     * @return the report of the shutdown as {@link ShutdownReport}
+     * @implNote example of use case:
+     * <pre>
+     *     {@code
+     *          SocketManager socketManager = new SocketManager(true);
+     *          socketManager.startListener(3218, routine);
+     *          socketManager.startEngine(3219, handler);
+     *
+     *          // your code's workflow
+     *
+     *          ShutdownReport report = socketManager.shutdown(5000);
+     *          if (!report.isGraceful())
+     *              System.out.println(report.getDroppedContents() + " contents have been dropped");
+     *     }
+     * </pre>
+     * @apiNote this method can be used only if the {@link #serverUse} is set to {@code "true"}: the server sockets
+     * of the listeners are closed, so the routines waiting in {@link #acceptRequestOn(int)} receive {@code null}, and
+     * the engines are stopped as done by {@link SocketEngine#shutdown(long)}. When the timeout elapses the routines
+     * still running are interrupted and the sockets still open are closed
      */
+    public ShutdownReport shutdown(long timeout) {
+        if (!serverUse)
+            throw new IllegalStateException("You cannot use this method when this class is used client-side");
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(Math.max(timeout, 0));
+        for (SocketEngine engine : engines.values())
+            engine.stopAccepting();
+        if (allowMultipleListeners) {
+            for (Listener listener : listeners.values())
+                listener.stopRoutine();
+        } else {
+            continueSingleRoutine = false;
+            closeServerSocket(serverSocket);
+        }
+        executor.shutdown();
+        int drainedSessions = 0;
+        int abortedSessions = 0;
+        long droppedContents = 0;
+        for (Integer port : engines.keySet()) {
+            SocketEngine engine = engines.remove(port);
+            if (engine != null) {
+                ShutdownReport report = engine.drain(deadline);
+                drainedSessions += report.getDrainedSessions();
+                abortedSessions += report.getAbortedSessions();
+                droppedContents += report.getDroppedContents();
+            }
+        }
+        int interruptedRoutines = 0;
+        try {
+            if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS))
+                interruptedRoutines = getActiveRoutines();
+        } catch (InterruptedException e) {
+            interruptedRoutines = getActiveRoutines();
+            Thread.currentThread().interrupt();
+        }
+        if (interruptedRoutines > 0) {
+            executor.shutdownNow();
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        for (SocketConnection connection : socketConnections.values())
+            connection.close();
+        socketConnections.clear();
+        return new ShutdownReport(drainedSessions, abortedSessions, droppedContents, interruptedRoutines,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Method to get the number of the routines which are running <br>
+     * No-any params required
+     *
+     * @return the number of the routines which are running as int
+     */
+    private int getActiveRoutines() {
+        if (executor instanceof ThreadPoolExecutor pool)
+            return pool.getActiveCount();
+        return executor.isTerminated() ? 0 : 1;
+    }
+
+    /**
+     * Method to close a server socket, so the routines waiting for a request are released
+     *
+     * @param serverSocket: the server socket to close, null if not created yet
+     */
+    private static void closeServerSocket(ServerSocket serverSocket) {
+        if (serverSocket != null) {
+            try {
+                serverSocket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Method to raise an error occurred
+     *
+     * @param errorMessage: error message of the error
+     * @throws IllegalStateException with the error message, the virtual machine is not terminated anymore
+     * @deprecated throw a typed exception, as {@link ReservedSequenceException} or
+     * {@link ListenerConfigurationException}, instead
+     */
+    @Deprecated
     protected void exit(String errorMessage) {
-        System.err.println(errorMessage);
-        System.exit(1);
+        throw new IllegalStateException(errorMessage);
+    }
+
+    /**
+     * Method to set the metrics of the connections
+     *
+     * @param metrics: the metrics of the connections, null to not collect them
+     * @apiNote the metrics are collected for each port, see {@link SocketMetrics}, the connections already open
+     * continue to use the metrics set when they have been opened
+     */
+    public void setMetrics(SocketMetrics metrics) {
+        this.metrics = metrics != null ? metrics : SocketMetrics.NOOP;
+    }
+
+    /**
+     * Method to get {@link #metrics} instance <br>
+     * No-any params required
+     *
+     * @return {@link #metrics} instance as {@link SocketMetrics}
+     */
+    public SocketMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Method to get {@link #failedConnections} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failedConnections} instance as long
+     */
+    public long getFailedConnections() {
+        return failedConnections.get();
     }
 
     /**
@@ -787,8 +1413,130 @@ public class SocketManager {
      * @throws IOException when an error occurred during the closing of the communication
      */
     public void closeCommunication() throws IOException {
-        if (socket != null && !socket.isClosed())
-            socket.close();
+        for (SocketMultiplexer multiplexer : multiplexers.values())
+            multiplexer.close();
+        multiplexers.clear();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        if (socket != null)
+            closeSocket(socket);
+    }
+
+    /**
+     * Method to close a socket and its connection
+     *
+     * @param targetSocket: the socket to close
+     */
+    private void closeSocket(Socket targetSocket) {
+        SocketConnection socketConnection = socketConnections.remove(targetSocket);
+        if (socketConnection != null)
+            socketConnection.close();
+        else {
+            try {
+                targetSocket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Method to open a multiplexer to send many concurrent requests over a single connection <br>
+     * No-any params required
+     *
+     * @return the multiplexer as {@link SocketMultiplexer}
+     * @throws IOException when the connection cannot be established
+     * @apiNote the same multiplexer is returned until it is closed, so a single connection is used for the peer
+     */
+    @Wrapper
+    public SocketMultiplexer openMultiplexer() throws IOException {
+        return openMultiplexer(currentHost, currentServerPort);
+    }
+
+    /**
+     * Method to open a multiplexer to send many concurrent requests over a single connection
+     *
+     * @param host: host of the peer
+     * @param port: port of the peer
+     * @return the multiplexer as {@link SocketMultiplexer}
+     * @throws IOException when the connection cannot be established
+     * @throws IllegalStateException when this class is used server-side
+     * @apiNote the same multiplexer is returned until it is closed, so a single connection is used for the peer
+     */
+    public SocketMultiplexer openMultiplexer(String host, int port) throws IOException {
+        if (serverUse)
+            throw new IllegalStateException("You cannot use this method when this class is used server-side");
+        String peer = host + ":" + port;
+        synchronized (multiplexers) {
+            SocketMultiplexer multiplexer = multiplexers.get(peer);
+            if (multiplexer == null || !multiplexer.isOpen()) {
+                multiplexer = new SocketMultiplexer(this, host, port);
+                multiplexers.put(peer, multiplexer);
+            }
+            return multiplexer;
+        }
+    }
+
+    /**
+     * Method to enable the persistent connections client side, so the exchanges with the same host and port reuse
+     * the same connection instead of opening a new one each time <br>
+     * No-any params required
+     *
+     * @apiNote will be used a {@link SocketConnectionPool} with its default limits
+     */
+    @Wrapper
+    public void enablePersistentConnections() {
+        setConnectionPool(new SocketConnectionPool());
+    }
+
+    /**
+     * Method to set the {@link #connectionPool} instance
+     *
+     * @param connectionPool: the pool of the persistent connections to use, null to open a new connection for each
+     *                        exchange
+     * @throws IllegalStateException when this class is used server-side
+     * @apiNote the server must keep the connection open after each response, reading the next content messages from
+     * the same socket, as the {@link SocketEngine} does
+     */
+    public void setConnectionPool(SocketConnectionPool connectionPool) {
+        if (serverUse)
+            throw new IllegalStateException("You cannot use the persistent connections when this class is used server-side");
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * Method to set the {@link #framing} instance
+     *
+     * @param framing: the framing of the content messages to exchange, both the sides of the communication must use
+     *                 the same framing
+     * @throws IllegalStateException when an engine has already been started, because its sessions use the framing
+     *                               set when it has been started
+     */
+    public void setFraming(Framing framing) {
+        if (engines != null && !engines.isEmpty())
+            throw new IllegalStateException("The framing must be set before starting the engines");
+        this.framing = framing;
+    }
+
+    /**
+     * Method to get {@link #framing} instance <br>
+     * No-any params required
+     *
+     * @return {@link #framing} instance as {@link Framing}
+     */
+    public Framing getFraming() {
+        return framing;
+    }
+
+    /**
+     * Method to get {@link #connectionPool} instance <br>
+     * No-any params required
+     *
+     * @return {@link #connectionPool} instance as {@link SocketConnectionPool}
+     */
+    public SocketConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     /**
@@ -858,6 +1606,25 @@ public class SocketManager {
 
     }
 
+    /**
+     * {@code Framing} list of available framings of the content messages
+     */
+    public enum Framing {
+
+        /**
+         * {@code LINE_DELIMITED} each content message is sent as a line, its line breaks are replaced by the
+         * {@link #NEW_LINE_REPLACER} which cannot be inserted in the content messages
+         */
+        LINE_DELIMITED,
+
+        /**
+         * {@code LENGTH_PREFIXED} each content message is sent as a frame with the length of its payload followed by
+         * the payload, so any content can be sent without escaping
+         */
+        LENGTH_PREFIXED
+
+    }
+
     /**
      * This method is used to get an ip address from a {@link Socket}
      *
@@ -898,20 +1665,76 @@ public class SocketManager {
         JSONObject msg = new JSONObject()
                 .put("serverUse", serverUse)
                 .put("executor", executor)
-                .put("host", currentHost);
+                .put("host", currentHost)
+                .put("framing", framing);
         if (serverUse) {
             msg.put("listeners", listeners)
                     .put("areAllowedMultipleListeners", allowMultipleListeners)
+                    .put("engines", engines.values())
+                    .put("failedConnections", failedConnections.get())
                     .put("activeServerSocket", serverSocket)
                     .put("activeSocket", socket);
         } else {
             msg.put("serverSocket", serverSocket)
                     .put("socket", socket)
-                    .put("serverPort", currentServerPort);
+                    .put("serverPort", currentServerPort)
+                    .put("connectionPool", connectionPool);
         }
         return msg.toString();
     }
 
+    /**
+     * The {@code ConnectionHandler} interface is useful to serve the connections accepted by a listener, one at a time,
+     * isolating the failures of each connection
+     *
+     * <pre>
+     *     {@code
+     *
+     *         SocketManager server = new SocketManager(false);
+     *         server.startListener(1000, new SocketManager.ConnectionHandler() {
+     *
+     *             @Override
+     *             public void onConnection(Socket socket) throws Exception {
+     *                 server.writeContentTo(socket, makeSomething(server.readContent(socket)));
+     *             }
+     *
+     *             @Override
+     *             public void onError(Socket socket, Exception error) {
+     *                 System.err.println(error.getMessage());
+     *             }
+     *
+     *         });
+     *     }
+     * </pre>
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see SocketManager#startListener(int, ConnectionHandler)
+     * @since 2.2.5
+     */
+    @FunctionalInterface
+    public interface ConnectionHandler {
+
+        /**
+         * Method invoked when a connection has been accepted, the connection is closed when this method returns
+         *
+         * @param socket: the socket of the connection accepted
+         * @throws Exception when an error occurred, the connection will be closed and the listener will continue to
+         *                   accept the next connections
+         */
+        void onConnection(Socket socket) throws Exception;
+
+        /**
+         * Method invoked when an error occurred, the connection will be closed after this method
+         *
+         * @param socket: the socket of the connection where the error occurred, null if the error occurred while
+         *                accepting a connection
+         * @param error:  the error occurred
+         */
+        default void onError(Socket socket, Exception error) {
+        }
+
+    }
+
     /**
      * The {@code Listener} class is useful to manage dynamically the listeners when the {@link SocketManager#allowMultipleListeners}
      * is set to {@code "true"}, allowing the communication and, eventually, the interruption of the routine of the
@@ -969,10 +1792,148 @@ public class SocketManager {
          * to {@code "false"} <br>
          * No-any params required
          *
-         * @apiNote the listener will be stopped and will refuse all the requests to this {@link #serverSocket}
+         * @apiNote the listener will be stopped and will refuse all the requests to this {@link #serverSocket}, which
+         * is closed
          */
         public void stopRoutine() {
             continueRoutine = false;
+            closeServerSocket(serverSocket);
+        }
+
+    }
+
+    /**
+     * The {@code ShutdownReport} class is useful to know how a graceful shutdown has been completed and what has been
+     * dropped when its timeout elapsed
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @see SocketManager#shutdown(long)
+     * @see SocketEngine#shutdown(long)
+     * @since 2.2.5
+     */
+    public static final class ShutdownReport {
+
+        /**
+         * {@code drainedSessions} the number of the sessions closed after having delivered all their contents
+         */
+        private final int drainedSessions;
+
+        /**
+         * {@code abortedSessions} the number of the sessions closed when the timeout elapsed
+         */
+        private final int abortedSessions;
+
+        /**
+         * {@code droppedContents} the number of the contents not delivered by the sessions closed when the timeout
+         * elapsed
+         */
+        private final long droppedContents;
+
+        /**
+         * {@code interruptedRoutines} the number of the routines of the listeners interrupted when the timeout elapsed
+         */
+        private final int interruptedRoutines;
+
+        /**
+         * {@code elapsedTime} the time, in milliseconds, spent by the shutdown
+         */
+        private final long elapsedTime;
+
+        /**
+         * Constructor to init {@link ShutdownReport}
+         *
+         * @param drainedSessions:     the number of the sessions closed after having delivered all their contents
+         * @param abortedSessions:     the number of the sessions closed when the timeout elapsed
+         * @param droppedContents:     the number of the contents not delivered by the sessions closed when the timeout
+         *                             elapsed
+         * @param interruptedRoutines: the number of the routines of the listeners interrupted when the timeout elapsed
+         * @param elapsedTime:         the time, in milliseconds, spent by the shutdown
+         */
+        ShutdownReport(int drainedSessions, int abortedSessions, long droppedContents, int interruptedRoutines,
+                       long elapsedTime) {
+            this.drainedSessions = drainedSessions;
+            this.abortedSessions = abortedSessions;
+            this.droppedContents = droppedContents;
+            this.interruptedRoutines = interruptedRoutines;
+            this.elapsedTime = elapsedTime;
+        }
+
+        /**
+         * Method to get {@link #drainedSessions} instance <br>
+         * No-any params required
+         *
+         * @return {@link #drainedSessions} instance as int
+         */
+        public int getDrainedSessions() {
+            return drainedSessions;
+        }
+
+        /**
+         * Method to get {@link #abortedSessions} instance <br>
+         * No-any params required
+         *
+         * @return {@link #abortedSessions} instance as int
+         */
+        public int getAbortedSessions() {
+            return abortedSessions;
+        }
+
+        /**
+         * Method to get {@link #droppedContents} instance <br>
+         * No-any params required
+         *
+         * @return {@link #droppedContents} instance as long
+         */
+        public long getDroppedContents() {
+            return droppedContents;
+        }
+
+        /**
+         * Method to get {@link #interruptedRoutines} instance <br>
+         * No-any params required
+         *
+         * @return {@link #interruptedRoutines} instance as int
+         */
+        public int getInterruptedRoutines() {
+            return interruptedRoutines;
+        }
+
+        /**
+         * Method to get {@link #elapsedTime} instance <br>
+         * No-any params required
+         *
+         * @return {@link #elapsedTime} instance as long
+         */
+        public long getElapsedTime() {
+            return elapsedTime;
+        }
+
+        /**
+         * Method to get whether the shutdown has been completed before the timeout, without dropping anything <br>
+         * No-any params required
+         *
+         * @return whether the shutdown has been completed before the timeout as boolean
+         */
+        public boolean isGraceful() {
+            return abortedSessions == 0 && droppedContents == 0 && interruptedRoutines == 0;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject()
+                    .put("drainedSessions", drainedSessions)
+                    .put("abortedSessions", abortedSessions)
+                    .put("droppedContents", droppedContents)
+                    .put("interruptedRoutines", interruptedRoutines)
+                    .put("elapsedTime", elapsedTime)
+                    .put("graceful", isGraceful())
+                    .toString();
         }
 
     }
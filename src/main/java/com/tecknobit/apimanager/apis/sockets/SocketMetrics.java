@@ -0,0 +1,99 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+/**
+ * The {@code SocketMetrics} interface is useful to observe the connections and the traffic of a {@link SocketManager}
+ * for each port: the server side port is the port of the listener or of the engine, the client side port is the port
+ * of the server connected
+ *
+ * <pre>
+ *     {@code
+ *
+ *         SocketMetricsCollector metrics = new SocketMetricsCollector();
+ *         SocketManager server = new SocketManager(true);
+ *         server.setMetrics(metrics);
+ *         server.startEngine(1000, handler);
+ *
+ *         // your code's workflow
+ *
+ *         SocketMetricsCollector.PortMetrics portMetrics = metrics.getPortMetrics(1000);
+ *         long activeConnections = portMetrics.getActiveConnections();
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote all the methods have an empty default implementation and are invoked by the I/O threads, so they must not
+ * block. When the metrics are not set the {@link #NOOP} instance is used and the latencies are not even measured
+ * @see SocketMetricsCollector
+ * @since 2.2.5
+ */
+public interface SocketMetrics {
+
+    /**
+     * {@code NOOP} is the instance which ignores all the metrics
+     */
+    SocketMetrics NOOP = new SocketMetrics() {
+    };
+
+    /**
+     * Method invoked when a connection has been opened
+     *
+     * @param port: the port of the connection
+     */
+    default void onConnectionOpened(int port) {
+    }
+
+    /**
+     * Method invoked when a connection has been closed
+     *
+     * @param port: the port of the connection
+     */
+    default void onConnectionClosed(int port) {
+    }
+
+    /**
+     * Method invoked when some bytes have been read from a connection
+     *
+     * @param port:  the port of the connection
+     * @param bytes: the number of the bytes read
+     */
+    default void onBytesRead(int port, long bytes) {
+    }
+
+    /**
+     * Method invoked when some bytes have been written to a connection
+     *
+     * @param port:  the port of the connection
+     * @param bytes: the number of the bytes written
+     */
+    default void onBytesWritten(int port, long bytes) {
+    }
+
+    /**
+     * Method invoked when a content message or a frame has been read from a connection
+     *
+     * @param port:    the port of the connection
+     * @param latency: the time, in nanoseconds, spent to read the content, waiting for it with the blocking sockets
+     *                 and to decode and to dispatch it with the engines
+     */
+    default void onFrameRead(int port, long latency) {
+    }
+
+    /**
+     * Method invoked when a content message or a frame has been written to a connection
+     *
+     * @param port:    the port of the connection
+     * @param latency: the time, in nanoseconds, spent by the write operation which completed the content
+     */
+    default void onFrameWritten(int port, long latency) {
+    }
+
+    /**
+     * Method invoked when an error occurred in a connection
+     *
+     * @param port:  the port of the connection
+     * @param error: the error occurred
+     */
+    default void onError(int port, Throwable error) {
+    }
+
+}
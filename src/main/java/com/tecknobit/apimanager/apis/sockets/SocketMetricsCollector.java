@@ -0,0 +1,504 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@code SocketMetricsCollector} class is useful to collect the {@link SocketMetrics} of each port with
+ * {@link LongAdder}s, so the I/O threads which update the same port do not contend for the same counter
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the rates, as the bytes or the contents per second, can be computed sampling the counters at a fixed
+ * interval
+ * @see SocketManager#setMetrics(SocketMetrics)
+ * @since 2.2.5
+ */
+public class SocketMetricsCollector implements SocketMetrics {
+
+    /**
+     * {@code portMetrics} the metrics collected for each port
+     */
+    private final ConcurrentHashMap<Integer, PortMetrics> portMetrics;
+
+    /**
+     * Constructor to init {@link SocketMetricsCollector} <br>
+     * No-any params required
+     */
+    public SocketMetricsCollector() {
+        portMetrics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method invoked when a connection has been opened
+     *
+     * @param port: the port of the connection
+     */
+    @Override
+    public void onConnectionOpened(int port) {
+        metricsOf(port).connectionsOpened.increment();
+    }
+
+    /**
+     * Method invoked when a connection has been closed
+     *
+     * @param port: the port of the connection
+     */
+    @Override
+    public void onConnectionClosed(int port) {
+        metricsOf(port).connectionsClosed.increment();
+    }
+
+    /**
+     * Method invoked when some bytes have been read from a connection
+     *
+     * @param port:  the port of the connection
+     * @param bytes: the number of the bytes read
+     */
+    @Override
+    public void onBytesRead(int port, long bytes) {
+        metricsOf(port).bytesRead.add(bytes);
+    }
+
+    /**
+     * Method invoked when some bytes have been written to a connection
+     *
+     * @param port:  the port of the connection
+     * @param bytes: the number of the bytes written
+     */
+    @Override
+    public void onBytesWritten(int port, long bytes) {
+        metricsOf(port).bytesWritten.add(bytes);
+    }
+
+    /**
+     * Method invoked when a content message or a frame has been read from a connection
+     *
+     * @param port:    the port of the connection
+     * @param latency: the time, in nanoseconds, spent to read the content
+     */
+    @Override
+    public void onFrameRead(int port, long latency) {
+        metricsOf(port).readLatency.record(latency);
+    }
+
+    /**
+     * Method invoked when a content message or a frame has been written to a connection
+     *
+     * @param port:    the port of the connection
+     * @param latency: the time, in nanoseconds, spent by the write operation which completed the content
+     */
+    @Override
+    public void onFrameWritten(int port, long latency) {
+        metricsOf(port).writeLatency.record(latency);
+    }
+
+    /**
+     * Method invoked when an error occurred in a connection
+     *
+     * @param port:  the port of the connection
+     * @param error: the error occurred
+     */
+    @Override
+    public void onError(int port, Throwable error) {
+        metricsOf(port).errors.computeIfAbsent(error.getClass().getSimpleName(), type -> new LongAdder()).increment();
+    }
+
+    /**
+     * Method to get the metrics of a port, creating them at the first use of the port
+     *
+     * @param port: the port of the metrics
+     * @return the metrics of the port as {@link PortMetrics}
+     */
+    private PortMetrics metricsOf(int port) {
+        PortMetrics metrics = portMetrics.get(port);
+        if (metrics == null)
+            metrics = portMetrics.computeIfAbsent(port, PortMetrics::new);
+        return metrics;
+    }
+
+    /**
+     * Method to get the ports with metrics collected <br>
+     * No-any params required
+     *
+     * @return the ports as {@link Set} of {@link Integer}
+     */
+    public Set<Integer> getPorts() {
+        return Collections.unmodifiableSet(portMetrics.keySet());
+    }
+
+    /**
+     * Method to get the metrics collected for a port
+     *
+     * @param port: the port of the metrics
+     * @return the metrics of the port as {@link PortMetrics}, null if nothing has been collected for the port
+     */
+    public PortMetrics getPortMetrics(int port) {
+        return portMetrics.get(port);
+    }
+
+    /**
+     * Method to reset all the metrics collected <br>
+     * No-any params required
+     */
+    public void reset() {
+        portMetrics.clear();
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        JSONObject metrics = new JSONObject();
+        for (PortMetrics current : portMetrics.values())
+            metrics.put(String.valueOf(current.port), new JSONObject(current.toString()));
+        return metrics.toString();
+    }
+
+    /**
+     * The {@code PortMetrics} class is useful to read the metrics collected for a port
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static final class PortMetrics {
+
+        /**
+         * {@code port} the port of the metrics
+         */
+        private final int port;
+
+        /**
+         * {@code connectionsOpened} the number of the connections opened
+         */
+        private final LongAdder connectionsOpened;
+
+        /**
+         * {@code connectionsClosed} the number of the connections closed
+         */
+        private final LongAdder connectionsClosed;
+
+        /**
+         * {@code bytesRead} the number of the bytes read
+         */
+        private final LongAdder bytesRead;
+
+        /**
+         * {@code bytesWritten} the number of the bytes written
+         */
+        private final LongAdder bytesWritten;
+
+        /**
+         * {@code readLatency} the latencies of the contents read
+         */
+        private final LatencyHistogram readLatency;
+
+        /**
+         * {@code writeLatency} the latencies of the contents written
+         */
+        private final LatencyHistogram writeLatency;
+
+        /**
+         * {@code errors} the number of the errors occurred for each type
+         */
+        private final ConcurrentHashMap<String, LongAdder> errors;
+
+        /**
+         * Constructor to init {@link PortMetrics}
+         *
+         * @param port: the port of the metrics
+         */
+        private PortMetrics(int port) {
+            this.port = port;
+            connectionsOpened = new LongAdder();
+            connectionsClosed = new LongAdder();
+            bytesRead = new LongAdder();
+            bytesWritten = new LongAdder();
+            readLatency = new LatencyHistogram();
+            writeLatency = new LatencyHistogram();
+            errors = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Method to get {@link #port} instance <br>
+         * No-any params required
+         *
+         * @return {@link #port} instance as int
+         */
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * Method to get the number of the connections opened <br>
+         * No-any params required
+         *
+         * @return the number of the connections opened as long
+         */
+        public long getConnectionsOpened() {
+            return connectionsOpened.sum();
+        }
+
+        /**
+         * Method to get the number of the connections closed <br>
+         * No-any params required
+         *
+         * @return the number of the connections closed as long
+         */
+        public long getConnectionsClosed() {
+            return connectionsClosed.sum();
+        }
+
+        /**
+         * Method to get the number of the connections currently open <br>
+         * No-any params required
+         *
+         * @return the number of the connections currently open as long
+         */
+        public long getActiveConnections() {
+            return Math.max(connectionsOpened.sum() - connectionsClosed.sum(), 0);
+        }
+
+        /**
+         * Method to get the number of the contents read <br>
+         * No-any params required
+         *
+         * @return the number of the contents read as long
+         */
+        public long getFramesRead() {
+            return readLatency.getCount();
+        }
+
+        /**
+         * Method to get the number of the contents written <br>
+         * No-any params required
+         *
+         * @return the number of the contents written as long
+         */
+        public long getFramesWritten() {
+            return writeLatency.getCount();
+        }
+
+        /**
+         * Method to get the number of the bytes read <br>
+         * No-any params required
+         *
+         * @return the number of the bytes read as long
+         */
+        public long getBytesRead() {
+            return bytesRead.sum();
+        }
+
+        /**
+         * Method to get the number of the bytes written <br>
+         * No-any params required
+         *
+         * @return the number of the bytes written as long
+         */
+        public long getBytesWritten() {
+            return bytesWritten.sum();
+        }
+
+        /**
+         * Method to get {@link #readLatency} instance <br>
+         * No-any params required
+         *
+         * @return {@link #readLatency} instance as {@link LatencyHistogram}
+         */
+        public LatencyHistogram getReadLatency() {
+            return readLatency;
+        }
+
+        /**
+         * Method to get {@link #writeLatency} instance <br>
+         * No-any params required
+         *
+         * @return {@link #writeLatency} instance as {@link LatencyHistogram}
+         */
+        public LatencyHistogram getWriteLatency() {
+            return writeLatency;
+        }
+
+        /**
+         * Method to get the number of the errors occurred for each type <br>
+         * No-any params required
+         *
+         * @return the number of the errors by simple name of their class as {@link Map} of {@link Long}
+         */
+        public Map<String, Long> getErrors() {
+            HashMap<String, Long> errorsByType = new HashMap<>();
+            errors.forEach((type, count) -> errorsByType.put(type, count.sum()));
+            return errorsByType;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject()
+                    .put("port", port)
+                    .put("connectionsOpened", getConnectionsOpened())
+                    .put("connectionsClosed", getConnectionsClosed())
+                    .put("activeConnections", getActiveConnections())
+                    .put("framesRead", getFramesRead())
+                    .put("framesWritten", getFramesWritten())
+                    .put("bytesRead", getBytesRead())
+                    .put("bytesWritten", getBytesWritten())
+                    .put("readLatency", new JSONObject(readLatency.toString()))
+                    .put("writeLatency", new JSONObject(writeLatency.toString()))
+                    .put("errors", getErrors())
+                    .toString();
+        }
+
+    }
+
+    /**
+     * The {@code LatencyHistogram} class is useful to collect latencies in buckets with power of two bounds, so each
+     * latency is recorded with a single increment and the percentiles are approximated by excess at most by a factor
+     * of two
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static final class LatencyHistogram {
+
+        /**
+         * {@code BUCKETS} is constant that contains the number of the buckets, one for each bit of a latency
+         */
+        private static final int BUCKETS = 64;
+
+        /**
+         * {@code buckets} the number of the latencies recorded in each bucket, the bucket {@code n} contains the
+         * latencies lower than {@code 2^n} nanoseconds and not lower than {@code 2^(n-1)} nanoseconds
+         */
+        private final LongAdder[] buckets;
+
+        /**
+         * {@code total} the sum of the latencies recorded
+         */
+        private final LongAdder total;
+
+        /**
+         * {@code max} the max latency recorded
+         */
+        private final LongAccumulator max;
+
+        /**
+         * Constructor to init {@link LatencyHistogram} <br>
+         * No-any params required
+         */
+        public LatencyHistogram() {
+            buckets = new LongAdder[BUCKETS];
+            for (int j = 0; j < BUCKETS; j++)
+                buckets[j] = new LongAdder();
+            total = new LongAdder();
+            max = new LongAccumulator(Math::max, 0);
+        }
+
+        /**
+         * Method to record a latency
+         *
+         * @param latency: the latency to record, in nanoseconds
+         */
+        public void record(long latency) {
+            if (latency < 0)
+                latency = 0;
+            buckets[Math.min(BUCKETS - Long.numberOfLeadingZeros(latency), BUCKETS - 1)].increment();
+            total.add(latency);
+            max.accumulate(latency);
+        }
+
+        /**
+         * Method to get the number of the latencies recorded <br>
+         * No-any params required
+         *
+         * @return the number of the latencies recorded as long
+         */
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets)
+                count += bucket.sum();
+            return count;
+        }
+
+        /**
+         * Method to get the mean of the latencies recorded <br>
+         * No-any params required
+         *
+         * @return the mean of the latencies recorded, in nanoseconds, as double
+         */
+        public double getMean() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) total.sum() / count;
+        }
+
+        /**
+         * Method to get the max latency recorded <br>
+         * No-any params required
+         *
+         * @return the max latency recorded, in nanoseconds, as long
+         */
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Method to get a percentile of the latencies recorded
+         *
+         * @param percentile: the percentile to get, between 0 and 100
+         * @return the upper bound of the bucket which contains the percentile, in nanoseconds, as long, but never
+         * greater than the {@link #getMax()} value
+         */
+        public long getPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100)
+                throw new IllegalArgumentException("The percentile must be between 0 and 100");
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int j = 0; j < BUCKETS; j++)
+                count += counts[j] = buckets[j].sum();
+            if (count == 0)
+                return 0;
+            long rank = (long) Math.ceil(percentile / 100 * count);
+            long seen = 0;
+            for (int j = 0; j < BUCKETS; j++) {
+                seen += counts[j];
+                if (seen >= rank && counts[j] > 0)
+                    return Math.min(j == BUCKETS - 1 ? Long.MAX_VALUE : (1L << j) - 1, getMax());
+            }
+            return getMax();
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the object as {@link String}
+         */
+        @Override
+        public String toString() {
+            return new JSONObject()
+                    .put("count", getCount())
+                    .put("mean", getMean())
+                    .put("p50", getPercentile(50))
+                    .put("p99", getPercentile(99))
+                    .put("max", getMax())
+                    .toString();
+        }
+
+    }
+
+}
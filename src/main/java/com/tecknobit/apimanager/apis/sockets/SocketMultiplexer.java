@@ -0,0 +1,406 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.tecknobit.apimanager.apis.sockets.SocketManager.Framing.LENGTH_PREFIXED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code SocketMultiplexer} class is useful to send many concurrent requests to a peer over a single connection,
+ * each request is tagged with a correlation id and its response completes the {@link CompletableFuture} of the
+ * request, whatever is the order of the responses
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // server side: the responses can be sent later and from any thread
+ *         SocketManager server = new SocketManager(true);
+ *         server.startRequestEngine(1000, request -> executor.execute(() -> {
+ *             request.reply(makeSomething(request.getContent()));
+ *         }));
+ *
+ *         // client side: one connection for the peer, many requests in flight
+ *         SocketManager client = new SocketManager("localhost", 1000);
+ *         SocketMultiplexer multiplexer = client.openMultiplexer();
+ *         CompletableFuture<String> first = multiplexer.request("first");
+ *         CompletableFuture<String> second = multiplexer.request("second", 5000);
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote each content message is sent as {@code "<correlationId>|<content>"} and then formatted by the
+ * {@link SocketManager} as the other content messages, so it is encrypted when the manager is an encrypted one and uses
+ * the {@link SocketManager.Framing} of the manager, which must be the same of the server
+ * @see SocketManager#openMultiplexer()
+ * @see SocketManager#startRequestEngine(int, RequestHandler)
+ * @since 2.2.5
+ */
+public class SocketMultiplexer implements Closeable {
+
+    /**
+     * {@code CORRELATION_SEPARATOR} is constant that contains the separator between the correlation id and the content
+     */
+    public static final char CORRELATION_SEPARATOR = '|';
+
+    /**
+     * {@code manager} the manager which formats the contents
+     */
+    private final SocketManager manager;
+
+    /**
+     * {@code connection} the connection with the peer
+     */
+    private final SocketConnection connection;
+
+    /**
+     * {@code lengthPrefixed} whether the contents are exchanged as length-prefixed frames instead of lines
+     */
+    private final boolean lengthPrefixed;
+
+    /**
+     * {@code pendingRequests} the requests waiting for their responses by correlation id
+     */
+    private final ConcurrentHashMap<Long, CompletableFuture<String>> pendingRequests;
+
+    /**
+     * {@code correlationIds} the generator of the correlation ids
+     */
+    private final AtomicLong correlationIds;
+
+    /**
+     * {@code reader} the thread which reads the responses
+     */
+    private final Thread reader;
+
+    /**
+     * {@code closed} whether the multiplexer has been closed
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor to init {@link SocketMultiplexer}
+     *
+     * @param manager: the manager which formats the contents
+     * @param host:    host of the peer
+     * @param port:    port of the peer
+     * @throws IOException when the connection cannot be established
+     */
+    SocketMultiplexer(SocketManager manager, String host, int port) throws IOException {
+        this.manager = manager;
+        connection = new SocketConnection(host, port, SocketConnectionPool.DEFAULT_CONNECT_TIMEOUT);
+        connection.bindMetrics(manager.getMetrics(), port);
+        lengthPrefixed = manager.getFraming() == LENGTH_PREFIXED;
+        pendingRequests = new ConcurrentHashMap<>();
+        correlationIds = new AtomicLong();
+        reader = new Thread(this::readResponses, "SocketMultiplexer-" + host + ":" + port);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * Method to send a request to the peer
+     *
+     * @param content: content message to send
+     * @return the future of the response as {@link CompletableFuture} of {@link String}, it completes exceptionally
+     * if the connection is lost before the response
+     * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
+     */
+    @Wrapper
+    public <T> CompletableFuture<String> request(T content) {
+        return request(content, 0);
+    }
+
+    /**
+     * Method to send a request to the peer
+     *
+     * @param content: content message to send
+     * @param timeout: the max time, in milliseconds, to wait for the response, 0 to wait indefinitely
+     * @return the future of the response as {@link CompletableFuture} of {@link String}, it completes exceptionally
+     * with a {@link java.util.concurrent.TimeoutException} if the timeout elapses and with an {@link IOException} if
+     * the connection is lost before the response
+     * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
+     */
+    public <T> CompletableFuture<String> request(T content, long timeout) {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        if (closed) {
+            response.completeExceptionally(new IOException("The multiplexer has been closed"));
+            return response;
+        }
+        long correlationId = correlationIds.incrementAndGet();
+        pendingRequests.put(correlationId, response);
+        response.whenComplete((result, error) -> pendingRequests.remove(correlationId));
+        if (timeout > 0)
+            response.orTimeout(timeout, MILLISECONDS);
+        try {
+            String message = manager.encodeContent(correlationId + "" + CORRELATION_SEPARATOR + content);
+            synchronized (connection) {
+                if (lengthPrefixed)
+                    connection.writeFrame(ByteBuffer.wrap(message.getBytes(UTF_8)));
+                else
+                    connection.writeLine(message);
+            }
+        } catch (IOException e) {
+            close(e);
+        } catch (Exception e) {
+            response.completeExceptionally(e);
+        }
+        return response;
+    }
+
+    /**
+     * Method to read the responses and to complete their requests, executed by the {@link #reader} thread <br>
+     * No-any params required
+     */
+    private void readResponses() {
+        IOException cause = new IOException("The connection has been closed by the peer");
+        try {
+            while (!closed) {
+                String message;
+                if (lengthPrefixed) {
+                    byte[] payload = connection.readFrame();
+                    message = payload != null ? new String(payload, UTF_8) : null;
+                } else
+                    message = connection.readLine();
+                if (message == null)
+                    break;
+                complete(manager.decodeContent(message));
+            }
+        } catch (IOException e) {
+            cause = e;
+        } catch (Exception e) {
+            cause = new IOException(e);
+        }
+        close(cause);
+    }
+
+    /**
+     * Method to complete the request of a response
+     *
+     * @param message: the response received, with its correlation id
+     */
+    private void complete(String message) {
+        int separator = message.indexOf(CORRELATION_SEPARATOR);
+        if (separator <= 0)
+            return;
+        try {
+            CompletableFuture<String> response = pendingRequests.remove(Long.parseLong(message.substring(0, separator)));
+            if (response != null)
+                response.complete(message.substring(separator + 1));
+        } catch (NumberFormatException ignored) {
+        }
+    }
+
+    /**
+     * Method to get the number of the requests waiting for their responses <br>
+     * No-any params required
+     *
+     * @return the number of the requests waiting for their responses as int
+     */
+    public int getPendingRequests() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Method to get the connection with the peer <br>
+     * No-any params required
+     *
+     * @return the connection as {@link SocketConnection}
+     */
+    public SocketConnection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Method to get whether the multiplexer can send requests <br>
+     * No-any params required
+     *
+     * @return whether the multiplexer can send requests as boolean
+     */
+    public boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Method to close the multiplexer, the requests waiting for their responses complete exceptionally <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        close(new IOException("The multiplexer has been closed"));
+    }
+
+    /**
+     * Method to close the multiplexer
+     *
+     * @param cause: the cause used to complete exceptionally the requests waiting for their responses
+     */
+    private void close(IOException cause) {
+        closed = true;
+        connection.close();
+        for (Long correlationId : pendingRequests.keySet()) {
+            CompletableFuture<String> response = pendingRequests.remove(correlationId);
+            if (response != null)
+                response.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Method to create the handler of the sessions which dispatches the requests sent by the multiplexers
+     *
+     * @param handler: the handler of the requests
+     * @return the handler of the sessions as {@link SocketEngine.SessionHandler}
+     * @apiNote a content without a valid correlation id closes its session
+     */
+    public static SocketEngine.SessionHandler handlerOf(RequestHandler handler) {
+        return (session, content) -> {
+            int separator = content.indexOf(CORRELATION_SEPARATOR);
+            long correlationId;
+            try {
+                correlationId = separator > 0 ? Long.parseLong(content.substring(0, separator)) : -1;
+            } catch (NumberFormatException e) {
+                correlationId = -1;
+            }
+            if (correlationId < 0)
+                throw new IllegalArgumentException("The content has not a valid correlation id");
+            session.beginRequest();
+            handler.onRequest(new Request(session, correlationId, content.substring(separator + 1)));
+        };
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("connection", connection)
+                .put("pendingRequests", getPendingRequests())
+                .put("open", isOpen())
+                .toString();
+    }
+
+    /**
+     * The {@code RequestHandler} interface is useful to serve the requests sent by the {@link SocketMultiplexer}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    @FunctionalInterface
+    public interface RequestHandler {
+
+        /**
+         * Method invoked when a request has been received, it is executed by an I/O thread of the engine, so it must
+         * not block: the response can be sent later, from any thread, with {@link Request#reply(Object)}
+         *
+         * @param request: the request received
+         * @throws Exception when an error occurred, the session of the request will be closed
+         */
+        void onRequest(Request request) throws Exception;
+
+    }
+
+    /**
+     * The {@code Request} class is useful to reply to a request sent by a {@link SocketMultiplexer}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static final class Request {
+
+        /**
+         * {@code session} the session which received the request
+         */
+        private final SocketEngine.SocketSession session;
+
+        /**
+         * {@code correlationId} the correlation id of the request
+         */
+        private final long correlationId;
+
+        /**
+         * {@code content} the content of the request
+         */
+        private final String content;
+
+        /**
+         * {@code replied} whether the request has been replied
+         */
+        private final AtomicBoolean replied;
+
+        /**
+         * Constructor to init {@link Request}
+         *
+         * @param session:       the session which received the request
+         * @param correlationId: the correlation id of the request
+         * @param content:       the content of the request
+         */
+        private Request(SocketEngine.SocketSession session, long correlationId, String content) {
+            this.session = session;
+            this.correlationId = correlationId;
+            this.content = content;
+            replied = new AtomicBoolean();
+        }
+
+        /**
+         * Method to send the response of the request
+         *
+         * @param response: the content message of the response
+         * @throws Exception when the response cannot be sent, for example when the session has been closed
+         * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent, a
+         * graceful shutdown of the engine waits for the reply of the requests received
+         */
+        public <T> void reply(T response) throws Exception {
+            try {
+                session.writeContent(correlationId + "" + CORRELATION_SEPARATOR + response);
+            } finally {
+                if (replied.compareAndSet(false, true))
+                    session.endRequest();
+            }
+        }
+
+        /**
+         * Method to get {@link #session} instance <br>
+         * No-any params required
+         *
+         * @return {@link #session} instance as {@link SocketEngine.SocketSession}
+         */
+        public SocketEngine.SocketSession getSession() {
+            return session;
+        }
+
+        /**
+         * Method to get {@link #correlationId} instance <br>
+         * No-any params required
+         *
+         * @return {@link #correlationId} instance as long
+         */
+        public long getCorrelationId() {
+            return correlationId;
+        }
+
+        /**
+         * Method to get {@link #content} instance <br>
+         * No-any params required
+         *
+         * @return {@link #content} instance as {@link String}
+         */
+        public String getContent() {
+            return content;
+        }
+
+    }
+
+}
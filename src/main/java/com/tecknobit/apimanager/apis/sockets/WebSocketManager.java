@@ -0,0 +1,737 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import okhttp3.*;
+import okio.ByteString;
+import org.json.JSONObject;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code WebSocketManager} class is useful to dynamically manage streaming communication by web sockets, sharing
+ * a single connection for each endpoint and multiplexing over it all the subscriptions made to that endpoint
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the usage at <a href="https://github.com/N7ghtm4r3/APIManager/blob/main/documd/WebSocketManager.md">WebSocketManager.md</a>
+ * @implNote this class is built on the {@link WebSocket} support of the {@code "OkHttp"} library, the connections are
+ * kept alive with the ping/pong frames of the protocol and, when a connection drops, it will be automatically
+ * reconnected and all its subscriptions will be sent again
+ * @see SocketManager
+ * @since 2.2.5
+ */
+public class WebSocketManager {
+
+    /**
+     * {@code DEFAULT_PING_INTERVAL} is constant that contains the default interval, in milliseconds, between two
+     * ping frames
+     */
+    public static final long DEFAULT_PING_INTERVAL = 20000;
+
+    /**
+     * {@code DEFAULT_RECONNECTION_DELAY} is constant that contains the default delay, in milliseconds, before the
+     * first reconnection attempt
+     */
+    public static final long DEFAULT_RECONNECTION_DELAY = 1000;
+
+    /**
+     * {@code MAX_RECONNECTION_DELAY} is constant that contains the max delay, in milliseconds, between two
+     * reconnection attempts
+     */
+    public static final long MAX_RECONNECTION_DELAY = 30000;
+
+    /**
+     * {@code NORMAL_CLOSURE_CODE} is constant that contains the status code used to close a connection normally
+     */
+    public static final int NORMAL_CLOSURE_CODE = 1000;
+
+    /**
+     * {@code okHttpClient} the http client shared by all the connections of this manager
+     */
+    private final OkHttpClient okHttpClient;
+
+    /**
+     * {@code connections} the shared connections opened by this manager, one for each endpoint
+     */
+    private final ConcurrentHashMap<String, StreamConnection> connections;
+
+    /**
+     * {@code scheduler} used to schedule the reconnections and the heartbeats of the connections
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * {@code reconnectionDelay} the delay, in milliseconds, before the first reconnection attempt
+     */
+    private volatile long reconnectionDelay;
+
+    /**
+     * Constructor to init {@link WebSocketManager} <br>
+     * No-any params required
+     *
+     * @apiNote the ping interval will be {@link #DEFAULT_PING_INTERVAL}
+     */
+    public WebSocketManager() {
+        this(DEFAULT_PING_INTERVAL);
+    }
+
+    /**
+     * Constructor to init {@link WebSocketManager}
+     *
+     * @param pingInterval: interval, in milliseconds, between two ping frames, if a pong is not received in time the
+     *                      connection will be considered dropped and will be reconnected
+     */
+    public WebSocketManager(long pingInterval) {
+        this(new OkHttpClient.Builder()
+                .pingInterval(pingInterval, MILLISECONDS)
+                .readTimeout(0, MILLISECONDS)
+                .build());
+    }
+
+    /**
+     * Constructor to init {@link WebSocketManager}
+     *
+     * @param okHttpClient: the http client to use for the connections, its ping interval will be used to keep alive
+     *                      the connections
+     */
+    public WebSocketManager(OkHttpClient okHttpClient) {
+        this.okHttpClient = okHttpClient;
+        connections = new ConcurrentHashMap<>();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "WebSocketManager-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconnectionDelay = DEFAULT_RECONNECTION_DELAY;
+    }
+
+    /**
+     * Method to get the shared connection to an endpoint, if the connection does not exist yet will be opened
+     *
+     * @param url: the url of the endpoint, e.g. wss://stream.example.com/ws
+     * @return the shared connection as {@link StreamConnection}
+     */
+    @Wrapper
+    public StreamConnection connect(String url) {
+        return connect(url, null);
+    }
+
+    /**
+     * Method to get the shared connection to an endpoint, if the connection does not exist yet will be opened
+     *
+     * @param url:           the url of the endpoint, e.g. wss://stream.example.com/ws
+     * @param topicResolver: the resolver used to route the incoming frames to their subscriptions, if {@code "null"}
+     *                       each frame will be dispatched to all the subscriptions of the connection
+     * @return the shared connection as {@link StreamConnection}
+     * @apiNote if the connection already exists the {@code "topicResolver"} will be ignored and will be returned the
+     * connection already opened
+     */
+    public StreamConnection connect(String url, TopicResolver topicResolver) {
+        while (true) {
+            StreamConnection connection = connections.computeIfAbsent(url,
+                    key -> new StreamConnection(key, topicResolver));
+            if (connection.acquire())
+                return connection;
+            connections.remove(url, connection);
+        }
+    }
+
+    /**
+     * Method to release a connection obtained with {@link #connect(String)}, when all its users released it, the
+     * connection will be closed
+     *
+     * @param connection: the connection to release
+     */
+    public void disconnect(StreamConnection connection) {
+        if (connection.release())
+            connections.remove(connection.url, connection);
+    }
+
+    /**
+     * Method to close all the connections of this manager <br>
+     * No-any params required
+     */
+    public void closeAllConnections() {
+        for (StreamConnection connection : connections.values())
+            connection.close();
+        connections.clear();
+    }
+
+    /**
+     * Method to close all the connections and release the resources of this manager <br>
+     * No-any params required
+     */
+    public void shutdown() {
+        closeAllConnections();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Method to set the delay before the first reconnection attempt, the next attempts will double it until
+     * {@link #MAX_RECONNECTION_DELAY}
+     *
+     * @param reconnectionDelay: the delay in milliseconds
+     */
+    public void setReconnectionDelay(long reconnectionDelay) {
+        if (reconnectionDelay <= 0)
+            throw new IllegalArgumentException("The reconnection delay must be positive");
+        this.reconnectionDelay = reconnectionDelay;
+    }
+
+    /**
+     * Method to get {@link #reconnectionDelay} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reconnectionDelay} instance as long
+     */
+    public long getReconnectionDelay() {
+        return reconnectionDelay;
+    }
+
+    /**
+     * Method to get the connections currently opened by this manager <br>
+     * No-any params required
+     *
+     * @return connections as {@link Collection} of {@link StreamConnection}
+     */
+    public Collection<StreamConnection> getConnections() {
+        return connections.values();
+    }
+
+    /**
+     * Method to get {@link #okHttpClient} instance <br>
+     * No-any params required
+     *
+     * @return {@link #okHttpClient} instance as {@link OkHttpClient}
+     */
+    public OkHttpClient getOkHttpClient() {
+        return okHttpClient;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("connections", connections.keySet())
+                .put("reconnectionDelay", reconnectionDelay)
+                .toString();
+    }
+
+    /**
+     * The {@code FrameHandler} interface is useful to handle the frames received by a subscription
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @implNote the frames are handed as received from the connection, without any copy, so the handlers should be
+     * fast or move the heavy work to another thread to not stall the connection
+     * @since 2.2.5
+     */
+    public interface FrameHandler {
+
+        /**
+         * Method to handle a text frame
+         *
+         * @param frame: the text frame received
+         */
+        void onTextFrame(String frame);
+
+        /**
+         * Method to handle a binary frame
+         *
+         * @param frame: the binary frame received
+         * @apiNote by default the binary frames will be ignored
+         */
+        default void onBinaryFrame(ByteString frame) {
+        }
+
+    }
+
+    /**
+     * The {@code TopicResolver} interface is useful to fetch from an incoming frame the topic of the subscription
+     * which that frame belongs
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public interface TopicResolver {
+
+        /**
+         * Method to resolve the topic of a text frame
+         *
+         * @param frame: the text frame received
+         * @return the topic of the frame as {@link String}, {@code "null"} to dispatch the frame to all the subscriptions
+         */
+        String resolveTopic(String frame);
+
+        /**
+         * Method to resolve the topic of a binary frame
+         *
+         * @param frame: the binary frame received
+         * @return the topic of the frame as {@link String}, {@code "null"} to dispatch the frame to all the subscriptions
+         * @apiNote by default the binary frames will be dispatched to all the subscriptions
+         */
+        default String resolveTopic(ByteString frame) {
+            return null;
+        }
+
+    }
+
+    /**
+     * The {@code Subscription} class is useful to store the details of a subscription made on a {@link StreamConnection}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static class Subscription {
+
+        /**
+         * {@code topic} of the subscription
+         */
+        private final String topic;
+
+        /**
+         * {@code subscribeMessage} the message to send to subscribe to the {@link #topic}
+         */
+        private final String subscribeMessage;
+
+        /**
+         * {@code unsubscribeMessage} the message to send to unsubscribe from the {@link #topic}
+         */
+        private final String unsubscribeMessage;
+
+        /**
+         * {@code handler} of the frames of the subscription
+         */
+        private final FrameHandler handler;
+
+        /**
+         * Constructor to init {@link Subscription}
+         *
+         * @param topic:              topic of the subscription
+         * @param subscribeMessage:   the message to send to subscribe to the topic
+         * @param unsubscribeMessage: the message to send to unsubscribe from the topic
+         * @param handler:            handler of the frames of the subscription
+         */
+        public Subscription(String topic, String subscribeMessage, String unsubscribeMessage, FrameHandler handler) {
+            this.topic = topic;
+            this.subscribeMessage = subscribeMessage;
+            this.unsubscribeMessage = unsubscribeMessage;
+            this.handler = handler;
+        }
+
+        /**
+         * Method to get {@link #topic} instance <br>
+         * No-any params required
+         *
+         * @return {@link #topic} instance as {@link String}
+         */
+        public String getTopic() {
+            return topic;
+        }
+
+        /**
+         * Method to get {@link #subscribeMessage} instance <br>
+         * No-any params required
+         *
+         * @return {@link #subscribeMessage} instance as {@link String}
+         */
+        public String getSubscribeMessage() {
+            return subscribeMessage;
+        }
+
+        /**
+         * Method to get {@link #unsubscribeMessage} instance <br>
+         * No-any params required
+         *
+         * @return {@link #unsubscribeMessage} instance as {@link String}
+         */
+        public String getUnsubscribeMessage() {
+            return unsubscribeMessage;
+        }
+
+        /**
+         * Method to get {@link #handler} instance <br>
+         * No-any params required
+         *
+         * @return {@link #handler} instance as {@link FrameHandler}
+         */
+        public FrameHandler getHandler() {
+            return handler;
+        }
+
+    }
+
+    /**
+     * The {@code StreamConnection} class is useful to manage a single web socket connection shared between all the
+     * subscriptions made to the same endpoint
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public class StreamConnection extends WebSocketListener {
+
+        /**
+         * {@code url} of the endpoint
+         */
+        private final String url;
+
+        /**
+         * {@code topicResolver} the resolver used to route the incoming frames
+         */
+        private final TopicResolver topicResolver;
+
+        /**
+         * {@code subscriptions} the subscriptions multiplexed over this connection
+         */
+        private final ConcurrentHashMap<String, Subscription> subscriptions;
+
+        /**
+         * {@code webSocket} the current web socket of the connection
+         */
+        private volatile WebSocket webSocket;
+
+        /**
+         * {@code connected} whether the connection is currently opened
+         */
+        private volatile boolean connected;
+
+        /**
+         * {@code closed} whether the connection has been closed by the user and must not be reconnected
+         */
+        private volatile boolean closed;
+
+        /**
+         * {@code users} the number of users which are sharing this connection
+         */
+        private int users;
+
+        /**
+         * {@code reconnectionAttempts} the number of consecutive reconnection attempts made
+         */
+        private int reconnectionAttempts;
+
+        /**
+         * {@code heartbeat} the scheduled heartbeat of the connection, if set
+         */
+        private ScheduledFuture<?> heartbeat;
+
+        /**
+         * Constructor to init {@link StreamConnection}
+         *
+         * @param url:           url of the endpoint
+         * @param topicResolver: the resolver used to route the incoming frames
+         */
+        private StreamConnection(String url, TopicResolver topicResolver) {
+            this.url = url;
+            this.topicResolver = topicResolver;
+            subscriptions = new ConcurrentHashMap<>();
+            open();
+        }
+
+        /**
+         * Method to open the web socket of the connection <br>
+         * No-any params required
+         */
+        private synchronized void open() {
+            webSocket = okHttpClient.newWebSocket(new Request.Builder().url(url).build(), this);
+        }
+
+        /**
+         * Method to register a new user of the connection <br>
+         * No-any params required
+         *
+         * @return whether the user has been registered, {@code "false"} if the connection has been already closed
+         */
+        private synchronized boolean acquire() {
+            if (closed)
+                return false;
+            users++;
+            return true;
+        }
+
+        /**
+         * Method to unregister a user of the connection and close it if there are no more users <br>
+         * No-any params required
+         *
+         * @return whether the connection has been closed
+         */
+        private synchronized boolean release() {
+            if (--users <= 0) {
+                close();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Method to subscribe to a topic of the connection
+         *
+         * @param topic:            topic to subscribe
+         * @param subscribeMessage: the message to send to subscribe to the topic
+         * @param handler:          handler of the frames of the subscription
+         * @return the subscription created as {@link Subscription}
+         */
+        @Wrapper
+        public Subscription subscribe(String topic, String subscribeMessage, FrameHandler handler) {
+            return subscribe(topic, subscribeMessage, null, handler);
+        }
+
+        /**
+         * Method to subscribe to a topic of the connection
+         *
+         * @param topic:              topic to subscribe
+         * @param subscribeMessage:   the message to send to subscribe to the topic
+         * @param unsubscribeMessage: the message to send to unsubscribe from the topic
+         * @param handler:            handler of the frames of the subscription
+         * @return the subscription created as {@link Subscription}
+         * @apiNote the {@code "subscribeMessage"} will be automatically sent again each time the connection will be
+         * reconnected
+         */
+        public Subscription subscribe(String topic, String subscribeMessage, String unsubscribeMessage,
+                                      FrameHandler handler) {
+            if (topic == null || handler == null)
+                throw new IllegalArgumentException("The topic and the handler of the subscription cannot be null");
+            Subscription subscription = new Subscription(topic, subscribeMessage, unsubscribeMessage, handler);
+            if (subscriptions.putIfAbsent(topic, subscription) != null)
+                throw new IllegalStateException("You are already subscribed to the topic: [" + topic + "]");
+            if (connected && subscribeMessage != null)
+                webSocket.send(subscribeMessage);
+            return subscription;
+        }
+
+        /**
+         * Method to unsubscribe from a topic of the connection
+         *
+         * @param topic: topic to unsubscribe
+         */
+        public void unsubscribe(String topic) {
+            Subscription subscription = subscriptions.remove(topic);
+            if (subscription != null && connected && subscription.unsubscribeMessage != null)
+                webSocket.send(subscription.unsubscribeMessage);
+        }
+
+        /**
+         * Method to send a text message through the connection
+         *
+         * @param message: message to send
+         * @return whether the message has been enqueued to be sent
+         */
+        public boolean send(String message) {
+            return connected && webSocket.send(message);
+        }
+
+        /**
+         * Method to send a binary message through the connection
+         *
+         * @param message: message to send
+         * @return whether the message has been enqueued to be sent
+         */
+        public boolean send(ByteString message) {
+            return connected && webSocket.send(message);
+        }
+
+        /**
+         * Method to periodically send a heartbeat message, useful with the services which require an application level
+         * ping beyond the ping/pong frames of the protocol
+         *
+         * @param message:  the heartbeat message to send
+         * @param interval: interval, in milliseconds, between two heartbeats
+         */
+        public synchronized void setHeartbeat(String message, long interval) {
+            if (heartbeat != null)
+                heartbeat.cancel(false);
+            heartbeat = scheduler.scheduleAtFixedRate(() -> send(message), interval, interval, MILLISECONDS);
+        }
+
+        /**
+         * Method to close the connection, it will not be reconnected anymore <br>
+         * No-any params required
+         */
+        public synchronized void close() {
+            closed = true;
+            connected = false;
+            if (heartbeat != null)
+                heartbeat.cancel(false);
+            webSocket.close(NORMAL_CLOSURE_CODE, null);
+        }
+
+        /**
+         * Method invoked when the web socket has been opened, all the subscriptions will be sent again
+         *
+         * @param webSocket: the web socket opened
+         * @param response:  the response of the handshake
+         */
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            synchronized (this) {
+                if (webSocket != this.webSocket || closed)
+                    return;
+                reconnectionAttempts = 0;
+                connected = true;
+            }
+            for (Subscription subscription : subscriptions.values())
+                if (subscription.subscribeMessage != null)
+                    webSocket.send(subscription.subscribeMessage);
+        }
+
+        /**
+         * Method invoked when a text frame has been received
+         *
+         * @param webSocket: the web socket which received the frame
+         * @param text:      the text frame received
+         */
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            String topic = topicResolver != null ? topicResolver.resolveTopic(text) : null;
+            if (topic != null) {
+                Subscription subscription = subscriptions.get(topic);
+                if (subscription != null)
+                    subscription.handler.onTextFrame(text);
+            } else {
+                for (Subscription subscription : subscriptions.values())
+                    subscription.handler.onTextFrame(text);
+            }
+        }
+
+        /**
+         * Method invoked when a binary frame has been received
+         *
+         * @param webSocket: the web socket which received the frame
+         * @param bytes:     the binary frame received
+         */
+        @Override
+        public void onMessage(WebSocket webSocket, ByteString bytes) {
+            String topic = topicResolver != null ? topicResolver.resolveTopic(bytes) : null;
+            if (topic != null) {
+                Subscription subscription = subscriptions.get(topic);
+                if (subscription != null)
+                    subscription.handler.onBinaryFrame(bytes);
+            } else {
+                for (Subscription subscription : subscriptions.values())
+                    subscription.handler.onBinaryFrame(bytes);
+            }
+        }
+
+        /**
+         * Method invoked when the remote peer is closing the web socket
+         *
+         * @param webSocket: the web socket which is closing
+         * @param code:      the status code of the closure
+         * @param reason:    the reason of the closure
+         * @apiNote the status code is echoed to the remote peer, if it cannot be sent, for example the {@code "1005"}
+         * code reported when the close frame of the peer has no status, the {@link #NORMAL_CLOSURE_CODE} is sent instead
+         */
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(isSendableCode(code) ? code : NORMAL_CLOSURE_CODE, null);
+        }
+
+        /**
+         * Method to check whether a status code can be sent in a close frame
+         *
+         * @param code: the status code to check
+         * @return whether the status code can be sent as boolean
+         * @implNote the codes out of the {@code "1000-4999"} range and the reserved ones, as {@code "1005"}, are
+         * rejected by the {@link WebSocket#close(int, String)} method
+         */
+        private boolean isSendableCode(int code) {
+            if (code < 1000 || code >= 5000)
+                return false;
+            return (code < 1004 || code > 1006) && (code < 1012 || code > 2999);
+        }
+
+        /**
+         * Method invoked when the web socket has been closed
+         *
+         * @param webSocket: the web socket closed
+         * @param code:      the status code of the closure
+         * @param reason:    the reason of the closure
+         */
+        @Override
+        public void onClosed(WebSocket webSocket, int code, String reason) {
+            scheduleReconnection(webSocket);
+        }
+
+        /**
+         * Method invoked when the web socket failed, for example when a pong has not been received in time
+         *
+         * @param webSocket: the web socket failed
+         * @param t:         the cause of the failure
+         * @param response:  the response of the handshake, if available
+         */
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            scheduleReconnection(webSocket);
+        }
+
+        /**
+         * Method to schedule the reconnection of the connection with an exponential delay
+         *
+         * @param webSocket: the web socket dropped
+         */
+        private synchronized void scheduleReconnection(WebSocket webSocket) {
+            if (webSocket != this.webSocket || closed || scheduler.isShutdown())
+                return;
+            connected = false;
+            long delay = Math.min(reconnectionDelay << Math.min(reconnectionAttempts, 16), MAX_RECONNECTION_DELAY);
+            reconnectionAttempts++;
+            scheduler.schedule(() -> {
+                synchronized (this) {
+                    if (!closed)
+                        open();
+                }
+            }, delay, MILLISECONDS);
+        }
+
+        /**
+         * Method to get {@link #url} instance <br>
+         * No-any params required
+         *
+         * @return {@link #url} instance as {@link String}
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * Method to get {@link #subscriptions} instance <br>
+         * No-any params required
+         *
+         * @return {@link #subscriptions} instance as {@link Collection} of {@link Subscription}
+         */
+        public Collection<Subscription> getSubscriptions() {
+            return subscriptions.values();
+        }
+
+        /**
+         * Method to get whether the connection is currently opened <br>
+         * No-any params required
+         *
+         * @return whether the connection is currently opened as boolean
+         */
+        public boolean isConnected() {
+            return connected;
+        }
+
+        /**
+         * Method to get the number of bytes enqueued to be sent <br>
+         * No-any params required
+         *
+         * @return the number of bytes enqueued as long
+         */
+        public long getQueueSize() {
+            return webSocket.queueSize();
+        }
+
+    }
+
+}
@@ -2,12 +2,12 @@ package com.tecknobit.apimanager.apis.sockets.encrypteds;
 
 import com.tecknobit.apimanager.apis.encryption.BaseCipher;
 import com.tecknobit.apimanager.apis.sockets.SocketManager;
+import com.tecknobit.apimanager.exceptions.ReservedSequenceException;
 
 import javax.crypto.BadPaddingException;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 
 /**
  * The {@code EncryptedSocketManager} class is useful to dynamically manage encrypted communication by sockets
@@ -55,17 +55,22 @@ public abstract class EncryptedSocketManager<T extends BaseCipher> extends Socke
      * @param targetSocket: target socket to use to send the content message
      * @param content:      content message to send
      * @throws Exception when some errors have been occurred
+     * @throws ReservedSequenceException when the content contains the reserved {@code "@-/-/-@"} sequence, nothing
+     *                                   is sent, so the connection can be still used
      * @apiNote will be accepted any objects, but will be called their {@code "toString()"}'s method to be sent
      */
     @Override
     public <V> void writeContentTo(Socket targetSocket, V content) throws Exception {
         String message = content.toString();
-        if (message.contains(NEW_LINE_REPLACER)) {
-            socket.close();
-            exit("\"@-/-/-@\" is a reserved char, please do not insert it");
+        if (framing == Framing.LENGTH_PREFIXED) {
+            writePlainContentTo(targetSocket, useCipher(cipher -> cipher.encryptBase64(message)));
+            return;
         }
+        if (message.contains(NEW_LINE_REPLACER))
+            throw new ReservedSequenceException(NEW_LINE_REPLACER);
 
-        writePlainContentTo(targetSocket, cipher.encryptBase64(message.replaceAll("\n", NEW_LINE_REPLACER)));
+        String escaped = message.replaceAll("\n", NEW_LINE_REPLACER);
+        writePlainContentTo(targetSocket, useCipher(cipher -> cipher.encryptBase64(escaped)));
     }
 
     /**
@@ -77,21 +82,73 @@ public abstract class EncryptedSocketManager<T extends BaseCipher> extends Socke
      */
     @Override
     public String readContent(Socket targetSocket) throws Exception {
-        String content = new BufferedReader(new InputStreamReader(targetSocket.getInputStream())).readLine();
+        String content = receiveContent(targetSocket);
         try {
-            content = cipher.decryptBase64(content);
+            String received = content;
+            content = useCipher(cipher -> cipher.decryptBase64(received));
         } catch (Exception e) {
             throw new Exception(e);
         } finally {
             lastContentRed = content;
         }
         if (!serverUse || content == null)
-            targetSocket.close();
-        if (content != null)
+            releaseSocket(targetSocket);
+        if (content != null && framing == Framing.LINE_DELIMITED)
             content = content.replaceAll(NEW_LINE_REPLACER, "\n");
         return content;
     }
 
+    /**
+     * Method to format a content message before sending it over the non-blocking sessions or the multiplexers, encrypting it
+     *
+     * @param content: the content message to format
+     * @return the content encrypted as {@link String}
+     * @throws Exception when the content cannot be encrypted
+     */
+    @Override
+    protected String encodeContent(String content) throws Exception {
+        String encoded = super.encodeContent(content);
+        return useCipher(cipher -> cipher.encryptBase64(encoded));
+    }
+
+    /**
+     * Method to restore a content message received over the non-blocking sessions or the multiplexers, decrypting it
+     *
+     * @param content: the content message received
+     * @return the content decrypted as {@link String}
+     * @throws Exception when the content cannot be decrypted
+     */
+    @Override
+    protected String decodeContent(String content) throws Exception {
+        return super.decodeContent(useCipher(cipher -> cipher.decryptBase64(content)));
+    }
+
+    /**
+     * Method to format a binary payload before sending it, encrypting it
+     *
+     * @param payload: the payload to format, from its position to its limit
+     * @return the payload encrypted as {@link ByteBuffer}
+     * @throws Exception when the payload cannot be encrypted
+     */
+    @Override
+    protected ByteBuffer encodeFrame(ByteBuffer payload) throws Exception {
+        byte[] plain = new byte[payload.remaining()];
+        payload.duplicate().get(plain);
+        return ByteBuffer.wrap(useCipher(cipher -> cipher.encrypt(plain)));
+    }
+
+    /**
+     * Method to restore a binary payload received, decrypting it
+     *
+     * @param payload: the payload received
+     * @return the payload decrypted as array of byte
+     * @throws Exception when the payload cannot be decrypted
+     */
+    @Override
+    protected byte[] decodeFrame(byte[] payload) throws Exception {
+        return useCipher(cipher -> cipher.decrypt(payload));
+    }
+
     /**
      * Method to read the last encrypted content message red in the stream with the socket request <br>
      * No-any params required
@@ -102,12 +159,28 @@ public abstract class EncryptedSocketManager<T extends BaseCipher> extends Socke
     @Override
     public String readLastContent() throws Exception {
         try {
-            return cipher.decryptBase64(lastContentRed);
+            String content = lastContentRed;
+            return useCipher(cipher -> cipher.decryptBase64(content));
         } catch (IllegalArgumentException | BadPaddingException e) {
             return lastContentRed;
         }
     }
 
+    /**
+     * Method to run an operation with the {@link #cipher}, the cipher is initialized for each encryption or decryption,
+     * so its uses are serialized to be shared between the blocking calls, the non-blocking sessions and the multiplexers
+     *
+     * @param operation: the operation to run with the cipher
+     * @return the result of the operation as {@link R}
+     * @throws Exception when the operation failed
+     */
+    private <R> R useCipher(CipherOperation<T, R> operation) throws Exception {
+        T current = cipher;
+        synchronized (current) {
+            return operation.runWith(current);
+        }
+    }
+
     /**
      * Method to set the {@link #cipher} instance
      *
@@ -128,4 +201,26 @@ public abstract class EncryptedSocketManager<T extends BaseCipher> extends Socke
         return cipher;
     }
 
+    /**
+     * The {@code CipherOperation} interface is useful to run an operation with the {@link #cipher} while holding its lock
+     *
+     * @param <C> the type of the cipher
+     * @param <R> the type of the result of the operation
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    @FunctionalInterface
+    private interface CipherOperation<C extends BaseCipher, R> {
+
+        /**
+         * Method to run the operation
+         *
+         * @param cipher: the cipher to use
+         * @return the result of the operation as {@link R}
+         * @throws Exception when the operation failed
+         */
+        R runWith(C cipher) throws Exception;
+
+    }
+
 }
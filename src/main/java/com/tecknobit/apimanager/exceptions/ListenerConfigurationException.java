@@ -0,0 +1,43 @@
+package com.tecknobit.apimanager.exceptions;
+
+/**
+ * The {@code ListenerConfigurationException} is an {@link IllegalStateException} thrown when a listener cannot be
+ * started with the current configuration, for example when its port is already used by another listener
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class ListenerConfigurationException extends IllegalStateException {
+
+    /**
+     * {@code serialVersionUID} is constant that contains the version of the serialized form of the exception
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code port} the port of the listener which cannot be started
+     */
+    private final int port;
+
+    /**
+     * Constructor to init {@link ListenerConfigurationException}
+     *
+     * @param port:    the port of the listener which cannot be started
+     * @param message: the message of the error
+     */
+    public ListenerConfigurationException(int port, String message) {
+        super(message);
+        this.port = port;
+    }
+
+    /**
+     * Method to get {@link #port} instance <br>
+     * No-any params required
+     *
+     * @return {@link #port} instance as int
+     */
+    public int getPort() {
+        return port;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.tecknobit.apimanager.exceptions;
+
+/**
+ * The {@code ReservedSequenceException} is an {@link IllegalArgumentException} thrown when a content message cannot
+ * be sent because it contains a sequence reserved by the communication
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class ReservedSequenceException extends IllegalArgumentException {
+
+    /**
+     * {@code serialVersionUID} is constant that contains the version of the serialized form of the exception
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code reservedSequence} the reserved sequence found in the content message
+     */
+    private final String reservedSequence;
+
+    /**
+     * Constructor to init {@link ReservedSequenceException}
+     *
+     * @param reservedSequence: the reserved sequence found in the content message
+     */
+    public ReservedSequenceException(String reservedSequence) {
+        super("\"" + reservedSequence + "\" is a reserved char, please do not insert it");
+        this.reservedSequence = reservedSequence;
+    }
+
+    /**
+     * Method to get {@link #reservedSequence} instance <br>
+     * No-any params required
+     *
+     * @return {@link #reservedSequence} instance as {@link String}
+     */
+    public String getReservedSequence() {
+        return reservedSequence;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.tecknobit.apimanager.exceptions;
+
+import java.io.IOException;
+
+/**
+ * The {@code SocketOverflowException} is an {@link IOException} thrown when a content cannot be queued to be sent
+ * because the outbound queue of its connection is full
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class SocketOverflowException extends IOException {
+
+    /**
+     * {@code serialVersionUID} is constant that contains the version of the serialized form of the exception
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code queuedContents} the number of the contents queued when the content has been rejected
+     */
+    private final int queuedContents;
+
+    /**
+     * Constructor to init {@link SocketOverflowException}
+     *
+     * @param queuedContents: the number of the contents queued when the content has been rejected
+     */
+    public SocketOverflowException(int queuedContents) {
+        super("The outbound queue is full: " + queuedContents + " contents are waiting to be sent");
+        this.queuedContents = queuedContents;
+    }
+
+    /**
+     * Method to get {@link #queuedContents} instance <br>
+     * No-any params required
+     *
+     * @return {@link #queuedContents} instance as int
+     */
+    public int getQueuedContents() {
+        return queuedContents;
+    }
+
+}
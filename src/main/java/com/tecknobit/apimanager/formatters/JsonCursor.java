@@ -0,0 +1,1120 @@
+package com.tecknobit.apimanager.formatters;
+
+import com.tecknobit.apimanager.trading.FixedDecimal;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static com.tecknobit.apimanager.formatters.JsonCursor.JsonToken.*;
+import static com.tecknobit.apimanager.formatters.JsonHelper.NUMERIC_DEF_VALUE_IF_MISSED;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code JsonCursor} class is useful to read a {@code "JSON"} source in streaming, pulling the values on demand
+ * with a token cursor, so large sources can be read without materializing them entirely
+ *
+ * <pre>
+ *     {@code
+ *
+ *         try (JsonCursor cursor = JsonHelper.stream(inputStream)) {
+ *             cursor.beginObject();
+ *             // skip all the values until the "bids" list without building them
+ *             if (cursor.seek("bids")) {
+ *                 cursor.beginArray();
+ *                 while (cursor.hasNext()) {
+ *                     cursor.beginArray();
+ *                     double price = cursor.nextDouble();
+ *                     double quantity = cursor.nextDouble();
+ *                     cursor.endArray();
+ *                 }
+ *                 cursor.endArray();
+ *             }
+ *         }
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the first significant character of the source determines whether it is an object or an array
+ * {@code "JSON"}, see {@link #peek()}
+ * @since 2.2.5
+ */
+public class JsonCursor implements Closeable {
+
+    /**
+     * {@code BUFFER_SIZE} is constant that memorizes the size of the buffer used to read the source
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * {@code EMPTY_DOCUMENT} is constant that memorizes the scope of a document not read yet
+     */
+    private static final int EMPTY_DOCUMENT = 0;
+
+    /**
+     * {@code NONEMPTY_DOCUMENT} is constant that memorizes the scope of a document with its root value read
+     */
+    private static final int NONEMPTY_DOCUMENT = 1;
+
+    /**
+     * {@code EMPTY_OBJECT} is constant that memorizes the scope of an object without names read
+     */
+    private static final int EMPTY_OBJECT = 2;
+
+    /**
+     * {@code DANGLING_NAME} is constant that memorizes the scope of an object with a name read and its value not
+     */
+    private static final int DANGLING_NAME = 3;
+
+    /**
+     * {@code NONEMPTY_OBJECT} is constant that memorizes the scope of an object with at least a value read
+     */
+    private static final int NONEMPTY_OBJECT = 4;
+
+    /**
+     * {@code EMPTY_ARRAY} is constant that memorizes the scope of an array without values read
+     */
+    private static final int EMPTY_ARRAY = 5;
+
+    /**
+     * {@code NONEMPTY_ARRAY} is constant that memorizes the scope of an array with at least a value read
+     */
+    private static final int NONEMPTY_ARRAY = 6;
+
+    /**
+     * {@code reader} the reader of the source
+     */
+    private final Reader reader;
+
+    /**
+     * {@code buffer} the buffer of the characters read from the source
+     */
+    private final char[] buffer;
+
+    /**
+     * {@code position} the position of the next character to read from the {@link #buffer}
+     */
+    private int position;
+
+    /**
+     * {@code limit} the number of characters available in the {@link #buffer}
+     */
+    private int limit;
+
+    /**
+     * {@code offset} the number of characters read from the source before the current {@link #buffer}
+     */
+    private long offset;
+
+    /**
+     * {@code scopes} the stack of the scopes of the values which are reading
+     */
+    private int[] scopes;
+
+    /**
+     * {@code depth} the number of the scopes in the {@link #scopes} stack
+     */
+    private int depth;
+
+    /**
+     * {@code peeked} the token peeked and not consumed yet, null if no token has been peeked
+     */
+    private JsonToken peeked;
+
+    /**
+     * {@code peekedBoolean} the value of the {@link JsonToken#BOOLEAN} token peeked
+     */
+    private boolean peekedBoolean;
+
+    /**
+     * {@code scratch} the builder used to read the strings with escapes and the numbers
+     */
+    private final StringBuilder scratch;
+
+    /**
+     * {@code stringPool} the pool used to share the instances of the names and of the strings read, null to not share
+     * them
+     */
+    private final StringPool stringPool;
+
+    /**
+     * Constructor to init {@link JsonCursor}
+     *
+     * @param source: the source to read
+     */
+    public JsonCursor(Reader source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructor to init {@link JsonCursor}
+     *
+     * @param source:     the source to read
+     * @param stringPool: the pool used to share the instances of the names and of the strings read
+     */
+    public JsonCursor(Reader source, StringPool stringPool) {
+        reader = source;
+        buffer = new char[BUFFER_SIZE];
+        scopes = new int[32];
+        scopes[depth++] = EMPTY_DOCUMENT;
+        scratch = new StringBuilder();
+        this.stringPool = stringPool;
+    }
+
+    /**
+     * Constructor to init {@link JsonCursor}
+     *
+     * @param source: the source to read, encoded in {@code "UTF-8"}
+     */
+    public JsonCursor(InputStream source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructor to init {@link JsonCursor}
+     *
+     * @param source:     the source to read, encoded in {@code "UTF-8"}
+     * @param stringPool: the pool used to share the instances of the names and of the strings read
+     */
+    public JsonCursor(InputStream source, StringPool stringPool) {
+        this(new InputStreamReader(source, UTF_8), stringPool);
+    }
+
+    /**
+     * Constructor to init {@link JsonCursor}
+     *
+     * @param source: the source to read
+     */
+    public JsonCursor(String source) {
+        this(new StringReader(source), null);
+    }
+
+    /**
+     * Method to get the type of the next token without consuming it <br>
+     * No-any params required
+     *
+     * @return the type of the next token as {@link JsonToken}
+     * @throws JSONException when the source is not a valid {@code "JSON"} source
+     */
+    public JsonToken peek() {
+        if (peeked == null)
+            peeked = doPeek();
+        return peeked;
+    }
+
+    /**
+     * Method to consume the beginning of an object <br>
+     * No-any params required
+     *
+     * @throws JSONException when the next token is not {@link JsonToken#BEGIN_OBJECT}
+     */
+    public void beginObject() {
+        expect(BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Method to consume the end of an object <br>
+     * No-any params required
+     *
+     * @throws JSONException when the next token is not {@link JsonToken#END_OBJECT}
+     */
+    public void endObject() {
+        expect(END_OBJECT);
+        depth--;
+    }
+
+    /**
+     * Method to consume the beginning of an array <br>
+     * No-any params required
+     *
+     * @throws JSONException when the next token is not {@link JsonToken#BEGIN_ARRAY}
+     */
+    public void beginArray() {
+        expect(BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Method to consume the end of an array <br>
+     * No-any params required
+     *
+     * @throws JSONException when the next token is not {@link JsonToken#END_ARRAY}
+     */
+    public void endArray() {
+        expect(END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * Method to get whether the current object or array has another element <br>
+     * No-any params required
+     *
+     * @return whether the current object or array has another element as boolean
+     */
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != END_OBJECT && token != END_ARRAY && token != END_DOCUMENT;
+    }
+
+    /**
+     * Method to consume the next name of the current object <br>
+     * No-any params required
+     *
+     * @return the name as {@link String}
+     * @throws JSONException when the next token is not {@link JsonToken#NAME}
+     */
+    public String nextName() {
+        expect(NAME);
+        return readString();
+    }
+
+    /**
+     * Method to move the cursor to the value of a name of the current object, skipping without building them all the
+     * values found before it
+     *
+     * @param name: the name to reach
+     * @return whether the name has been found, if not the cursor is moved at the end of the current object
+     * @throws JSONException when the cursor is not inside an object
+     */
+    public boolean seek(String name) {
+        while (peek() == NAME) {
+            if (nextName().equals(name))
+                return true;
+            skipValue();
+        }
+        if (peeked != END_OBJECT)
+            throw syntaxError("Expected a name but was " + peeked);
+        return false;
+    }
+
+    /**
+     * Method to consume the next value as string <br>
+     * No-any params required
+     *
+     * @return the value as {@link String}, the numbers and the booleans are returned as their text
+     * @throws JSONException when the next token is not a {@link JsonToken#STRING}, a {@link JsonToken#NUMBER} or a
+     *                       {@link JsonToken#BOOLEAN}
+     */
+    public String nextString() {
+        JsonToken token = peek();
+        peeked = null;
+        return switch (token) {
+            case STRING -> readString();
+            case NUMBER -> readNumber();
+            case BOOLEAN -> String.valueOf(peekedBoolean);
+            default -> throw syntaxError("Expected a string but was " + token);
+        };
+    }
+
+    /**
+     * Method to consume the next value as double <br>
+     * No-any params required
+     *
+     * @return the value as double
+     * @throws JSONException when the next value is not a number or a string which contains a number
+     */
+    public double nextDouble() {
+        CharSequence value = nextNumericText();
+        double number = NumericParser.parseDouble(value, Double.NaN);
+        if (Double.isNaN(number) && !NumericParser.isNumeric(value))
+            throw syntaxError("Expected a double but was " + value);
+        return number;
+    }
+
+    /**
+     * Method to consume the next value as long <br>
+     * No-any params required
+     *
+     * @return the value as long
+     * @throws JSONException when the next value is not an integer number or a string which contains an integer number
+     */
+    public long nextLong() {
+        CharSequence value = nextNumericText();
+        long number = NumericParser.parseLong(value, Long.MIN_VALUE);
+        if (number != Long.MIN_VALUE)
+            return number;
+        BigDecimal decimal = NumericParser.parseBigDecimal(value);
+        if (decimal != null && decimal.precision() - decimal.scale() <= 19) {
+            BigInteger integer = decimal.toBigInteger();
+            if (integer.bitLength() <= 63 && decimal.compareTo(new BigDecimal(integer)) == 0)
+                return integer.longValue();
+        }
+        throw syntaxError("Expected a long but was " + value);
+    }
+
+    /**
+     * Method to consume the next value as {@link FixedDecimal} preserving its scale <br>
+     * No-any params required
+     *
+     * @return the value as {@link FixedDecimal}
+     * @throws JSONException when the next value is not a number or a string which contains a number, or it is out of
+     *                       the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal nextFixedDecimal() {
+        CharSequence value = nextNumericText();
+        FixedDecimal number = FixedDecimal.parse(value, null);
+        if (number == null)
+            throw syntaxError("Expected a fixed decimal but was " + value);
+        return number;
+    }
+
+    /**
+     * Method to consume the next value as int <br>
+     * No-any params required
+     *
+     * @return the value as int
+     * @throws JSONException when the next value is not an int number or a string which contains an int number
+     */
+    public int nextInt() {
+        long value = nextLong();
+        if ((int) value != value)
+            throw syntaxError("Expected an int but was " + value);
+        return (int) value;
+    }
+
+    /**
+     * Method to consume the next value as {@link Number} <br>
+     * No-any params required
+     *
+     * @return the value as {@link Number}, the decimal numbers as {@link BigDecimal} and the integer numbers as
+     * {@link Integer}, {@link Long} or {@link BigInteger} like the {@link JSONObject} parser does
+     * @throws JSONException when the next token is not a {@link JsonToken#NUMBER}
+     */
+    public Number nextNumber() {
+        expect(NUMBER);
+        return toNumber(readNumber());
+    }
+
+    /**
+     * Method to consume the next value as boolean <br>
+     * No-any params required
+     *
+     * @return the value as boolean
+     * @throws JSONException when the next token is not a {@link JsonToken#BOOLEAN}
+     */
+    public boolean nextBoolean() {
+        expect(BOOLEAN);
+        return peekedBoolean;
+    }
+
+    /**
+     * Method to consume the next {@code "null"} value <br>
+     * No-any params required
+     *
+     * @throws JSONException when the next token is not a {@link JsonToken#NULL}
+     */
+    public void nextNull() {
+        expect(NULL);
+    }
+
+    /**
+     * Method to consume the next array of numbers as array of doubles, reading them straight from the source without
+     * boxing them <br>
+     * No-any params required
+     *
+     * @return the values as array of double
+     * @throws JSONException when the next value is not an array of numbers or of strings which contain numbers
+     */
+    public double[] nextDoubleArray() {
+        beginArray();
+        double[] values = new double[16];
+        int size = 0;
+        while (hasNext()) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = nextDouble();
+        }
+        endArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Method to consume the next array of numbers as array of longs, reading them straight from the source without
+     * boxing them <br>
+     * No-any params required
+     *
+     * @return the values as array of long
+     * @throws JSONException when the next value is not an array of integer numbers or of strings which contain integer
+     *                       numbers
+     */
+    public long[] nextLongArray() {
+        beginArray();
+        long[] values = new long[16];
+        int size = 0;
+        while (hasNext()) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = nextLong();
+        }
+        endArray();
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Method to consume the next array of objects getting the values of a name from each object, reading them
+     * straight from the source without boxing them and skipping the other values
+     *
+     * @param name: the name of the values to get
+     * @return the values as array of double, the objects without the name will be
+     * {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @throws JSONException when the next value is not an array of objects or a value is not a number
+     */
+    public double[] nextDoubleColumn(String name) {
+        beginArray();
+        double[] column = new double[16];
+        int size = 0;
+        while (hasNext()) {
+            if (size == column.length)
+                column = Arrays.copyOf(column, size * 2);
+            double value = NUMERIC_DEF_VALUE_IF_MISSED;
+            beginObject();
+            while (hasNext()) {
+                if (nextName().equals(name))
+                    value = nextDouble();
+                else
+                    skipValue();
+            }
+            endObject();
+            column[size++] = value;
+        }
+        endArray();
+        return Arrays.copyOf(column, size);
+    }
+
+    /**
+     * Method to consume the next array of arrays getting the values at an index from each array, reading them
+     * straight from the source without boxing them and skipping the other values
+     *
+     * @param index: the index of the values to get
+     * @return the values as array of double, the arrays without the index will be
+     * {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @throws JSONException when the next value is not an array of arrays or a value is not a number
+     */
+    public double[] nextDoubleColumn(int index) {
+        beginArray();
+        double[] column = new double[16];
+        int size = 0;
+        while (hasNext()) {
+            if (size == column.length)
+                column = Arrays.copyOf(column, size * 2);
+            double value = NUMERIC_DEF_VALUE_IF_MISSED;
+            beginArray();
+            for (int j = 0; hasNext(); j++) {
+                if (j == index)
+                    value = nextDouble();
+                else
+                    skipValue();
+            }
+            endArray();
+            column[size++] = value;
+        }
+        endArray();
+        return Arrays.copyOf(column, size);
+    }
+
+    /**
+     * Method to consume the next array of arrays getting the values at an index from each array, reading them
+     * straight from the source without boxing them and skipping the other values
+     *
+     * @param index: the index of the values to get
+     * @return the values as array of long, the arrays without the index will be
+     * {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @throws JSONException when the next value is not an array of arrays or a value is not an integer number
+     */
+    public long[] nextLongColumn(int index) {
+        beginArray();
+        long[] column = new long[16];
+        int size = 0;
+        while (hasNext()) {
+            if (size == column.length)
+                column = Arrays.copyOf(column, size * 2);
+            long value = NUMERIC_DEF_VALUE_IF_MISSED;
+            beginArray();
+            for (int j = 0; hasNext(); j++) {
+                if (j == index)
+                    value = nextLong();
+                else
+                    skipValue();
+            }
+            endArray();
+            column[size++] = value;
+        }
+        endArray();
+        return Arrays.copyOf(column, size);
+    }
+
+    /**
+     * Method to skip the next value without building it, if the next token is a name will be skipped also its value
+     * <br>
+     * No-any params required
+     *
+     * @throws JSONException when the source is not a valid {@code "JSON"} source or there is not a value to skip
+     */
+    public void skipValue() {
+        JsonToken next = peek();
+        if (next == END_OBJECT || next == END_ARRAY || next == END_DOCUMENT)
+            throw syntaxError("Expected a value but was " + next);
+        if (next == NAME) {
+            peeked = null;
+            skipString();
+        }
+        int skipDepth = 0;
+        do {
+            JsonToken token = peek();
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    skipDepth++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    skipDepth++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    skipDepth--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    skipDepth--;
+                }
+                case NAME, STRING -> {
+                    peeked = null;
+                    skipString();
+                }
+                case NUMBER -> {
+                    peeked = null;
+                    skipNumber();
+                }
+                case BOOLEAN, NULL -> peeked = null;
+                case END_DOCUMENT -> throw syntaxError("Unexpected end of the source");
+            }
+        } while (skipDepth > 0);
+    }
+
+    /**
+     * Method to consume the next value building it <br>
+     * No-any params required
+     *
+     * @return the value as {@link T}, the objects as {@link JSONObject}, the arrays as {@link JSONArray}, the strings as
+     * {@link String}, the numbers as {@link Number}, the booleans as {@link Boolean} and the nulls as {@link JSONObject#NULL}
+     * @throws JSONException when the source is not a valid {@code "JSON"} source or an object has duplicate keys, as
+     *                       the {@link JSONObject} does
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue() {
+        return (T) nextValue();
+    }
+
+    /**
+     * Method to consume the next value building it <br>
+     * No-any params required
+     *
+     * @return the value as {@link Object}
+     * @throws JSONException when the source is not a valid {@code "JSON"} source or an object has duplicate keys
+     */
+    private Object nextValue() {
+        JsonToken token = peek();
+        switch (token) {
+            case BEGIN_OBJECT -> {
+                beginObject();
+                JSONObject jsonObject = new JSONObject();
+                while (hasNext()) {
+                    String name = nextName();
+                    if (jsonObject.has(name))
+                        throw syntaxError("Duplicate key \"" + name + "\"");
+                    jsonObject.put(name, nextValue());
+                }
+                endObject();
+                return jsonObject;
+            }
+            case BEGIN_ARRAY -> {
+                beginArray();
+                JSONArray jsonArray = new JSONArray();
+                while (hasNext())
+                    jsonArray.put(nextValue());
+                endArray();
+                return jsonArray;
+            }
+            case STRING -> {
+                return nextString();
+            }
+            case NUMBER -> {
+                return nextNumber();
+            }
+            case BOOLEAN -> {
+                return nextBoolean();
+            }
+            case NULL -> {
+                nextNull();
+                return JSONObject.NULL;
+            }
+            default -> throw syntaxError("Expected a value but was " + token);
+        }
+    }
+
+    /**
+     * Method to consume the next value, an object or an array, building it as {@link JsonHelper} <br>
+     * No-any params required
+     *
+     * @return the value as {@link JsonHelper}
+     * @throws JSONException when the next value is not an object or an array
+     */
+    public JsonHelper readJsonHelper() {
+        Object value = readValue();
+        if (value instanceof JSONObject jsonObject)
+            return new JsonHelper(jsonObject);
+        else if (value instanceof JSONArray jsonArray)
+            return new JsonHelper(jsonArray);
+        throw syntaxError("Expected an object or an array but was " + value);
+    }
+
+    /**
+     * Method to get the number of characters consumed from the source <br>
+     * No-any params required
+     *
+     * @return the number of characters consumed from the source as long
+     */
+    public long getPosition() {
+        return offset + position;
+    }
+
+    /**
+     * Method to close the source <br>
+     * No-any params required
+     *
+     * @throws IOException when an error occurred closing the source
+     */
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        depth = 0;
+        reader.close();
+    }
+
+    /**
+     * Method to peek the next token reading the source <br>
+     * No-any params required
+     *
+     * @return the next token as {@link JsonToken}
+     */
+    private JsonToken doPeek() {
+        if (depth == 0)
+            throw syntaxError("The cursor is closed");
+        int scope = scopes[depth - 1];
+        int character;
+        switch (scope) {
+            case EMPTY_ARRAY -> scopes[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> {
+                character = nextNonWhitespace(true);
+                if (character == ']')
+                    return END_ARRAY;
+                if (character != ',')
+                    throw syntaxError("Unterminated array");
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                scopes[depth - 1] = DANGLING_NAME;
+                if (scope == NONEMPTY_OBJECT) {
+                    character = nextNonWhitespace(true);
+                    if (character == '}')
+                        return END_OBJECT;
+                    if (character != ',')
+                        throw syntaxError("Unterminated object");
+                }
+                character = nextNonWhitespace(true);
+                if (character == '"')
+                    return NAME;
+                if (character == '}' && scope == EMPTY_OBJECT)
+                    return END_OBJECT;
+                throw syntaxError("Expected a name");
+            }
+            case DANGLING_NAME -> {
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace(true) != ':')
+                    throw syntaxError("Expected ':'");
+            }
+            case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+            case NONEMPTY_DOCUMENT -> {
+                if (nextNonWhitespace(false) == -1)
+                    return END_DOCUMENT;
+                throw syntaxError("Unexpected content after the end of the source");
+            }
+        }
+        character = nextNonWhitespace(true);
+        switch (character) {
+            case '{':
+                return BEGIN_OBJECT;
+            case '[':
+                return BEGIN_ARRAY;
+            case ']':
+                if (scope == EMPTY_ARRAY)
+                    return END_ARRAY;
+                throw syntaxError("Unexpected ']'");
+            case '"':
+                return STRING;
+            case 't':
+                readLiteral("rue");
+                peekedBoolean = true;
+                return BOOLEAN;
+            case 'f':
+                readLiteral("alse");
+                peekedBoolean = false;
+                return BOOLEAN;
+            case 'n':
+                readLiteral("ull");
+                return NULL;
+            default:
+                if (character == '-' || (character >= '0' && character <= '9')) {
+                    position--;
+                    return NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) character + "'");
+        }
+    }
+
+    /**
+     * Method to consume the next token checking its type
+     *
+     * @param expected: the type expected
+     * @throws JSONException when the next token is not of the type expected
+     */
+    private void expect(JsonToken expected) {
+        JsonToken token = peek();
+        if (token != expected)
+            throw syntaxError("Expected " + expected + " but was " + token);
+        peeked = null;
+    }
+
+    /**
+     * Method to consume the next value as the text of a number, also when it is wrapped in a string <br>
+     * No-any params required
+     *
+     * @return the text of the number as {@link CharSequence}, valid until the next value is read
+     */
+    private CharSequence nextNumericText() {
+        JsonToken token = peek();
+        peeked = null;
+        if (token == NUMBER)
+            return scanNumber();
+        else if (token == STRING)
+            return readString().trim();
+        throw syntaxError("Expected a number but was " + token);
+    }
+
+    /**
+     * Method to push a new scope in the {@link #scopes} stack
+     *
+     * @param scope: the scope to push
+     */
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            int[] scopes = new int[depth * 2];
+            System.arraycopy(this.scopes, 0, scopes, 0, depth);
+            this.scopes = scopes;
+        }
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * Method to read a string after its opening quote <br>
+     * No-any params required
+     *
+     * @return the string as {@link String}
+     */
+    private String readString() {
+        StringBuilder builder = null;
+        while (true) {
+            int start = position;
+            while (position < limit) {
+                char character = buffer[position++];
+                if (character == '"') {
+                    if (builder == null) {
+                        if (stringPool != null)
+                            return stringPool.intern(buffer, start, position - start - 1);
+                        return new String(buffer, start, position - start - 1);
+                    }
+                    builder.append(buffer, start, position - start - 1);
+                    if (stringPool != null)
+                        return stringPool.intern(builder.toString());
+                    return builder.toString();
+                } else if (character == '\\') {
+                    if (builder == null) {
+                        builder = scratch;
+                        builder.setLength(0);
+                    }
+                    builder.append(buffer, start, position - start - 1);
+                    builder.append(readEscape());
+                    start = position;
+                }
+            }
+            if (builder == null) {
+                builder = scratch;
+                builder.setLength(0);
+            }
+            builder.append(buffer, start, position - start);
+            if (!fill())
+                throw syntaxError("Unterminated string");
+        }
+    }
+
+    /**
+     * Method to skip a string after its opening quote <br>
+     * No-any params required
+     */
+    private void skipString() {
+        while (true) {
+            while (position < limit) {
+                char character = buffer[position++];
+                if (character == '"')
+                    return;
+                else if (character == '\\')
+                    readEscape();
+            }
+            if (!fill())
+                throw syntaxError("Unterminated string");
+        }
+    }
+
+    /**
+     * Method to read an escape sequence after its backslash <br>
+     * No-any params required
+     *
+     * @return the character escaped as char
+     */
+    private char readEscape() {
+        int character = nextChar();
+        switch (character) {
+            case 'u':
+                int value = 0;
+                for (int j = 0; j < 4; j++) {
+                    int digit = Character.digit(nextChar(), 16);
+                    if (digit == -1)
+                        throw syntaxError("Invalid unicode escape");
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"':
+            case '\\':
+            case '/':
+                return (char) character;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    /**
+     * Method to read the text of a number <br>
+     * No-any params required
+     *
+     * @return the text of the number as {@link String}
+     */
+    private String readNumber() {
+        return scanNumber().toString();
+    }
+
+    /**
+     * Method to read the text of a number in the {@link #scratch} builder without creating a new string <br>
+     * No-any params required
+     *
+     * @return the text of the number as {@link CharSequence}, valid until the next value is read
+     */
+    private CharSequence scanNumber() {
+        scratch.setLength(0);
+        while (position < limit || fill()) {
+            char character = buffer[position];
+            if (!isNumberCharacter(character))
+                break;
+            scratch.append(character);
+            position++;
+        }
+        return scratch;
+    }
+
+    /**
+     * Method to skip a number <br>
+     * No-any params required
+     */
+    private void skipNumber() {
+        while ((position < limit || fill()) && isNumberCharacter(buffer[position]))
+            position++;
+    }
+
+    /**
+     * Method to check whether a character can be part of a number
+     *
+     * @param character: the character to check
+     * @return whether the character can be part of a number as boolean
+     */
+    private static boolean isNumberCharacter(char character) {
+        return (character >= '0' && character <= '9') || character == '-' || character == '+' || character == '.'
+                || character == 'e' || character == 'E';
+    }
+
+    /**
+     * Method to convert the text of a number like the {@link JSONObject} parser does
+     *
+     * @param value: the text of the number
+     * @return the number as {@link Number}
+     */
+    private Number toNumber(String value) {
+        try {
+            if (value.indexOf('.') != -1 || value.indexOf('e') != -1 || value.indexOf('E') != -1) {
+                BigDecimal number = new BigDecimal(value);
+                if (value.charAt(0) == '-' && number.signum() == 0)
+                    return -0.0;
+                return number;
+            }
+            BigInteger number = new BigInteger(value);
+            if (number.bitLength() <= 31)
+                return number.intValue();
+            if (number.bitLength() <= 63)
+                return number.longValue();
+            return number;
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number " + value);
+        }
+    }
+
+    /**
+     * Method to read the remaining characters of a literal
+     *
+     * @param remaining: the remaining characters expected
+     */
+    private void readLiteral(String remaining) {
+        for (int j = 0; j < remaining.length(); j++)
+            if (nextChar() != remaining.charAt(j))
+                throw syntaxError("Invalid literal");
+    }
+
+    /**
+     * Method to read the next character of the source <br>
+     * No-any params required
+     *
+     * @return the next character as int
+     */
+    private int nextChar() {
+        if (position == limit && !fill())
+            throw syntaxError("Unexpected end of the source");
+        return buffer[position++];
+    }
+
+    /**
+     * Method to read the next character of the source which is not a whitespace
+     *
+     * @param required: whether the end of the source is not allowed
+     * @return the next character as int, -1 if the source is ended
+     */
+    private int nextNonWhitespace(boolean required) {
+        while (position < limit || fill()) {
+            char character = buffer[position++];
+            if (character != ' ' && character != '\n' && character != '\r' && character != '\t')
+                return character;
+        }
+        if (required)
+            throw syntaxError("Unexpected end of the source");
+        return -1;
+    }
+
+    /**
+     * Method to fill the {@link #buffer} with the next characters of the source <br>
+     * No-any params required
+     *
+     * @return whether new characters have been read as boolean
+     */
+    private boolean fill() {
+        try {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0)
+                return false;
+            offset += limit;
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new JSONException(e);
+        }
+    }
+
+    /**
+     * Method to create an exception for a syntax error
+     *
+     * @param message: the message of the error
+     * @return the exception as {@link JSONException}
+     */
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + getPosition());
+    }
+
+    /**
+     * {@code JsonToken} list of the tokens read by the {@link JsonCursor}
+     */
+    public enum JsonToken {
+
+        /**
+         * {@code BEGIN_OBJECT} the beginning of an object
+         */
+        BEGIN_OBJECT,
+
+        /**
+         * {@code END_OBJECT} the end of an object
+         */
+        END_OBJECT,
+
+        /**
+         * {@code BEGIN_ARRAY} the beginning of an array
+         */
+        BEGIN_ARRAY,
+
+        /**
+         * {@code END_ARRAY} the end of an array
+         */
+        END_ARRAY,
+
+        /**
+         * {@code NAME} the name of a value of an object
+         */
+        NAME,
+
+        /**
+         * {@code STRING} a string value
+         */
+        STRING,
+
+        /**
+         * {@code NUMBER} a number value
+         */
+        NUMBER,
+
+        /**
+         * {@code BOOLEAN} a boolean value
+         */
+        BOOLEAN,
+
+        /**
+         * {@code NULL} a null value
+         */
+        NULL,
+
+        /**
+         * {@code END_DOCUMENT} the end of the source
+         */
+        END_DOCUMENT
+
+    }
+
+}
@@ -1,14 +1,28 @@
 package com.tecknobit.apimanager.formatters;
 
 import com.tecknobit.apimanager.annotations.Wrapper;
+import com.tecknobit.apimanager.trading.FixedDecimal;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 
 /**
  * The {@code JsonHelper} class is a useful tool class to works with {@code "JSON"} data format
@@ -43,6 +57,12 @@ public class JsonHelper{
      */
     public static final int NUMERIC_CLASS_CAST_ERROR_VALUE = -987654321;
 
+    /**
+     * {@code PARALLEL_THRESHOLD} is constant that memorizes the minimum number of items of a list to process it in
+     * parallel, the smaller lists are processed sequentially because the split would cost more than the work
+     */
+    public static final int PARALLEL_THRESHOLD = 4096;
+
     /**
      * {@code jsonObjectSource} is instance that memorizes {@link JSONObject} to work on
      */
@@ -53,6 +73,17 @@ public class JsonHelper{
      */
     private JSONArray jsonArraySource;
 
+    /**
+     * {@code keysIndex} is the index of the keys of {@link #jsonObjectSource}, each key is mapped to all its occurrences
+     * in document order
+     *
+     * @apiNote this index is built lazily with a single traversal of the source at the first lookup by key and is
+     * invalidated when the source is changed with the {@code "setJSONObjectSource"} methods, so the lookups after the
+     * first one do not need to traverse the source anymore. The values are read from the source at each lookup, so the
+     * patches applied with the {@code "applyPatch"} methods which only replace values are visible without rebuilding it
+     */
+    private volatile KeysIndex keysIndex;
+
     /**
      * Constructor to init {@link JsonHelper} tool class
      *
@@ -94,13 +125,138 @@ public class JsonHelper{
      */
     public JsonHelper(String jsonSource) throws IllegalArgumentException {
         try {
-            jsonObjectSource = new JSONObject(jsonSource);
-        } catch (JSONException exception) {
-            try {
+            if (isJSONArraySource(jsonSource))
                 jsonArraySource = new JSONArray(jsonSource);
-            } catch (JSONException e) {
-                throw new IllegalArgumentException("The JSON string source inserted is not a valid JSON source");
-            }
+            else
+                jsonObjectSource = new JSONObject(jsonSource);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("The JSON string source inserted is not a valid JSON source");
+        }
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the reader of the source of {@code "JSON"} to work on, it can be formatted as object or array
+     *                    {@code "JSON"} structures
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor}, so it is tokenized only once, and it is not
+     * closed by this constructor; to pull only some values without building the entire source use {@link #stream(Reader)}
+     */
+    public JsonHelper(Reader jsonSource) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource), null);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the reader of the source of {@code "JSON"} to work on, it can be formatted as object or array
+     *                    {@code "JSON"} structures
+     * @param stringPool: the pool used to share the instances of the keys and of the short strings of the source
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor} and it is not closed by this constructor
+     */
+    public JsonHelper(Reader jsonSource, StringPool stringPool) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource, stringPool), null);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the stream of the source of {@code "JSON"} to work on, encoded in {@code "UTF-8"}, it can be
+     *                    formatted as object or array {@code "JSON"} structures
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor}, so it is tokenized only once, and it is not
+     * closed by this constructor; to pull only some values without building the entire source use
+     * {@link #stream(InputStream)}
+     */
+    public JsonHelper(InputStream jsonSource) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource), null);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the stream of the source of {@code "JSON"} to work on, encoded in {@code "UTF-8"}, it can be
+     *                    formatted as object or array {@code "JSON"} structures
+     * @param stringPool: the pool used to share the instances of the keys and of the short strings of the source
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor} and it is not closed by this constructor
+     */
+    public JsonHelper(InputStream jsonSource, StringPool stringPool) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource, stringPool), null);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the source of {@code "JSON"} to work on, it can be formatted as object or array {@code "JSON"}
+     *                    structures
+     * @param stringPool: the pool used to share the instances of the keys and of the short strings of the source
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote this constructor is useful when many sources with the same shape are kept in memory, like the cached
+     * snapshots, because their repeated keys and values share the same instances
+     */
+    public JsonHelper(String jsonSource, StringPool stringPool) throws IllegalArgumentException {
+        this(new JsonCursor(new StringReader(jsonSource), stringPool), null);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the source of {@code "JSON"} to work on, it can be formatted as object or array {@code "JSON"}
+     *                    structures
+     * @param projection: the projection which selects the values to build, the other values are skipped
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     */
+    public JsonHelper(String jsonSource, JsonProjection projection) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource), projection);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the reader of the source of {@code "JSON"} to work on, it can be formatted as object or array
+     *                    {@code "JSON"} structures
+     * @param projection: the projection which selects the values to build, the other values are skipped
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor} and it is not closed by this constructor
+     */
+    public JsonHelper(Reader jsonSource, JsonProjection projection) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource), projection);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param jsonSource: the stream of the source of {@code "JSON"} to work on, encoded in {@code "UTF-8"}, it can be
+     *                    formatted as object or array {@code "JSON"} structures
+     * @param projection: the projection which selects the values to build, the other values are skipped
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     * @apiNote the source is read in streaming with a {@link JsonCursor} and it is not closed by this constructor
+     */
+    public JsonHelper(InputStream jsonSource, JsonProjection projection) throws IllegalArgumentException {
+        this(new JsonCursor(jsonSource), projection);
+    }
+
+    /**
+     * Constructor to init {@link JsonHelper} tool class
+     *
+     * @param cursor:     the cursor positioned at the beginning of the source to read
+     * @param projection: the projection which selects the values to build, null to build the entire source
+     * @throws IllegalArgumentException when the source of the cursor is not a valid {@code "JSON"} source
+     */
+    private JsonHelper(JsonCursor cursor, JsonProjection projection) throws IllegalArgumentException {
+        try {
+            Object jsonSource = projection == null ? cursor.readValue() : projection.read(cursor);
+            if (jsonSource instanceof JSONArray jsonArray)
+                jsonArraySource = jsonArray;
+            else if (jsonSource instanceof JSONObject jsonObject)
+                jsonObjectSource = jsonObject;
+            else
+                throw new JSONException("The source is not an object or an array");
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("The JSON source inserted is not a valid JSON source");
         }
     }
 
@@ -137,7 +293,7 @@ public class JsonHelper{
      */
     public String getString(String key, String defValue) {
         try {
-            return autoSearch(jsonObjectSource, key, defValue);
+            return indexedSearch(key, defValue);
         } catch (ClassCastException e) {
             return null;
         }
@@ -228,15 +384,10 @@ public class JsonHelper{
      *                             as default value
      */
     public double getDouble(String key, double defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).doubleValue();
-            else
-                return Double.parseDouble(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toDouble(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -270,15 +421,10 @@ public class JsonHelper{
      * @return value as double, if it is not exist will return {@code defValue}
      * */
     public static double getDouble(JSONObject jsonDetails, String key, double defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).doubleValue();
-            else
-                return Double.parseDouble(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toDouble(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -300,11 +446,7 @@ public class JsonHelper{
      * @return value as double, if it is not exist will return {@code defValue}
      */
     public double getDouble(int index, double defValue) {
-        try {
-            return jsonArraySource.getDouble(index);
-        } catch (Exception e) {
-            return defValue;
-        }
+        return getDouble(jsonArraySource, index, defValue);
     }
 
     /**
@@ -330,15 +472,10 @@ public class JsonHelper{
      *                             as default value
      */
     public int getInt(String key, int defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).intValue();
-            else
-                return Integer.parseInt(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toInt(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -372,15 +509,10 @@ public class JsonHelper{
      * @return value as int, if it is not exist will return {@code defValue}
      * */
     public static int getInt(JSONObject jsonDetails, String key, int defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).intValue();
-            else
-                return Integer.parseInt(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toInt(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -402,11 +534,7 @@ public class JsonHelper{
      * @return value as int, if it is not exist will return {@code defValue}
      */
     public int getInt(int index, int defValue) {
-        try {
-            return jsonArraySource.getInt(index);
-        } catch (Exception e) {
-            return defValue;
-        }
+        return getInt(jsonArraySource, index, defValue);
     }
 
     /**
@@ -432,15 +560,10 @@ public class JsonHelper{
      *                             as default value
      */
     public float getFloat(String key, float defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).floatValue();
-            else
-                return Float.parseFloat(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toFloat(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -473,15 +596,10 @@ public class JsonHelper{
      * @return value as float, if it is not exist will return {@code defValue}
      * */
     public static float getFloat(JSONObject jsonDetails, String key, float defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).floatValue();
-            else
-                return Float.parseFloat(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toFloat(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -503,11 +621,7 @@ public class JsonHelper{
      * @return value as float, if it is not exist will return {@code defValue}
      */
     public float getFloat(int index, float defValue) {
-        try {
-            return jsonArraySource.getFloat(index);
-        } catch (Exception e) {
-            return defValue;
-        }
+        return getFloat(jsonArraySource, index, defValue);
     }
 
     /**
@@ -533,15 +647,10 @@ public class JsonHelper{
      *                             as default value
      */
     public long getLong(String key, long defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).longValue();
-            else
-                return Long.parseLong(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toLong(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -574,15 +683,10 @@ public class JsonHelper{
      * @return value as long, if it is not exist will return {@code defValue}
      * */
     public static long getLong(JSONObject jsonDetails, String key, long defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof Number)
-                return ((Number) value).longValue();
-            else
-                return Long.parseLong(value.toString());
-        } catch (ClassCastException | NumberFormatException e) {
-            return NUMERIC_CLASS_CAST_ERROR_VALUE;
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toLong(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
     }
 
     /**
@@ -604,11 +708,7 @@ public class JsonHelper{
      * @return value as long, if it is not exist will return {@code defValue}
      */
     public long getLong(int index, long defValue) {
-        try {
-            return jsonArraySource.getLong(index);
-        } catch (Exception e) {
-            return defValue;
-        }
+        return getLong(jsonArraySource, index, defValue);
     }
 
     /**
@@ -632,14 +732,10 @@ public class JsonHelper{
      * @throws ClassCastException: when this exception has been trowed will be returned null as default value
      */
     public BigDecimal getBigDecimal(String key, BigDecimal defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof BigDecimal)
-                return (BigDecimal) value;
-            return BigDecimal.valueOf(Double.parseDouble(value.toString()));
-        } catch (NullPointerException | ClassCastException | NumberFormatException e) {
-            return BigDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE);
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toBigDecimal(value, BigDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
     }
 
     /**
@@ -671,14 +767,10 @@ public class JsonHelper{
      * @return value as {@link BigDecimal}, if it is not exist will return {@code defValue}
      * */
     public static BigDecimal getBigDecimal(JSONObject jsonDetails, String key, BigDecimal defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof BigDecimal)
-                return (BigDecimal) value;
-            return BigDecimal.valueOf(Double.parseDouble(value.toString()));
-        } catch (NullPointerException | ClassCastException | NumberFormatException e) {
-            return BigDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE);
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toBigDecimal(value, BigDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
     }
 
     /**
@@ -700,11 +792,91 @@ public class JsonHelper{
      * @return value as {@link BigDecimal}, if it is not exist will return {@code defValue}
      */
     public BigDecimal getBigDecimal(int index, BigDecimal defValue) {
-        try {
-            return jsonArraySource.getBigDecimal(index);
-        } catch (Exception e) {
+        return getBigDecimal(jsonArraySource, index, defValue);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a FixedDecimal value
+     *
+     * @param key: key of FixedDecimal value to get from json
+     * @return value as {@link FixedDecimal}, if it is not exist will return null value
+     * @throws ClassCastException: when this exception has been trowed will be returned null as default value
+     */
+    @Wrapper
+    public FixedDecimal getFixedDecimal(String key) {
+        return getFixedDecimal(key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a FixedDecimal value
+     *
+     * @param key:      key of FixedDecimal value to get from json
+     * @param defValue: default value to return if primary value not exists
+     * @return value as {@link FixedDecimal}, if it is not exist will return {@code defValue}
+     * @throws ClassCastException: when this exception has been trowed will be returned null as default value
+     */
+    public FixedDecimal getFixedDecimal(String key, FixedDecimal defValue) {
+        Object value = indexedSearch(key);
+        if (value == null)
             return defValue;
-        }
+        return toFixedDecimal(value, FixedDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a FixedDecimal value
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key:         key of FixedDecimal value to get from json
+     * @return value as {@link FixedDecimal}, if it is not exist will return null value
+     * @throws ClassCastException: when this exception has been trowed will be returned null as default value
+     * @implNote this static method is useful when you have to fetch a single value from {@link JSONObject} avoiding
+     * instantiation of {@link JsonHelper} class, but if you have to fetch multiple value from the same
+     * {@link JSONObject} is recommended instantiate {@link JsonHelper} class first.
+     */
+    @Wrapper
+    public static FixedDecimal getFixedDecimal(JSONObject jsonDetails, String key) {
+        return getFixedDecimal(jsonDetails, key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a FixedDecimal value
+     *
+     * @implNote this static method is useful when you have to fetch a single value from {@link JSONObject} avoiding
+     * instantiation of {@link JsonHelper} class, but if you have to fetch multiple value from the same
+     * {@link JSONObject} is recommended instantiate {@link JsonHelper} class first.
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key: key of FixedDecimal value to get from json
+     * @param defValue: default value to return if primary value not exists
+     * @exception ClassCastException: when this exception has been trowed will be returned null as default value
+     * @return value as {@link FixedDecimal}, if it is not exist will return {@code defValue}
+     * */
+    public static FixedDecimal getFixedDecimal(JSONObject jsonDetails, String key, FixedDecimal defValue) {
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toFixedDecimal(value, FixedDecimal.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
+    }
+
+    /**
+     * Method to get from {@link JSONArray} a FixedDecimal value
+     *
+     * @param index: index of FixedDecimal value to get from json
+     * @return value as {@link FixedDecimal}, if it is not exist will return null value
+     */
+    @Wrapper
+    public FixedDecimal getFixedDecimal(int index) {
+        return getFixedDecimal(index, null);
+    }
+
+    /**
+     * Method to get from {@link JSONArray} a FixedDecimal value
+     *
+     * @param index:    index of FixedDecimal value to get from json
+     * @param defValue: default value to return if primary value not exists
+     * @return value as {@link FixedDecimal}, if it is not exist will return {@code defValue}
+     */
+    public FixedDecimal getFixedDecimal(int index, FixedDecimal defValue) {
+        return getFixedDecimal(jsonArraySource, index, defValue);
     }
 
     /**
@@ -728,14 +900,10 @@ public class JsonHelper{
      * @throws ClassCastException: when this exception has been trowed will be returned null as default value
      */
     public BigInteger getBigInteger(String key, BigInteger defValue) {
-        try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
-            if (value instanceof BigDecimal)
-                return (BigInteger) value;
-            return BigInteger.valueOf(Integer.parseInt(value.toString()));
-        } catch (NullPointerException | ClassCastException | NumberFormatException e) {
-            return BigInteger.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE);
-        }
+        Object value = indexedSearch(key);
+        if (value == null)
+            return defValue;
+        return toBigInteger(value, BigInteger.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
     }
 
     /**
@@ -767,14 +935,10 @@ public class JsonHelper{
      * @return value as {@link BigInteger}, if it is not exist will return {@code defValue}
      * */
     public static BigInteger getBigInteger(JSONObject jsonDetails, String key, BigInteger defValue) {
-        try {
-            Object value = autoSearch(jsonDetails, key, defValue);
-            if (value instanceof BigDecimal)
-                return (BigInteger) value;
-            return BigInteger.valueOf(Integer.parseInt(value.toString()));
-        } catch (NullPointerException | ClassCastException | NumberFormatException e) {
-            return BigInteger.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE);
-        }
+        Object value = autoSearch(jsonDetails, key);
+        if (value == null)
+            return defValue;
+        return toBigInteger(value, BigInteger.valueOf(NUMERIC_CLASS_CAST_ERROR_VALUE));
     }
 
     /**
@@ -796,11 +960,7 @@ public class JsonHelper{
      * @return value as {@link BigInteger}, if it is not exist will return {@code defValue}
      */
     public BigInteger getBigInteger(int index, BigInteger defValue) {
-        try {
-            return jsonArraySource.getBigInteger(index);
-        } catch (Exception e) {
-            return defValue;
-        }
+        return getBigInteger(jsonArraySource, index, defValue);
     }
 
     /**
@@ -825,7 +985,7 @@ public class JsonHelper{
      */
     public Number getNumber(String key, Number defValue) {
         try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
+            Object value = indexedSearch(key, defValue);
             return ((Number) value);
         } catch (ClassCastException | NumberFormatException e) {
             return NUMERIC_CLASS_CAST_ERROR_VALUE;
@@ -917,7 +1077,7 @@ public class JsonHelper{
      */
     public Object get(String key, Object defValue) {
         try {
-            return autoSearch(jsonObjectSource, key, defValue);
+            return indexedSearch(key, defValue);
         } catch (ClassCastException e) {
             return null;
         }
@@ -1006,7 +1166,7 @@ public class JsonHelper{
      */
     public boolean getBoolean(String key, boolean defValue) {
         try {
-            Object value = autoSearch(jsonObjectSource, key, defValue);
+            Object value = indexedSearch(key, defValue);
             if (value instanceof Boolean)
                 return (boolean) value;
             else
@@ -1101,7 +1261,7 @@ public class JsonHelper{
      * @throws ClassCastException: when this exception has been trowed will be returned null as default value
      */
     public JSONArray getJSONArray(String key, JSONArray defValue) {
-        Object value = autoSearch(jsonObjectSource, key, defValue);
+        Object value = indexedSearch(key, defValue);
         if (value instanceof JSONArray)
             return (JSONArray) value;
         return defValue;
@@ -1297,11 +1457,10 @@ public class JsonHelper{
      */
     @Wrapper
     public static double getDouble(JSONArray jsonDetails, int index, double defValue) {
-        try {
-            return jsonDetails.getDouble(index);
-        } catch (Exception e) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toDouble(value, defValue);
     }
 
     /**
@@ -1330,11 +1489,10 @@ public class JsonHelper{
      * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
      */
     public static int getInt(JSONArray jsonDetails, int index, int defValue) {
-        try {
-            return jsonDetails.getInt(index);
-        } catch (Exception e) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toInt(value, defValue);
     }
 
     /**
@@ -1364,11 +1522,10 @@ public class JsonHelper{
      * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
      */
     public static float getFloat(JSONArray jsonDetails, int index, float defValue) {
-        try {
-            return jsonDetails.getFloat(index);
-        } catch (Exception e) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toFloat(value, defValue);
     }
 
     /**
@@ -1398,11 +1555,10 @@ public class JsonHelper{
      * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
      */
     public static long getLong(JSONArray jsonDetails, int index, long defValue) {
-        try {
-            return jsonDetails.getLong(index);
-        } catch (Exception e) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toLong(value, defValue);
     }
 
     /**
@@ -1432,11 +1588,43 @@ public class JsonHelper{
      * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
      */
     public static BigDecimal getBigDecimal(JSONArray jsonDetails, int index, BigDecimal defValue) {
-        try {
-            return jsonDetails.getBigDecimal(index);
-        } catch (Exception e) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toBigDecimal(value, defValue);
+    }
+
+    /**
+     * Method to get from {@link JSONArray} a FixedDecimal value
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param index:       index of FixedDecimal value to get from json
+     * @return value as {@link FixedDecimal}, if it is not exist will return null value
+     * @implNote this static method is useful when you have to fetch a single value from {@link JSONArray} avoiding
+     * instantiation of {@link JsonHelper} class, but if you have to fetch multiple value from the same
+     * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
+     */
+    @Wrapper
+    public static FixedDecimal getFixedDecimal(JSONArray jsonDetails, int index) {
+        return getFixedDecimal(jsonDetails, index, null);
+    }
+
+    /**
+     * Method to get from {@link JSONArray} a FixedDecimal value
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param index:       index of FixedDecimal value to get from json
+     * @param defValue:    default value to return if primary value not exists
+     * @return value as {@link FixedDecimal}, if it is not exist will return {@code defValue}
+     * @implNote this static method is useful when you have to fetch a single value from {@link JSONArray} avoiding
+     * instantiation of {@link JsonHelper} class, but if you have to fetch multiple value from the same
+     * {@link JSONArray} is recommended instantiate {@link JsonHelper} class first.
+     */
+    public static FixedDecimal getFixedDecimal(JSONArray jsonDetails, int index, FixedDecimal defValue) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
+            return defValue;
+        return toFixedDecimal(value, defValue);
     }
 
     /**
@@ -1463,12 +1651,11 @@ public class JsonHelper{
      * @param defValue: default value to return if primary value not exists
      * @return value as {@link BigInteger}, if it is not exist will return {@code defValue}
      * */
-    public static BigInteger getBigInteger(JSONArray jsonDetails, int index, BigInteger defValue){
-        try {
-            return jsonDetails.getBigInteger(index);
-        }catch (Exception e){
+    public static BigInteger getBigInteger(JSONArray jsonDetails, int index, BigInteger defValue) {
+        Object value = optItem(jsonDetails, index);
+        if (value == null)
             return defValue;
-        }
+        return toBigInteger(value, defValue);
     }
 
     /**
@@ -1689,10 +1876,624 @@ public class JsonHelper{
     }
 
     /**
-     * Method to get from {@link JSONObject} a jsonObject
+     * Method to map in parallel the items of a list
      *
-     * @param key: key of {@link JSONObject} to get from json
-     * @return value as {@link JSONObject}, if it is not exist will return null value
+     * @param key:    key of the list to map
+     * @param mapper: the function to map each item of the list, it must be thread-safe
+     * @return the items mapped as {@link ArrayList} of {@link T}, in the same order of the list, if the list is not exist
+     * will return null
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, if it has less than
+     * {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @Wrapper
+    public <I, T> ArrayList<T> parallelMap(String key, Function<I, T> mapper) {
+        JSONArray list = getJSONArray(key);
+        if (list == null)
+            return null;
+        return parallelMap(list, mapper);
+    }
+
+    /**
+     * Method to map in parallel the items of the {@link #jsonArraySource}
+     *
+     * @param mapper: the function to map each item of the list, it must be thread-safe
+     * @return the items mapped as {@link ArrayList} of {@link T}, in the same order of the list
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, if it has less than
+     * {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @Wrapper
+    public <I, T> ArrayList<T> parallelMap(Function<I, T> mapper) {
+        return parallelMap(jsonArraySource, mapper);
+    }
+
+    /**
+     * Method to map in parallel the items of a list
+     *
+     * @param list:   the list to map
+     * @param mapper: the function to map each item of the list, it must be thread-safe
+     * @return the items mapped as {@link ArrayList} of {@link T}, in the same order of the list
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, if it has less than
+     * {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @Wrapper
+    public static <I, T> ArrayList<T> parallelMap(JSONArray list, Function<I, T> mapper) {
+        return parallelMap(list, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to map in parallel the items of a list
+     *
+     * @param list:   the list to map
+     * @param mapper: the function to map each item of the list, it must be thread-safe
+     * @param pool:   the pool where process the ranges of the list
+     * @return the items mapped as {@link ArrayList} of {@link T}, in the same order of the list
+     * @apiNote if the list has less than {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @SuppressWarnings("unchecked")
+    public static <I, T> ArrayList<T> parallelMap(JSONArray list, Function<I, T> mapper, ForkJoinPool pool) {
+        Object[] results = new Object[list.length()];
+        if (results.length < PARALLEL_THRESHOLD) {
+            for (int j = 0; j < results.length; j++)
+                results[j] = mapper.apply((I) list.opt(j));
+        } else {
+            pool.invoke(new RangeTask(0, results.length, grainOf(results.length, pool),
+                    index -> results[index] = mapper.apply((I) list.opt(index))));
+        }
+        return new ArrayList<>((List<T>) Arrays.asList(results));
+    }
+
+    /**
+     * Method to process in parallel the items of a list
+     *
+     * @param key:    key of the list to process
+     * @param action: the action to execute on each item of the list, it must be thread-safe
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, so the items are not processed
+     * in order; if the list has less than {@link #PARALLEL_THRESHOLD} items it is processed sequentially. If the list is
+     * not exist no action is executed
+     */
+    @Wrapper
+    public <I> void forEachParallel(String key, Consumer<I> action) {
+        JSONArray list = getJSONArray(key);
+        if (list != null)
+            forEachParallel(list, action);
+    }
+
+    /**
+     * Method to process in parallel the items of the {@link #jsonArraySource}
+     *
+     * @param action: the action to execute on each item of the list, it must be thread-safe
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, so the items are not processed
+     * in order; if the list has less than {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @Wrapper
+    public <I> void forEachParallel(Consumer<I> action) {
+        forEachParallel(jsonArraySource, action);
+    }
+
+    /**
+     * Method to process in parallel the items of a list
+     *
+     * @param list:   the list to process
+     * @param action: the action to execute on each item of the list, it must be thread-safe
+     * @apiNote the list is split in ranges processed by the common {@link ForkJoinPool}, so the items are not processed
+     * in order; if the list has less than {@link #PARALLEL_THRESHOLD} items it is processed sequentially
+     */
+    @Wrapper
+    public static <I> void forEachParallel(JSONArray list, Consumer<I> action) {
+        forEachParallel(list, action, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Method to process in parallel the items of a list
+     *
+     * @param list:   the list to process
+     * @param action: the action to execute on each item of the list, it must be thread-safe
+     * @param pool:   the pool where process the ranges of the list
+     * @apiNote the items are not processed in order; if the list has less than {@link #PARALLEL_THRESHOLD} items it is
+     * processed sequentially
+     */
+    @SuppressWarnings("unchecked")
+    public static <I> void forEachParallel(JSONArray list, Consumer<I> action, ForkJoinPool pool) {
+        int length = list.length();
+        if (length < PARALLEL_THRESHOLD) {
+            for (int j = 0; j < length; j++)
+                action.accept((I) list.opt(j));
+        } else {
+            pool.invoke(new RangeTask(0, length, grainOf(length, pool),
+                    index -> action.accept((I) list.opt(index))));
+        }
+    }
+
+    /**
+     * Method to get the size of the ranges to process sequentially when a list is processed in parallel
+     *
+     * @param length: the length of the list
+     * @param pool:   the pool where process the ranges
+     * @return the size of the ranges as int
+     */
+    private static int grainOf(int length, ForkJoinPool pool) {
+        return Math.max(PARALLEL_THRESHOLD / 4, length / (pool.getParallelism() * 4));
+    }
+
+    /**
+     * Method to get the {@link #jsonArraySource} as array of doubles without boxing its values <br>
+     * No-any params required
+     *
+     * @return the values as array of double, the values which are not numbers will be
+     * {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double[] toDoubleArray() {
+        return toDoubleArray(jsonArraySource);
+    }
+
+    /**
+     * Method to get a {@link JSONArray} as array of doubles without boxing its values
+     *
+     * @param jsonArray: the {@link JSONArray} source from fetch the values
+     * @return the values as array of double, the values which are not numbers will be
+     * {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static double[] toDoubleArray(JSONArray jsonArray) {
+        double[] values = new double[jsonArray.length()];
+        for (int j = 0; j < values.length; j++)
+            values[j] = toDouble(jsonArray.opt(j));
+        return values;
+    }
+
+    /**
+     * Method to get the {@link #jsonArraySource} as array of longs without boxing its values <br>
+     * No-any params required
+     *
+     * @return the values as array of long, the values which are not numbers will be
+     * {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public long[] toLongArray() {
+        return toLongArray(jsonArraySource);
+    }
+
+    /**
+     * Method to get a {@link JSONArray} as array of longs without boxing its values
+     *
+     * @param jsonArray: the {@link JSONArray} source from fetch the values
+     * @return the values as array of long, the values which are not numbers will be
+     * {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static long[] toLongArray(JSONArray jsonArray) {
+        long[] values = new long[jsonArray.length()];
+        for (int j = 0; j < values.length; j++)
+            values[j] = toLong(jsonArray.opt(j));
+        return values;
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of doubles without boxing its values
+     *
+     * @param key: key of the list to get from json
+     * @return the values as array of double, if the list is not exist will return null
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double[] getDoubleArray(String key) {
+        return getDoubleArray(key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of doubles without boxing its values
+     *
+     * @param key:      key of the list to get from json
+     * @param defValue: default value to return if primary value not exists
+     * @return the values as array of double, if the list is not exist will return {@code defValue}
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public double[] getDoubleArray(String key, double[] defValue) {
+        JSONArray list = getJSONArray(key);
+        if (list == null)
+            return defValue;
+        return toDoubleArray(list);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of doubles without boxing its values
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key:         key of the list to get from json
+     * @return the values as array of double, if the list is not exist will return null
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public static double[] getDoubleArray(JSONObject jsonDetails, String key) {
+        return getDoubleArray(jsonDetails, key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of doubles without boxing its values
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key:         key of the list to get from json
+     * @param defValue:    default value to return if primary value not exists
+     * @return the values as array of double, if the list is not exist will return {@code defValue}
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static double[] getDoubleArray(JSONObject jsonDetails, String key, double[] defValue) {
+        JSONArray list = getJSONArray(jsonDetails, key);
+        if (list == null)
+            return defValue;
+        return toDoubleArray(list);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of longs without boxing its values
+     *
+     * @param key: key of the list to get from json
+     * @return the values as array of long, if the list is not exist will return null
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public long[] getLongArray(String key) {
+        return getLongArray(key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of longs without boxing its values
+     *
+     * @param key:      key of the list to get from json
+     * @param defValue: default value to return if primary value not exists
+     * @return the values as array of long, if the list is not exist will return {@code defValue}
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public long[] getLongArray(String key, long[] defValue) {
+        JSONArray list = getJSONArray(key);
+        if (list == null)
+            return defValue;
+        return toLongArray(list);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of longs without boxing its values
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key:         key of the list to get from json
+     * @return the values as array of long, if the list is not exist will return null
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public static long[] getLongArray(JSONObject jsonDetails, String key) {
+        return getLongArray(jsonDetails, key, null);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a list of longs without boxing its values
+     *
+     * @param jsonDetails: {@code "JSON"} from fetch data
+     * @param key:         key of the list to get from json
+     * @param defValue:    default value to return if primary value not exists
+     * @return the values as array of long, if the list is not exist will return {@code defValue}
+     * @apiNote the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static long[] getLongArray(JSONObject jsonDetails, String key, long[] defValue) {
+        JSONArray list = getJSONArray(jsonDetails, key);
+        if (list == null)
+            return defValue;
+        return toLongArray(list);
+    }
+
+    /**
+     * Method to get the values of a key from each item of a list of objects without boxing them, for example the
+     * {@code "close"} prices of a list of candles
+     *
+     * @param searchKey: key of the values to fetch
+     * @return the values as array of double, if the list is not exist will return null
+     * @apiNote the list is searched like {@link #fetchVList(String)} does, the items without the key will be
+     * {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double[] fetchColumn(String searchKey) {
+        return fetchColumn(searchKey, null);
+    }
+
+    /**
+     * Method to get the values of a key from each item of a list of objects without boxing them, for example the
+     * {@code "close"} prices of a list of candles
+     *
+     * @param searchKey: key of the values to fetch
+     * @param defValue:  default value to return if primary value not exists
+     * @return the values as array of double, if the list is not exist will return {@code defValue}
+     * @apiNote the list is searched like {@link #fetchVList(String)} does, the items without the key will be
+     * {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public double[] fetchColumn(String searchKey, double[] defValue) {
+        ArrayList<KeyEntry> entries = getKeysIndex().get(searchKey);
+        if (entries != null) {
+            for (KeyEntry entry : entries)
+                if (entry.list != null)
+                    return assembleColumn(entry.list, searchKey);
+        }
+        return defValue;
+    }
+
+    /**
+     * Method to get the values of a key from each item of a list of objects without boxing them, for example the
+     * {@code "close"} prices of a list of candles
+     *
+     * @param json:      {@link JSONObject} from fetch the list
+     * @param searchKey: key of the values to fetch
+     * @return the values as array of double, if the list is not exist will return null
+     * @apiNote the list is searched like {@link #fetchVList(JSONObject, String)} does, the items without the key will be
+     * {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static double[] fetchColumn(JSONObject json, String searchKey) {
+        JSONArray list = searchVList(json, searchKey, null);
+        if (list == null)
+            return null;
+        return assembleColumn(list, searchKey);
+    }
+
+    /**
+     * Method to get the values at an index from each item of the {@link #jsonArraySource} when it is a list of lists
+     * without boxing them, for example the close prices of a list of candles formatted as lists
+     *
+     * @param index: the index of the values to fetch in each item
+     * @return the values as array of double
+     * @apiNote the items without the index will be {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not
+     * numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double[] fetchColumn(int index) {
+        return fetchColumn(jsonArraySource, index);
+    }
+
+    /**
+     * Method to get the values at an index from each item of a list of lists without boxing them, for example the
+     * close prices of a list of candles formatted as lists
+     *
+     * @param list:  the list of lists from fetch the values
+     * @param index: the index of the values to fetch in each item
+     * @return the values as array of double
+     * @apiNote the items without the index will be {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not
+     * numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static double[] fetchColumn(JSONArray list, int index) {
+        double[] column = new double[list.length()];
+        for (int j = 0; j < column.length; j++) {
+            Object value = null;
+            if (list.opt(j) instanceof JSONArray item)
+                value = item.opt(index);
+            column[j] = toDouble(value);
+        }
+        return column;
+    }
+
+    /**
+     * Method to get the values at an index from each item of the {@link #jsonArraySource} when it is a list of lists
+     * without boxing them, for example the open times of a list of candles formatted as lists
+     *
+     * @param index: the index of the values to fetch in each item
+     * @return the values as array of long
+     * @apiNote the items without the index will be {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not
+     * numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public long[] fetchLongColumn(int index) {
+        return fetchLongColumn(jsonArraySource, index);
+    }
+
+    /**
+     * Method to get the values at an index from each item of a list of lists without boxing them, for example the
+     * open times of a list of candles formatted as lists
+     *
+     * @param list:  the list of lists from fetch the values
+     * @param index: the index of the values to fetch in each item
+     * @return the values as array of long
+     * @apiNote the items without the index will be {@link #NUMERIC_DEF_VALUE_IF_MISSED} and the values which are not
+     * numbers will be {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public static long[] fetchLongColumn(JSONArray list, int index) {
+        long[] column = new long[list.length()];
+        for (int j = 0; j < column.length; j++) {
+            Object value = null;
+            if (list.opt(j) instanceof JSONArray item)
+                value = item.opt(index);
+            column[j] = toLong(value);
+        }
+        return column;
+    }
+
+    /**
+     * Method to assemble a column with the values of a specific key from each item of a {@link JSONArray}
+     *
+     * @param list:      {@link JSONArray} from fetch data
+     * @param searchKey: key for value to fetch
+     * @return the values as array of double
+     */
+    private static double[] assembleColumn(JSONArray list, String searchKey) {
+        double[] column = new double[list.length()];
+        for (int j = 0; j < column.length; j++) {
+            Object value = null;
+            if (list.opt(j) instanceof JSONObject item) {
+                value = item.opt(searchKey);
+                if (value == null)
+                    value = autoSearch(item, searchKey);
+            }
+            column[j] = toDouble(value);
+        }
+        return column;
+    }
+
+    /**
+     * Method to convert a value to double without boxing it
+     *
+     * @param value: the value to convert
+     * @return the value as double, if it is null will return {@link #NUMERIC_DEF_VALUE_IF_MISSED}, if it is not a number
+     * will return {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    private static double toDouble(Object value) {
+        if (value == null)
+            return NUMERIC_DEF_VALUE_IF_MISSED;
+        return toDouble(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to convert a value to double without throwing any exception
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not a number
+     * @return the value as double
+     */
+    private static double toDouble(Object value, double invalidValue) {
+        if (value instanceof Number number)
+            return number.doubleValue();
+        if (value instanceof String text)
+            return NumericParser.parseDouble(text, invalidValue);
+        return invalidValue;
+    }
+
+    /**
+     * Method to convert a value to float without throwing any exception
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not a number
+     * @return the value as float
+     */
+    private static float toFloat(Object value, float invalidValue) {
+        if (value instanceof Number number)
+            return number.floatValue();
+        if (value instanceof String text)
+            return NumericParser.parseFloat(text, invalidValue);
+        return invalidValue;
+    }
+
+    /**
+     * Method to convert a value to long without boxing it
+     *
+     * @param value: the value to convert
+     * @return the value as long, if it is null will return {@link #NUMERIC_DEF_VALUE_IF_MISSED}, if it is not a number
+     * will return {@link #NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    private static long toLong(Object value) {
+        if (value == null)
+            return NUMERIC_DEF_VALUE_IF_MISSED;
+        return toLong(value, NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to convert a value to long without throwing any exception
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not an integer number
+     * @return the value as long
+     */
+    private static long toLong(Object value, long invalidValue) {
+        if (value instanceof Number number)
+            return number.longValue();
+        if (value instanceof String text)
+            return NumericParser.parseLong(text, invalidValue);
+        return invalidValue;
+    }
+
+    /**
+     * Method to convert a value to int without throwing any exception
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not an integer number
+     * @return the value as int
+     */
+    private static int toInt(Object value, int invalidValue) {
+        if (value instanceof Number number)
+            return number.intValue();
+        if (value instanceof String text)
+            return NumericParser.parseInt(text, invalidValue);
+        return invalidValue;
+    }
+
+    /**
+     * Method to convert a value to {@link BigDecimal} without throwing any exception, the strings are converted
+     * preserving their scale
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not a number
+     * @return the value as {@link BigDecimal}
+     */
+    private static BigDecimal toBigDecimal(Object value, BigDecimal invalidValue) {
+        if (value instanceof BigDecimal number)
+            return number;
+        if (value instanceof BigInteger number)
+            return new BigDecimal(number);
+        if (value instanceof Integer || value instanceof Long)
+            return BigDecimal.valueOf(((Number) value).longValue());
+        if (value instanceof Number number) {
+            double decimal = number.doubleValue();
+            if (Double.isNaN(decimal) || Double.isInfinite(decimal))
+                return invalidValue;
+            return BigDecimal.valueOf(decimal);
+        }
+        if (value instanceof String text) {
+            BigDecimal number = NumericParser.parseBigDecimal(text);
+            if (number != null)
+                return number;
+        }
+        return invalidValue;
+    }
+
+    /**
+     * Method to convert a value to {@link FixedDecimal} without throwing any exception, the strings are converted
+     * preserving their scale
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not a number or is out of the range of a
+     *                      {@link FixedDecimal}
+     * @return the value as {@link FixedDecimal}
+     */
+    private static FixedDecimal toFixedDecimal(Object value, FixedDecimal invalidValue) {
+        if (value instanceof FixedDecimal number)
+            return number;
+        if (value instanceof String text)
+            return FixedDecimal.parse(text, invalidValue);
+        if (value instanceof Integer || value instanceof Long)
+            return FixedDecimal.valueOf(((Number) value).longValue());
+        BigDecimal number = toBigDecimal(value, null);
+        return FixedDecimal.valueOf(number, invalidValue);
+    }
+
+    /**
+     * Method to convert a value to {@link BigInteger} without throwing any exception
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is not an integer number
+     * @return the value as {@link BigInteger}
+     */
+    private static BigInteger toBigInteger(Object value, BigInteger invalidValue) {
+        if (value instanceof BigInteger number)
+            return number;
+        if (value instanceof Integer || value instanceof Long)
+            return BigInteger.valueOf(((Number) value).longValue());
+        if (value instanceof String text) {
+            long number = NumericParser.parseLong(text, Long.MIN_VALUE);
+            if (number != Long.MIN_VALUE || text.equals(String.valueOf(Long.MIN_VALUE)))
+                return BigInteger.valueOf(number);
+        }
+        return invalidValue;
+    }
+
+    /**
+     * Method to get an item from a {@link JSONArray} without throwing any exception
+     *
+     * @param list:  the list from fetch the item
+     * @param index: the index of the item
+     * @return the item as {@link Object}, if it is not exist will return null
+     */
+    private static Object optItem(JSONArray list, int index) {
+        if (list == null)
+            return null;
+        return list.opt(index);
+    }
+
+    /**
+     * Method to get from {@link JSONObject} a jsonObject
+     *
+     * @param key: key of {@link JSONObject} to get from json
+     * @return value as {@link JSONObject}, if it is not exist will return null value
      * @throws ClassCastException: when this exception has been trowed will be returned null as default value
      */
     @Wrapper
@@ -1709,7 +2510,7 @@ public class JsonHelper{
      * @throws ClassCastException: when this exception has been trowed will be returned null as default value
      */
     public JSONObject getJSONObject(String key, JSONObject defValue) {
-        Object value = autoSearch(jsonObjectSource, key, defValue);
+        Object value = indexedSearch(key, defValue);
         if (value instanceof JSONObject)
             return (JSONObject) value;
         return defValue;
@@ -1883,9 +2684,14 @@ public class JsonHelper{
      * @apiNote this method does not need specific path of the {@link JSONArray} to fetch value, but it will in automatic
      * reach the value requested directly from the entire {@code "JSON"} file without path inserted by hand
      */
-    @Wrapper
     public <T, V extends ArrayList<?>> ArrayList<T> fetchList(String searchKey, V defValue) {
-        return fetchList(jsonObjectSource, searchKey, defValue);
+        ArrayList<KeyEntry> entries = getKeysIndex().get(searchKey);
+        if (entries != null) {
+            for (KeyEntry entry : entries)
+                if (entry.list == null && entry.value() instanceof JSONArray list)
+                    return assembleList(list);
+        }
+        return (ArrayList<T>) defValue;
     }
 
     /**
@@ -1910,18 +2716,16 @@ public class JsonHelper{
      */
     public static <T, V extends ArrayList<?>> ArrayList<T> fetchList(JSONObject source, String searchKey, V defValue) {
         ArrayList<T> listFetched = null;
-        if (containsKey(source, searchKey) && listFetched == null) {
-            ArrayList<JSONObject> subBranches = new ArrayList<>();
+        if (source.opt(searchKey) instanceof JSONArray list)
+            listFetched = assembleList(list);
+        else {
             for (String key : source.keySet()) {
-                Object value = source.get(key);
-                if (value instanceof JSONArray && key.equals(searchKey))
-                    listFetched = assembleList((JSONArray) value);
-                else if (value instanceof JSONObject)
-                    subBranches.add((JSONObject) value);
-            }
-            for (JSONObject subBranch : subBranches)
-                if (listFetched == null)
+                if (source.opt(key) instanceof JSONObject subBranch) {
                     listFetched = fetchList(subBranch, searchKey);
+                    if (listFetched != null)
+                        break;
+                }
+            }
         }
         if (listFetched == null && defValue != null)
             listFetched = (ArrayList<T>) defValue;
@@ -1938,7 +2742,7 @@ public class JsonHelper{
      */
     @Wrapper
     public <T> ArrayList<T> fetchVList(String searchKey) {
-        return fetchVList(jsonObjectSource, searchKey, null, null);
+        return fetchVList(searchKey, null, null);
     }
 
     /**
@@ -1952,7 +2756,7 @@ public class JsonHelper{
      */
     @Wrapper
     public <T, V extends ArrayList<?>> ArrayList<T> fetchVList(String searchKey, V defValue) {
-        return fetchVList(jsonObjectSource, searchKey, null, defValue);
+        return fetchVList(searchKey, null, defValue);
     }
 
     /**
@@ -2010,9 +2814,14 @@ public class JsonHelper{
      * reach the value requested directly from the entire {@code "JSON"} file without path inserted by hand
      * @implNote This method is useful when the value to fetch appears in multiple list
      */
-    @Wrapper
     public <T, V extends ArrayList<?>> ArrayList<T> fetchVList(String searchKey, String listKey, V defValue) {
-        return fetchVList(jsonObjectSource, searchKey, listKey, defValue);
+        ArrayList<KeyEntry> entries = getKeysIndex().get(searchKey);
+        if (entries != null) {
+            for (KeyEntry entry : entries)
+                if (entry.list != null && (listKey == null || listKey.equals(entry.listKey)))
+                    return assembleVList(entry.list, searchKey);
+        }
+        return (ArrayList<T>) defValue;
     }
 
     /**
@@ -2046,27 +2855,51 @@ public class JsonHelper{
     public static <T, V extends ArrayList<?>> ArrayList<T> fetchVList(JSONObject json, String searchKey, String listKey,
                                                                       V defValue) {
         ArrayList<T> vList = null;
-        if (containsKey(json, searchKey)) {
-            ArrayList<JSONObject> subBranches = new ArrayList<>();
-            for (String key : json.keySet()) {
-                Object value = json.get(key);
-                if (value instanceof JSONArray list) {
-                    if (listKey == null || listKey.equals(key)) {
-                        if (containsKey(list, searchKey)) {
-                            vList = new ArrayList<>();
-                            for (int j = 0; j < list.length(); j++)
-                                vList.add((T) JsonHelper.get(list.getJSONObject(j), searchKey));
-                        }
-                    }
-                } else if (value instanceof JSONObject item && containsKey(item, searchKey))
-                    return fetchVList(item, searchKey, listKey);
-            }
-        }
+        JSONArray list = searchVList(json, searchKey, listKey);
+        if (list != null)
+            vList = assembleVList(list, searchKey);
         if (vList == null && defValue != null)
             vList = (ArrayList<T>) defValue;
         return vList;
     }
 
+    /**
+     * Method to search in a {@link JSONObject} the first list, in document order, which contains a specific key
+     *
+     * @param json:      {@link JSONObject} where search the list
+     * @param searchKey: key for value to fetch
+     * @param listKey:   list key for value to fetch, null to accept any list
+     * @return the list searched as {@link JSONArray}, if it is not exist will return null
+     */
+    private static JSONArray searchVList(JSONObject json, String searchKey, String listKey) {
+        for (String key : json.keySet()) {
+            Object value = json.opt(key);
+            if (value instanceof JSONArray list) {
+                if ((listKey == null || listKey.equals(key)) && containsKey(list, searchKey))
+                    return list;
+            } else if (value instanceof JSONObject item) {
+                JSONArray list = searchVList(item, searchKey, listKey);
+                if (list != null)
+                    return list;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method to assemble a list with the values of a specific key from each item of a {@link JSONArray}
+     *
+     * @param list:      {@link JSONArray} from fetch data
+     * @param searchKey: key for value to fetch
+     * @return list of values as {@link ArrayList} of {@link T}
+     */
+    private static <T> ArrayList<T> assembleVList(JSONArray list, String searchKey) {
+        ArrayList<T> vList = new ArrayList<>(list.length());
+        for (int j = 0; j < list.length(); j++)
+            vList.add((T) JsonHelper.get(list.getJSONObject(j), searchKey));
+        return vList;
+    }
+
     /**
      * Method to get from {@link JSONObject} a generic value
      *
@@ -2077,25 +2910,16 @@ public class JsonHelper{
      * reach the value requested directly from the entire {@code "JSON"} file without path inserted by hand
      */
     private static <T> T autoSearch(JSONObject json, String searchKey) {
-        if (containsKey(json, searchKey)) {
-            ArrayList<String> subKeys = new ArrayList<>();
-            for (String key : json.keySet()) {
-                if (key.equals(searchKey))
-                    return (T) json.get(searchKey);
-                else {
-                    T JSONType = (T) json.get(key);
-                    if (((JSONType instanceof JSONObject || JSONType instanceof JSONArray)
-                            && JSONType.toString().contains(searchKey)))
-                        subKeys.add(key);
-                }
-            }
-            for (String subKey : subKeys) {
-                T JSONType = (T) json.get(subKey);
-                if (JSONType instanceof JSONObject)
-                    return autoSearch(json.getJSONObject(subKey), searchKey);
-                else if (JSONType instanceof JSONArray)
-                    return assembleList(json.getJSONArray(subKey));
-            }
+        if (json.has(searchKey))
+            return (T) json.get(searchKey);
+        for (String key : json.keySet()) {
+            Object value = json.opt(key);
+            if (value instanceof JSONObject item) {
+                T search = autoSearch(item, searchKey);
+                if (search != null)
+                    return search;
+            } else if (value instanceof JSONArray list && containsKey(list, searchKey))
+                return assembleList(list);
         }
         return null;
     }
@@ -2108,7 +2932,245 @@ public class JsonHelper{
      * @return whether the source constants the key specified
      */
     private static boolean containsKey(Object json, String searchKey) {
-        return json.toString().contains("\"" + searchKey + "\":");
+        if (json instanceof JSONObject item) {
+            if (item.has(searchKey))
+                return true;
+            for (String key : item.keySet())
+                if (containsKey(item.opt(key), searchKey))
+                    return true;
+        } else if (json instanceof JSONArray list) {
+            for (int j = 0; j < list.length(); j++)
+                if (containsKey(list.opt(j), searchKey))
+                    return true;
+        }
+        return false;
+    }
+
+    /**
+     * Method to get from {@link #jsonObjectSource} a generic value using the {@link #keysIndex}
+     *
+     * @param searchKey: key for value to fetch
+     * @return value as {@link T}, if it is not exist will return null
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T indexedSearch(String searchKey) {
+        ArrayList<KeyEntry> entries = getKeysIndex().get(searchKey);
+        if (entries == null)
+            return null;
+        KeyEntry entry = entries.get(0);
+        if (entry.list != null)
+            return assembleList(entry.list);
+        return (T) entry.value();
+    }
+
+    /**
+     * Method to get from {@link #jsonObjectSource} a generic value using the {@link #keysIndex}
+     *
+     * @param searchKey: key for value to fetch
+     * @param defValue:  default value to return if primary value not exists
+     * @return value as {@link T}, if it is not exist will return {@code defValue}
+     */
+    private <T> T indexedSearch(String searchKey, T defValue) {
+        T search = indexedSearch(searchKey);
+        if (search == null)
+            return defValue;
+        return search;
+    }
+
+    /**
+     * Method to get the paths of all the occurrences of a key in {@link #jsonObjectSource}
+     *
+     * @param key: the key to get its paths
+     * @return the paths, in document order, as {@link ArrayList} of {@link String}, e.g. {@code "data.bids[0].price"},
+     * if the key is not exist will be returned an empty list
+     */
+    public ArrayList<String> getKeyPaths(String key) {
+        ArrayList<String> paths = new ArrayList<>();
+        ArrayList<KeyEntry> entries = getKeysIndex().get(key);
+        if (entries != null)
+            for (KeyEntry entry : entries)
+                paths.add(entry.getPath());
+        return paths;
+    }
+
+    /**
+     * Method to apply a patch to {@link #jsonObjectSource} changing it in place
+     *
+     * @param patch: the patch to apply
+     * @throws JSONException when an operation of the patch cannot be applied, in this case the source is not changed
+     * @apiNote the {@link #keysIndex} is kept consistent: the operations which only replace values do not invalidate it,
+     * while the operations which add or remove keys, or shift the items of the lists which contain objects, invalidate
+     * it, so it will be rebuilt at the next lookup by key
+     */
+    public void applyPatch(JsonPatch patch) {
+        try {
+            JSONObject source = (JSONObject) patch.apply(jsonObjectSource, this::onSourceChange, JSONObject.class);
+            if (source != jsonObjectSource)
+                setJSONObjectSource(source);
+        } catch (JSONException e) {
+            keysIndex = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Method to apply a patch to {@link #jsonObjectSource} changing it in place
+     *
+     * @param patch: the patch to apply formatted as {@link JSONArray} of operations
+     * @throws IllegalArgumentException when the patch inserted is not a valid patch
+     * @throws JSONException            when an operation of the patch cannot be applied, in this case the source is
+     *                                  not changed
+     */
+    @Wrapper
+    public void applyPatch(JSONArray patch) {
+        applyPatch(new JsonPatch(patch));
+    }
+
+    /**
+     * Method to apply a merge patch to {@link #jsonObjectSource} changing it in place, the null values of the patch
+     * remove the keys and the other values replace them, if there is no {@link #jsonObjectSource} the source will be
+     * the patch merged into an empty object
+     *
+     * @param patch: the merge patch to apply
+     */
+    public void applyMergePatch(JSONObject patch) {
+        if (patch == null)
+            throw new IllegalArgumentException("The merge patch cannot be null");
+        JSONObject source = (JSONObject) JsonPatch.applyMerge(jsonObjectSource, patch, this::onSourceChange);
+        if (source != jsonObjectSource)
+            setJSONObjectSource(source);
+    }
+
+    /**
+     * Method to compute the patch which changes {@link #jsonObjectSource} in the source of another helper
+     *
+     * @param target: the helper with the source to reach
+     * @return the patch which changes the source in the target one as {@link JsonPatch}
+     */
+    public JsonPatch diff(JsonHelper target) {
+        return JsonPatch.diff(jsonObjectSource, target.jsonObjectSource);
+    }
+
+    /**
+     * Method to compute the patch which changes a {@code "JSON"} source in another one
+     *
+     * @param source: the source to compare
+     * @param target: the source to reach
+     * @return the patch which changes the source in the target as {@link JsonPatch}
+     */
+    @Wrapper
+    public static JsonPatch diff(Object source, Object target) {
+        return JsonPatch.diff(source, target);
+    }
+
+    /**
+     * Method invoked when a value of {@link #jsonObjectSource} is changed by a patch to keep consistent the
+     * {@link #keysIndex}
+     *
+     * @param container: the object or the list changed
+     * @param shifted:   whether the keys of the object or the positions of the items of the list have been changed
+     * @param oldValue:  the value removed or replaced, null if the value has been added
+     * @param newValue:  the value added, null if the value has been removed
+     */
+    private void onSourceChange(Object container, boolean shifted, Object oldValue, Object newValue) {
+        KeysIndex index = keysIndex;
+        if (index == null)
+            return;
+        if (hasKeys(oldValue) || hasKeys(newValue))
+            keysIndex = null;
+        else if (shifted && (container instanceof JSONObject || index.keyedLists.contains(container)))
+            keysIndex = null;
+    }
+
+    /**
+     * Method to check whether a value contains keys which have to be indexed
+     *
+     * @param value: the value to check
+     * @return whether the value is an object with keys or a list which contains at least one of them as boolean
+     */
+    private static boolean hasKeys(Object value) {
+        if (value instanceof JSONObject object)
+            return !object.isEmpty();
+        if (value instanceof JSONArray list)
+            for (int j = 0; j < list.length(); j++)
+                if (hasKeys(list.opt(j)))
+                    return true;
+        return false;
+    }
+
+    /**
+     * Method to get the {@link #keysIndex}, building it if it is not built yet <br>
+     * No-any params required
+     *
+     * @return the {@link #keysIndex} as {@link HashMap} of {@link String} and {@link ArrayList} of {@link KeyEntry}
+     */
+    private HashMap<String, ArrayList<KeyEntry>> getKeysIndex() {
+        KeysIndex index = keysIndex;
+        if (index == null) {
+            index = new KeysIndex();
+            if (jsonObjectSource != null)
+                indexKeys(index, jsonObjectSource, null, null, null);
+            keysIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Method to index the keys of a {@link JSONObject} and of its children <br>
+     * The keys of the object are indexed before the children ones, so the first occurrence of a key is the same
+     * reached by the automatic search
+     *
+     * @param index:   the index where insert the keys
+     * @param json:    the {@link JSONObject} to index
+     * @param parent:  the entry of the parent of the object
+     * @param list:    the outermost {@link JSONArray} which contains the object, null if it is not contained in a list
+     * @param listKey: the key of the {@code "list"}
+     */
+    private static void indexKeys(KeysIndex index, JSONObject json, KeyEntry parent, JSONArray list, String listKey) {
+        KeyEntry[] entries = new KeyEntry[json.length()];
+        int j = 0;
+        for (String key : json.keySet()) {
+            KeyEntry entry = new KeyEntry(parent, key, -1, json, list, listKey);
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+            entries[j++] = entry;
+        }
+        for (KeyEntry entry : entries) {
+            Object value = json.opt(entry.key);
+            if (value instanceof JSONObject item)
+                indexKeys(index, item, entry, list, listKey);
+            else if (value instanceof JSONArray items) {
+                if (list == null)
+                    indexItems(index, items, entry, items, entry.key);
+                else
+                    indexItems(index, items, entry, list, listKey);
+            }
+        }
+    }
+
+    /**
+     * Method to index the keys of the items of a {@link JSONArray}
+     *
+     * @param index:   the index where insert the keys
+     * @param items:   the {@link JSONArray} to index
+     * @param parent:  the entry of the parent of the list
+     * @param list:    the outermost {@link JSONArray} which contains the items
+     * @param listKey: the key of the {@code "list"}
+     * @return whether the items contain at least a key indexed as boolean
+     */
+    private static boolean indexItems(KeysIndex index, JSONArray items, KeyEntry parent, JSONArray list,
+                                      String listKey) {
+        boolean keyed = false;
+        for (int j = 0; j < items.length(); j++) {
+            Object value = items.opt(j);
+            if (value instanceof JSONObject item) {
+                indexKeys(index, item, new KeyEntry(parent, null, j, items, list, listKey), list, listKey);
+                keyed |= !item.isEmpty();
+            } else if (value instanceof JSONArray subItems)
+                keyed |= indexItems(index, subItems, new KeyEntry(parent, null, j, items, list, listKey), list, listKey);
+        }
+        if (keyed)
+            index.keyedLists.add(items);
+        return keyed;
     }
 
     /**
@@ -2144,6 +3206,125 @@ public class JsonHelper{
         return (T) values;
     }
 
+    /**
+     * Method to read a {@code "JSON"} source in streaming pulling the values on demand
+     *
+     * @param jsonSource: the reader of the source of {@code "JSON"} to read
+     * @return the cursor to pull the values as {@link JsonCursor}
+     * @apiNote this method is useful for the large sources when only some values are needed, because the values not
+     * requested are skipped without building them
+     */
+    @Wrapper
+    public static JsonCursor stream(Reader jsonSource) {
+        return new JsonCursor(jsonSource);
+    }
+
+    /**
+     * Method to read a {@code "JSON"} source in streaming pulling the values on demand
+     *
+     * @param jsonSource: the stream of the source of {@code "JSON"} to read, encoded in {@code "UTF-8"}
+     * @return the cursor to pull the values as {@link JsonCursor}
+     * @apiNote this method is useful for the large sources when only some values are needed, because the values not
+     * requested are skipped without building them
+     */
+    @Wrapper
+    public static JsonCursor stream(InputStream jsonSource) {
+        return new JsonCursor(jsonSource);
+    }
+
+    /**
+     * Method to create a lazy view over the raw bytes of a {@code "JSON"} source
+     *
+     * @param jsonSource: the raw {@code "UTF-8"} bytes of the source
+     * @return the view of the source as {@link JsonView}
+     * @apiNote this method is useful when only few values have to be read from each source, like the messages of a
+     * stream, because the source is not parsed: only its structural index is built at the first access and only the
+     * values requested are decoded
+     */
+    @Wrapper
+    public static JsonView view(byte[] jsonSource) {
+        return new JsonView(jsonSource);
+    }
+
+    /**
+     * Method to check whether a {@code "JSON"} source is an array checking its first significant character
+     *
+     * @param jsonSource: the {@code "JSON"} source to check
+     * @return whether the {@code "JSON"} source is an array as boolean
+     */
+    private static boolean isJSONArraySource(String jsonSource) {
+        for (int j = 0; j < jsonSource.length(); j++) {
+            char character = jsonSource.charAt(j);
+            if (!Character.isWhitespace(character))
+                return character == '[';
+        }
+        return false;
+    }
+
+    /**
+     * Method to compile a path to resolve it against multiple sources with the same shape
+     *
+     * @param path: the path to compile, e.g. {@code "data.bids[*].price"}
+     * @return the path compiled as {@link JsonPath}
+     * @throws IllegalArgumentException when the path inserted is not a valid path
+     * @apiNote a compiled path reaches the value with a direct walk, so it is faster than the automatic search when
+     * the same values have to be fetched from many sources, like the messages of a stream
+     */
+    @Wrapper
+    public static JsonPath compile(String path) {
+        return JsonPath.compile(path);
+    }
+
+    /**
+     * Method to create a projection which builds only the values of some paths when a source is parsed
+     *
+     * @param paths: the paths of the values to build, e.g. {@code "data.bids[*].price"}
+     * @return the projection as {@link JsonProjection}
+     * @throws IllegalArgumentException when a path inserted is not a valid path
+     * @apiNote a projection can be reused to parse all the sources with the same shape, like the messages of a stream,
+     * and the values not selected are skipped without being built
+     */
+    @Wrapper
+    public static JsonProjection projection(String... paths) {
+        return new JsonProjection(paths);
+    }
+
+    /**
+     * Method to compile multiple paths to extract their values with a single traversal of a source
+     *
+     * @param paths: the paths to compile
+     * @return the extractor of the paths as {@link JsonPath.Extractor}
+     * @throws IllegalArgumentException when a path inserted is not a valid path
+     */
+    @Wrapper
+    public static JsonPath.Extractor compile(String... paths) {
+        return JsonPath.extractor(paths);
+    }
+
+    /**
+     * Method to resolve a compiled path against the sources of this {@link JsonHelper}
+     *
+     * @param path: the compiled path to resolve
+     * @return the value reached as {@link T}, when the path has wildcard steps will be returned an {@link ArrayList} with
+     * all the values reached, if the value is not exist will return null
+     */
+    @Wrapper
+    public <T> T read(JsonPath path) {
+        return path.read(this);
+    }
+
+    /**
+     * Method to extract the values of multiple compiled paths from the sources of this {@link JsonHelper}
+     *
+     * @param extractor: the extractor of the paths
+     * @return the values as array of {@link Object}, in the same order of the paths, where the values of the paths
+     * with wildcard steps are {@link ArrayList} and the values not exist are null
+     */
+    @Wrapper
+    public Object[] extract(JsonPath.Extractor extractor) {
+        return extractor.extract(this);
+    }
+
     /**
      * Method to get {@link #jsonObjectSource} instance <br>
      * No-any params required
@@ -2165,6 +3346,7 @@ public class JsonHelper{
     public <T> void setJSONObjectSource(T jsonObjectSource) {
         try {
             this.jsonObjectSource = new JSONObject(jsonObjectSource);
+            keysIndex = null;
         } catch (JSONException e) {
             throw new IllegalArgumentException("The JSON source inserted is not a valid source");
         }
@@ -2179,6 +3361,7 @@ public class JsonHelper{
     public void setJSONObjectSource(String jsonObjectSource) {
         try {
             this.jsonObjectSource = new JSONObject(jsonObjectSource);
+            keysIndex = null;
         } catch (JSONException e) {
             throw new IllegalArgumentException("The JSON source inserted is not a valid source");
         }
@@ -2193,6 +3376,7 @@ public class JsonHelper{
     public void setJSONObjectSource(JSONObject jsonObjectSource) {
         try {
             this.jsonObjectSource = jsonObjectSource;
+            keysIndex = null;
         } catch (JSONException e) {
             throw new IllegalArgumentException("The JSON source inserted is not a valid source");
         }
@@ -2263,4 +3447,191 @@ public class JsonHelper{
         return new JSONObject(this).toString();
     }
 
+    /**
+     * The {@code RangeTask} class is useful to process a range of the items of a list, splitting it in halves until
+     * the ranges are small enough to be processed sequentially
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        /**
+         * {@code serialVersionUID} is constant that contains the version of the serialized form of the class
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@code from} the first index of the range, inclusive
+         */
+        private final int from;
+
+        /**
+         * {@code to} the last index of the range, exclusive
+         */
+        private final int to;
+
+        /**
+         * {@code grain} the size of the ranges to process sequentially
+         */
+        private final int grain;
+
+        /**
+         * {@code action} the action to execute on each index of the range
+         */
+        private final IntConsumer action;
+
+        /**
+         * Constructor to init {@link RangeTask}
+         *
+         * @param from:   the first index of the range, inclusive
+         * @param to:     the last index of the range, exclusive
+         * @param grain:  the size of the ranges to process sequentially
+         * @param action: the action to execute on each index of the range
+         */
+        private RangeTask(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        /**
+         * Method to process the range <br>
+         * No-any params required
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int index = from; index < to; index++)
+                    action.accept(index);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, middle, grain, action), new RangeTask(middle, to, grain, action));
+            }
+        }
+
+    }
+
+    /**
+     * The {@code KeysIndex} class is useful to memorize the occurrences of the keys of the {@link #jsonObjectSource}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class KeysIndex extends HashMap<String, ArrayList<KeyEntry>> {
+
+        /**
+         * {@code serialVersionUID} is constant that contains the version of the serialized form of the class
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@code keyedLists} the lists which contain at least an object with keys, the positions of their items are
+         * memorized by the entries
+         */
+        private final Set<JSONArray> keyedLists = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    }
+
+    /**
+     * The {@code KeyEntry} class is useful to memorize an occurrence of a key, or an item of a list, inside the
+     * {@link #jsonObjectSource}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class KeyEntry {
+
+        /**
+         * {@code parent} the entry of the parent, null if the entry is in the root of the source
+         */
+        private final KeyEntry parent;
+
+        /**
+         * {@code key} the key of the entry, null if the entry is an item of a list
+         */
+        private final String key;
+
+        /**
+         * {@code position} the position of the entry in its list, -1 if the entry is not an item of a list
+         */
+        private final int position;
+
+        /**
+         * {@code container} the {@link JSONObject} or the {@link JSONArray} which contains the entry
+         */
+        private final Object container;
+
+        /**
+         * {@code list} the outermost {@link JSONArray} which contains the entry, null if it is not contained in a list
+         */
+        private final JSONArray list;
+
+        /**
+         * {@code listKey} the key of the {@link #list}
+         */
+        private final String listKey;
+
+        /**
+         * Constructor to init {@link KeyEntry}
+         *
+         * @param parent:    the entry of the parent, null if the entry is in the root of the source
+         * @param key:       the key of the entry, null if the entry is an item of a list
+         * @param position:  the position of the entry in its list, -1 if the entry is not an item of a list
+         * @param container: the {@link JSONObject} or the {@link JSONArray} which contains the entry
+         * @param list:      the outermost {@link JSONArray} which contains the entry, null if it is not contained in a list
+         * @param listKey:   the key of the {@code "list"}
+         */
+        private KeyEntry(KeyEntry parent, String key, int position, Object container, JSONArray list, String listKey) {
+            this.parent = parent;
+            this.key = key;
+            this.position = position;
+            this.container = container;
+            this.list = list;
+            this.listKey = listKey;
+        }
+
+        /**
+         * Method to get the current value of the entry from its container <br>
+         * No-any params required
+         *
+         * @return the value of the entry as {@link Object}
+         */
+        private Object value() {
+            if (key != null)
+                return ((JSONObject) container).opt(key);
+            return ((JSONArray) container).opt(position);
+        }
+
+        /**
+         * Method to get the path of the entry from the root of the source <br>
+         * No-any params required
+         *
+         * @return the path of the entry as {@link String}
+         */
+        private String getPath() {
+            StringBuilder path = new StringBuilder();
+            appendPath(path);
+            return path.toString();
+        }
+
+        /**
+         * Method to append the path of the entry to a builder
+         *
+         * @param path: the builder where append the path
+         */
+        private void appendPath(StringBuilder path) {
+            if (parent != null)
+                parent.appendPath(path);
+            if (key != null) {
+                if (!path.isEmpty())
+                    path.append('.');
+                path.append(key);
+            } else
+                path.append('[').append(position).append(']');
+        }
+
+    }
+
 }
@@ -0,0 +1,1006 @@
+package com.tecknobit.apimanager.formatters;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code JsonPatch} class is useful to apply the changes of a delta to a {@code "JSON"} source in place, without
+ * rebuilding it, following the {@code "RFC 6902"} format, and to compute the delta between two sources
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // apply a delta received from a feed to the local snapshot
+ *         JsonPatch delta = new JsonPatch("[{\"op\":\"replace\",\"path\":\"/balances/0/free\",\"value\":\"0.5\"}]");
+ *         snapshot.applyPatch(delta);
+ *
+ *         // or build it by hand
+ *         JsonPatch patch = new JsonPatch()
+ *                 .replace("/bids/0", new JSONArray("[\"30000.5\",\"1.2\"]"))
+ *                 .remove("/asks/3");
+ *
+ *         // compute the delta between two sources
+ *         JsonPatch diff = JsonPatch.diff(previous, current);
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the paths are {@code "JSON"} pointers as defined by the {@code "RFC 6901"}, e.g. {@code "/data/bids/0"},
+ * where the {@code "-"} index refers to the end of a list. A patch is applied atomically: when an operation fails the
+ * changes of the previous operations are reverted and a {@link JSONException} is thrown. The values inserted by the
+ * operations are copied, so the same patch can be applied to multiple sources
+ * @since 2.2.5
+ */
+public class JsonPatch {
+
+    /**
+     * {@code operations} the operations of the patch
+     */
+    private final ArrayList<Operation> operations;
+
+    /**
+     * Constructor to init {@link JsonPatch} without operations <br>
+     * No-any params required
+     */
+    public JsonPatch() {
+        operations = new ArrayList<>();
+    }
+
+    /**
+     * Constructor to init {@link JsonPatch}
+     *
+     * @param patch: the patch formatted as {@code "JSON"} array of operations
+     * @throws IllegalArgumentException when the patch inserted is not a valid patch
+     */
+    public JsonPatch(String patch) {
+        this(parsePatch(patch));
+    }
+
+    /**
+     * Constructor to init {@link JsonPatch}
+     *
+     * @param patch: the patch as {@link JSONArray} of operations
+     * @throws IllegalArgumentException when the patch inserted is not a valid patch
+     */
+    public JsonPatch(JSONArray patch) {
+        this();
+        for (int j = 0; j < patch.length(); j++) {
+            if (!(patch.opt(j) instanceof JSONObject operation))
+                throw new IllegalArgumentException("The operation at index " + j + " is not a valid operation");
+            if (!(operation.opt("op") instanceof String op))
+                throw new IllegalArgumentException("The operation at index " + j + " has not the op member");
+            OperationType type;
+            try {
+                type = OperationType.valueOf(op.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("The operation " + op + " is not a valid operation");
+            }
+            Object value = operation.opt("value");
+            if (value == null && (type == OperationType.ADD || type == OperationType.REPLACE
+                    || type == OperationType.TEST)) {
+                throw new IllegalArgumentException("The operation at index " + j + " has not the value member");
+            }
+            operations.add(new Operation(type, optText(operation, "path"), optText(operation, "from"), value));
+        }
+    }
+
+    /**
+     * Method to get a textual member of an operation
+     *
+     * @param operation: the operation from get the member
+     * @param member:    the name of the member to get
+     * @return the member as {@link String}, null if it is not exist or is not a text
+     */
+    private static String optText(JSONObject operation, String member) {
+        if (operation.opt(member) instanceof String text)
+            return text;
+        return null;
+    }
+
+    /**
+     * Method to parse a patch formatted as {@code "JSON"} array
+     *
+     * @param patch: the patch to parse
+     * @return the patch as {@link JSONArray}
+     * @throws IllegalArgumentException when the patch inserted is not a valid {@code "JSON"} array
+     */
+    private static JSONArray parsePatch(String patch) {
+        try {
+            return new JSONArray(patch);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("The patch inserted is not a valid JSON array");
+        }
+    }
+
+    /**
+     * Method to add an {@link OperationType#ADD} operation to the patch
+     *
+     * @param path:  the path where add the value
+     * @param value: the value to add
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch add(String path, Object value) {
+        operations.add(new Operation(OperationType.ADD, path, null, value));
+        return this;
+    }
+
+    /**
+     * Method to add a {@link OperationType#REMOVE} operation to the patch
+     *
+     * @param path: the path of the value to remove
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch remove(String path) {
+        operations.add(new Operation(OperationType.REMOVE, path, null, null));
+        return this;
+    }
+
+    /**
+     * Method to add a {@link OperationType#REPLACE} operation to the patch
+     *
+     * @param path:  the path of the value to replace
+     * @param value: the new value
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch replace(String path, Object value) {
+        operations.add(new Operation(OperationType.REPLACE, path, null, value));
+        return this;
+    }
+
+    /**
+     * Method to add a {@link OperationType#MOVE} operation to the patch
+     *
+     * @param from: the path of the value to move
+     * @param path: the path where move the value
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch move(String from, String path) {
+        operations.add(new Operation(OperationType.MOVE, path, from, null));
+        return this;
+    }
+
+    /**
+     * Method to add a {@link OperationType#COPY} operation to the patch
+     *
+     * @param from: the path of the value to copy
+     * @param path: the path where copy the value
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch copy(String from, String path) {
+        operations.add(new Operation(OperationType.COPY, path, from, null));
+        return this;
+    }
+
+    /**
+     * Method to add a {@link OperationType#TEST} operation to the patch
+     *
+     * @param path:  the path of the value to test
+     * @param value: the value expected
+     * @return the patch itself as {@link JsonPatch}
+     */
+    public JsonPatch test(String path, Object value) {
+        operations.add(new Operation(OperationType.TEST, path, null, value));
+        return this;
+    }
+
+    /**
+     * Method to get {@link #operations} instance <br>
+     * No-any params required
+     *
+     * @return {@link #operations} instance as {@link List} of {@link Operation}
+     */
+    public List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Method to get the number of the operations of the patch <br>
+     * No-any params required
+     *
+     * @return the number of the operations as int
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Method to check whether the patch has not operations <br>
+     * No-any params required
+     *
+     * @return whether the patch has not operations as boolean
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Method to apply the patch to a {@code "JSON"} source changing it in place
+     *
+     * @param source: the source, {@link JSONObject} or {@link JSONArray}, to change
+     * @return the source changed, it is a different value only when the root of the source has been replaced
+     * @throws JSONException when an operation cannot be applied, in this case the source is not changed
+     */
+    public Object apply(Object source) {
+        return apply(source, null, null);
+    }
+
+    /**
+     * Method to apply the patch to a {@code "JSON"} source changing it in place
+     *
+     * @param source:   the source, {@link JSONObject} or {@link JSONArray}, to change
+     * @param observer: the observer notified of each change, null to not notify them
+     * @param rootType: the type required for the root of the source changed, null to accept any type
+     * @return the source changed, it is a different value only when the root of the source has been replaced
+     * @throws JSONException when an operation cannot be applied, in this case the source is not changed
+     */
+    Object apply(Object source, ChangeObserver observer, Class<?> rootType) {
+        Editor editor = new Editor(source, observer);
+        try {
+            for (Operation operation : operations)
+                editor.apply(operation);
+            if (rootType != null && !rootType.isInstance(editor.root))
+                throw new JSONException("The root of the source must be a " + rootType.getSimpleName());
+        } catch (JSONException e) {
+            editor.rollback();
+            throw e;
+        }
+        return editor.root;
+    }
+
+    /**
+     * Method to apply a merge patch to a {@code "JSON"} source changing it in place, following the
+     * {@code "RFC 7386"} format: the null values of the patch remove the keys and the other values replace them
+     *
+     * @param source: the source to change
+     * @param patch:  the merge patch to apply
+     * @return the source changed, it is a different value when the patch is not a {@link JSONObject} or the source is
+     * not a {@link JSONObject}
+     */
+    public static Object applyMerge(Object source, Object patch) {
+        return applyMerge(source, patch, null);
+    }
+
+    /**
+     * Method to apply a merge patch to a {@code "JSON"} source changing it in place
+     *
+     * @param source:   the source to change
+     * @param patch:    the merge patch to apply
+     * @param observer: the observer notified of each change, null to not notify them
+     * @return the source changed
+     */
+    static Object applyMerge(Object source, Object patch, ChangeObserver observer) {
+        if (!(patch instanceof JSONObject members))
+            return copyValue(patch);
+        JSONObject target = source instanceof JSONObject object ? object : new JSONObject();
+        for (String key : members.keySet()) {
+            Object value = members.opt(key);
+            Object current = target.opt(key);
+            if (JSONObject.NULL.equals(value)) {
+                if (current != null) {
+                    target.remove(key);
+                    notifyChange(observer, target, true, current, null);
+                }
+            } else {
+                Object merged = applyMerge(current, value, observer);
+                if (merged != current) {
+                    target.put(key, merged);
+                    notifyChange(observer, target, current == null, current, merged);
+                }
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Method to compute the patch which changes a source in a target, comparing them structurally <br>
+     * The objects are compared key by key and the lists item by item, so the cost is proportional to the size of the
+     * sources and the patch contains only the values changed
+     *
+     * @param source: the source to compare
+     * @param target: the target to reach
+     * @return the patch which changes the source in the target as {@link JsonPatch}
+     */
+    public static JsonPatch diff(Object source, Object target) {
+        JsonPatch patch = new JsonPatch();
+        diff(patch, new StringBuilder(), source, target);
+        return patch;
+    }
+
+    /**
+     * Method to compute the operations which change a value in another one
+     *
+     * @param patch:  the patch where add the operations
+     * @param path:   the path of the values compared
+     * @param source: the source value
+     * @param target: the target value
+     */
+    private static void diff(JsonPatch patch, StringBuilder path, Object source, Object target) {
+        int length = path.length();
+        if (source instanceof JSONObject sourceObject && target instanceof JSONObject targetObject) {
+            for (String key : sourceObject.keySet()) {
+                appendToken(path, key);
+                Object targetValue = targetObject.opt(key);
+                if (targetValue == null)
+                    patch.remove(path.toString());
+                else
+                    diff(patch, path, sourceObject.opt(key), targetValue);
+                path.setLength(length);
+            }
+            for (String key : targetObject.keySet()) {
+                if (!sourceObject.has(key)) {
+                    appendToken(path, key);
+                    patch.add(path.toString(), targetObject.opt(key));
+                    path.setLength(length);
+                }
+            }
+        } else if (source instanceof JSONArray sourceList && target instanceof JSONArray targetList) {
+            int sourceLength = sourceList.length(), targetLength = targetList.length();
+            int prefix = 0;
+            while (prefix < sourceLength && prefix < targetLength
+                    && jsonEquals(sourceList.opt(prefix), targetList.opt(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < sourceLength - prefix && suffix < targetLength - prefix
+                    && jsonEquals(sourceList.opt(sourceLength - 1 - suffix), targetList.opt(targetLength - 1 - suffix))) {
+                suffix++;
+            }
+            sourceLength -= suffix;
+            targetLength -= suffix;
+            int common = Math.min(sourceLength, targetLength);
+            for (int j = prefix; j < common; j++) {
+                path.append('/').append(j);
+                diff(patch, path, sourceList.opt(j), targetList.opt(j));
+                path.setLength(length);
+            }
+            for (int j = sourceLength - 1; j >= common; j--) {
+                path.append('/').append(j);
+                patch.remove(path.toString());
+                path.setLength(length);
+            }
+            for (int j = common; j < targetLength; j++) {
+                path.append('/').append(j);
+                patch.add(path.toString(), targetList.opt(j));
+                path.setLength(length);
+            }
+        } else if (!jsonEquals(source, target))
+            patch.replace(path.toString(), target);
+    }
+
+    /**
+     * Method to append a token to a {@code "JSON"} pointer escaping it
+     *
+     * @param path:  the pointer where append the token
+     * @param token: the token to append
+     */
+    private static void appendToken(StringBuilder path, String token) {
+        path.append('/');
+        for (int j = 0; j < token.length(); j++) {
+            char character = token.charAt(j);
+            if (character == '~')
+                path.append("~0");
+            else if (character == '/')
+                path.append("~1");
+            else
+                path.append(character);
+        }
+    }
+
+    /**
+     * Method to check whether two {@code "JSON"} values are equal, the numbers are compared by their value
+     *
+     * @param first:  the first value to compare
+     * @param second: the second value to compare
+     * @return whether the values are equal as boolean
+     */
+    static boolean jsonEquals(Object first, Object second) {
+        if (first == second)
+            return true;
+        if (first == null || JSONObject.NULL.equals(first))
+            return second == null || JSONObject.NULL.equals(second);
+        if (first instanceof Number firstNumber && second instanceof Number secondNumber)
+            return compareNumbers(firstNumber, secondNumber);
+        if (first instanceof JSONObject firstObject && second instanceof JSONObject secondObject) {
+            if (firstObject.length() != secondObject.length())
+                return false;
+            for (String key : firstObject.keySet())
+                if (!jsonEquals(firstObject.opt(key), secondObject.opt(key)))
+                    return false;
+            return true;
+        }
+        if (first instanceof JSONArray firstList && second instanceof JSONArray secondList) {
+            if (firstList.length() != secondList.length())
+                return false;
+            for (int j = 0; j < firstList.length(); j++)
+                if (!jsonEquals(firstList.opt(j), secondList.opt(j)))
+                    return false;
+            return true;
+        }
+        return first.equals(second);
+    }
+
+    /**
+     * Method to compare two numbers by their value
+     *
+     * @param first:  the first number to compare
+     * @param second: the second number to compare
+     * @return whether the numbers have the same value as boolean
+     */
+    private static boolean compareNumbers(Number first, Number second) {
+        if (isIntegral(first) && isIntegral(second))
+            return first.longValue() == second.longValue();
+        if ((first instanceof Double || first instanceof Float || isIntegral(first))
+                && (second instanceof Double || second instanceof Float || isIntegral(second))) {
+            return first.doubleValue() == second.doubleValue();
+        }
+        BigDecimal firstDecimal = NumericParser.parseBigDecimal(first.toString());
+        BigDecimal secondDecimal = NumericParser.parseBigDecimal(second.toString());
+        if (firstDecimal == null || secondDecimal == null)
+            return first.equals(second);
+        return firstDecimal.compareTo(secondDecimal) == 0;
+    }
+
+    /**
+     * Method to check whether a number is an integral primitive number
+     *
+     * @param number: the number to check
+     * @return whether the number is an integral primitive number as boolean
+     */
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    /**
+     * Method to copy a {@code "JSON"} value, the objects and the lists are copied deeply
+     *
+     * @param value: the value to copy
+     * @return the value copied as {@link Object}
+     */
+    static Object copyValue(Object value) {
+        if (value == null)
+            return JSONObject.NULL;
+        if (value instanceof JSONObject object) {
+            JSONObject copy = new JSONObject();
+            for (String key : object.keySet())
+                copy.put(key, copyValue(object.opt(key)));
+            return copy;
+        }
+        if (value instanceof JSONArray list) {
+            JSONArray copy = new JSONArray();
+            for (int j = 0; j < list.length(); j++)
+                copy.put(copyValue(list.opt(j)));
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Method to notify a change to an observer
+     *
+     * @param observer:  the observer to notify, null to not notify the change
+     * @param container: the object or the list changed
+     * @param shifted:   whether the keys of the object or the positions of the items of the list have been changed
+     * @param oldValue:  the value removed or replaced, null if the value has been added
+     * @param newValue:  the value added, null if the value has been removed
+     */
+    private static void notifyChange(ChangeObserver observer, Object container, boolean shifted, Object oldValue,
+                                     Object newValue) {
+        if (observer != null)
+            observer.onChange(container, shifted, oldValue, newValue);
+    }
+
+    /**
+     * Method to get the patch as {@link JSONArray} <br>
+     * No-any params required
+     *
+     * @return the patch as {@link JSONArray}
+     */
+    public JSONArray toJSONArray() {
+        JSONArray patch = new JSONArray();
+        for (Operation operation : operations)
+            patch.put(operation.toJSONObject());
+        return patch;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the patch formatted as {@code "JSON"} array
+     */
+    @Override
+    public String toString() {
+        return toJSONArray().toString();
+    }
+
+    /**
+     * {@code OperationType} list of available operations of a patch
+     */
+    public enum OperationType {
+
+        /**
+         * {@code ADD} operation to add a value in an object or to insert it in a list
+         */
+        ADD,
+
+        /**
+         * {@code REMOVE} operation to remove a value
+         */
+        REMOVE,
+
+        /**
+         * {@code REPLACE} operation to replace an existing value
+         */
+        REPLACE,
+
+        /**
+         * {@code MOVE} operation to remove a value and add it in another path
+         */
+        MOVE,
+
+        /**
+         * {@code COPY} operation to copy a value in another path
+         */
+        COPY,
+
+        /**
+         * {@code TEST} operation to check whether a value is equal to the expected one
+         */
+        TEST;
+
+        /**
+         * Method to get the name of the operation as used in the {@code "JSON"} format <br>
+         * No-any params required
+         *
+         * @return the name of the operation as {@link String}
+         */
+        public String getOp() {
+            return name().toLowerCase();
+        }
+
+    }
+
+    /**
+     * The {@code Operation} class is useful to memorize an operation of a {@link JsonPatch}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static class Operation {
+
+        /**
+         * {@code type} the type of the operation
+         */
+        private final OperationType type;
+
+        /**
+         * {@code path} the path where the operation is applied
+         */
+        private final String path;
+
+        /**
+         * {@code from} the path of the value to move or to copy, null for the other operations
+         */
+        private final String from;
+
+        /**
+         * {@code value} the value of the operation, null for the operations without value
+         */
+        private final Object value;
+
+        /**
+         * {@code tokens} the tokens of the {@link #path}
+         */
+        private final String[] tokens;
+
+        /**
+         * {@code fromTokens} the tokens of the {@link #from} path
+         */
+        private final String[] fromTokens;
+
+        /**
+         * Constructor to init {@link Operation}
+         *
+         * @param type:  the type of the operation
+         * @param path:  the path where the operation is applied
+         * @param from:  the path of the value to move or to copy
+         * @param value: the value of the operation
+         * @throws IllegalArgumentException when the paths are not valid {@code "JSON"} pointers
+         */
+        private Operation(OperationType type, String path, String from, Object value) {
+            this.type = type;
+            this.path = path;
+            tokens = parsePointer(path);
+            if (type == OperationType.MOVE || type == OperationType.COPY) {
+                this.from = from;
+                fromTokens = parsePointer(from);
+            } else {
+                this.from = null;
+                fromTokens = null;
+            }
+            if (type == OperationType.ADD || type == OperationType.REPLACE || type == OperationType.TEST)
+                this.value = value == null ? JSONObject.NULL : value;
+            else
+                this.value = null;
+        }
+
+        /**
+         * Method to parse a {@code "JSON"} pointer
+         *
+         * @param pointer: the pointer to parse
+         * @return the tokens of the pointer as array of {@link String}
+         * @throws IllegalArgumentException when the pointer is not valid
+         */
+        private static String[] parsePointer(String pointer) {
+            if (pointer == null)
+                throw new IllegalArgumentException("The path of the operation cannot be null");
+            if (pointer.isEmpty())
+                return new String[0];
+            if (pointer.charAt(0) != '/')
+                throw new IllegalArgumentException("The path " + pointer + " must start with /");
+            ArrayList<String> tokens = new ArrayList<>();
+            StringBuilder token = new StringBuilder();
+            for (int j = 1; j <= pointer.length(); j++) {
+                char character = j < pointer.length() ? pointer.charAt(j) : '/';
+                if (character == '/') {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                } else if (character == '~') {
+                    char escape = j + 1 < pointer.length() ? pointer.charAt(++j) : 0;
+                    if (escape == '0')
+                        token.append('~');
+                    else if (escape == '1')
+                        token.append('/');
+                    else
+                        throw new IllegalArgumentException("The path " + pointer + " contains an invalid escape");
+                } else
+                    token.append(character);
+            }
+            return tokens.toArray(new String[0]);
+        }
+
+        /**
+         * Method to get {@link #type} instance <br>
+         * No-any params required
+         *
+         * @return {@link #type} instance as {@link OperationType}
+         */
+        public OperationType getType() {
+            return type;
+        }
+
+        /**
+         * Method to get {@link #path} instance <br>
+         * No-any params required
+         *
+         * @return {@link #path} instance as {@link String}
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Method to get {@link #from} instance <br>
+         * No-any params required
+         *
+         * @return {@link #from} instance as {@link String}
+         */
+        public String getFrom() {
+            return from;
+        }
+
+        /**
+         * Method to get {@link #value} instance <br>
+         * No-any params required
+         *
+         * @return {@link #value} instance as {@link T}
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getValue() {
+            return (T) value;
+        }
+
+        /**
+         * Method to get the operation as {@link JSONObject} <br>
+         * No-any params required
+         *
+         * @return the operation as {@link JSONObject}
+         */
+        public JSONObject toJSONObject() {
+            JSONObject operation = new JSONObject();
+            operation.put("op", type.getOp());
+            if (from != null)
+                operation.put("from", from);
+            operation.put("path", path);
+            if (value != null)
+                operation.put("value", value);
+            return operation;
+        }
+
+        /**
+         * Returns a string representation of the object <br>
+         * No-any params required
+         *
+         * @return a string representation of the operation formatted as {@code "JSON"} object
+         */
+        @Override
+        public String toString() {
+            return toJSONObject().toString();
+        }
+
+    }
+
+    /**
+     * The {@code ChangeObserver} interface is useful to be notified of the changes made by a patch, so the indexes of
+     * the source can be updated
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    interface ChangeObserver {
+
+        /**
+         * Method invoked when a value of an object or a list is changed
+         *
+         * @param container: the object or the list changed
+         * @param shifted:   whether the keys of the object or the positions of the items of the list have been changed
+         * @param oldValue:  the value removed or replaced, null if the value has been added
+         * @param newValue:  the value added, null if the value has been removed
+         */
+        void onChange(Object container, boolean shifted, Object oldValue, Object newValue);
+
+    }
+
+    /**
+     * The {@code Editor} class is useful to apply the operations to a source memorizing how to revert them
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class Editor {
+
+        /**
+         * {@code root} the root of the source
+         */
+        private Object root;
+
+        /**
+         * {@code observer} the observer notified of each change, null to not notify them
+         */
+        private final ChangeObserver observer;
+
+        /**
+         * {@code undoLog} the actions to revert the changes applied, the last one first
+         */
+        private final ArrayDeque<Runnable> undoLog;
+
+        /**
+         * Constructor to init {@link Editor}
+         *
+         * @param root:     the root of the source
+         * @param observer: the observer notified of each change
+         */
+        private Editor(Object root, ChangeObserver observer) {
+            this.root = root;
+            this.observer = observer;
+            undoLog = new ArrayDeque<>();
+        }
+
+        /**
+         * Method to apply an operation
+         *
+         * @param operation: the operation to apply
+         * @throws JSONException when the operation cannot be applied
+         */
+        private void apply(Operation operation) {
+            String[] tokens = operation.tokens;
+            switch (operation.type) {
+                case ADD -> add(tokens, copyValue(operation.value), operation.path);
+                case REMOVE -> remove(tokens, operation.path);
+                case REPLACE -> replace(tokens, copyValue(operation.value), operation.path);
+                case MOVE -> {
+                    if (isPrefix(operation.fromTokens, tokens) && operation.fromTokens.length < tokens.length)
+                        throw new JSONException("Cannot move the value " + operation.from + " in one of its children");
+                    add(tokens, remove(operation.fromTokens, operation.from), operation.path);
+                }
+                case COPY -> add(tokens, copyValue(resolve(operation.fromTokens, operation.fromTokens.length,
+                        operation.from)), operation.path);
+                case TEST -> {
+                    if (!jsonEquals(resolve(tokens, tokens.length, operation.path), operation.value))
+                        throw new JSONException("The value of " + operation.path + " is not the value expected");
+                }
+            }
+        }
+
+        /**
+         * Method to add a value
+         *
+         * @param tokens: the tokens of the path where add the value
+         * @param value:  the value to add
+         * @param path:   the path where add the value
+         * @throws JSONException when the value cannot be added
+         */
+        private void add(String[] tokens, Object value, String path) {
+            if (tokens.length == 0) {
+                Object previousRoot = root;
+                root = value;
+                undoLog.push(() -> root = previousRoot);
+                return;
+            }
+            Object container = resolve(tokens, tokens.length - 1, path);
+            String token = tokens[tokens.length - 1];
+            if (container instanceof JSONObject object) {
+                Object oldValue = object.opt(token);
+                object.put(token, value);
+                undoLog.push(() -> {
+                    if (oldValue == null)
+                        object.remove(token);
+                    else
+                        object.put(token, oldValue);
+                });
+                notifyChange(observer, object, oldValue == null, oldValue, value);
+            } else if (container instanceof JSONArray list) {
+                int length = list.length();
+                int index = token.equals("-") ? length : parseIndex(token, length, path);
+                for (int j = length; j > index; j--)
+                    list.put(j, list.opt(j - 1));
+                list.put(index, value);
+                undoLog.push(() -> list.remove(index));
+                notifyChange(observer, list, index < length, null, value);
+            } else
+                throw new JSONException("The parent of " + path + " is not an object or a list");
+        }
+
+        /**
+         * Method to replace an existing value, the keys of the objects and the positions of the items are not changed
+         *
+         * @param tokens: the tokens of the path of the value to replace
+         * @param value:  the new value
+         * @param path:   the path of the value to replace
+         * @throws JSONException when the value cannot be replaced
+         */
+        private void replace(String[] tokens, Object value, String path) {
+            if (tokens.length == 0) {
+                Object previousRoot = root;
+                root = value;
+                undoLog.push(() -> root = previousRoot);
+                return;
+            }
+            Object container = resolve(tokens, tokens.length - 1, path);
+            String token = tokens[tokens.length - 1];
+            if (container instanceof JSONObject object) {
+                Object oldValue = object.opt(token);
+                if (oldValue == null)
+                    throw new JSONException("The path " + path + " does not exist");
+                object.put(token, value);
+                undoLog.push(() -> object.put(token, oldValue));
+                notifyChange(observer, object, false, oldValue, value);
+            } else if (container instanceof JSONArray list) {
+                int index = parseIndex(token, list.length() - 1, path);
+                Object oldValue = list.opt(index);
+                list.put(index, value);
+                undoLog.push(() -> list.put(index, oldValue));
+                notifyChange(observer, list, false, oldValue, value);
+            } else
+                throw new JSONException("The parent of " + path + " is not an object or a list");
+        }
+
+        /**
+         * Method to remove a value
+         *
+         * @param tokens: the tokens of the path of the value to remove
+         * @param path:   the path of the value to remove
+         * @return the value removed as {@link Object}
+         * @throws JSONException when the value cannot be removed
+         */
+        private Object remove(String[] tokens, String path) {
+            if (tokens.length == 0) {
+                Object previousRoot = root;
+                root = null;
+                undoLog.push(() -> root = previousRoot);
+                return previousRoot;
+            }
+            Object container = resolve(tokens, tokens.length - 1, path);
+            String token = tokens[tokens.length - 1];
+            if (container instanceof JSONObject object) {
+                Object oldValue = object.remove(token);
+                if (oldValue == null)
+                    throw new JSONException("The path " + path + " does not exist");
+                undoLog.push(() -> object.put(token, oldValue));
+                notifyChange(observer, object, true, oldValue, null);
+                return oldValue;
+            } else if (container instanceof JSONArray list) {
+                int index = parseIndex(token, list.length() - 1, path);
+                Object oldValue = list.remove(index);
+                undoLog.push(() -> {
+                    for (int j = list.length(); j > index; j--)
+                        list.put(j, list.opt(j - 1));
+                    list.put(index, oldValue);
+                });
+                notifyChange(observer, list, index < list.length(), oldValue, null);
+                return oldValue;
+            }
+            throw new JSONException("The parent of " + path + " is not an object or a list");
+        }
+
+        /**
+         * Method to resolve the value of a path
+         *
+         * @param tokens: the tokens of the path
+         * @param length: the number of the tokens to resolve
+         * @param path:   the path to resolve
+         * @return the value of the path as {@link Object}
+         * @throws JSONException when the path does not exist
+         */
+        private Object resolve(String[] tokens, int length, String path) {
+            Object value = root;
+            for (int j = 0; j < length; j++) {
+                if (value instanceof JSONObject object)
+                    value = object.opt(tokens[j]);
+                else if (value instanceof JSONArray list)
+                    value = list.opt(parseIndex(tokens[j], list.length() - 1, path));
+                else
+                    value = null;
+                if (value == null)
+                    throw new JSONException("The path " + path + " does not exist");
+            }
+            if (value == null)
+                throw new JSONException("The path " + path + " does not exist");
+            return value;
+        }
+
+        /**
+         * Method to parse an index of a list
+         *
+         * @param token:    the token to parse
+         * @param maxIndex: the max index accepted
+         * @param path:     the path which contains the index
+         * @return the index as int
+         * @throws JSONException when the index is not valid or is out of the range accepted
+         */
+        private static int parseIndex(String token, int maxIndex, String path) {
+            if (token.isEmpty() || (token.length() > 1 && token.charAt(0) == '0'))
+                throw new JSONException("The index " + token + " of " + path + " is not valid");
+            int index = NumericParser.parseInt(token, -1);
+            if (index < 0 || token.charAt(0) == '+')
+                throw new JSONException("The index " + token + " of " + path + " is not valid");
+            if (index > maxIndex)
+                throw new JSONException("The index " + token + " of " + path + " is out of bounds");
+            return index;
+        }
+
+        /**
+         * Method to check whether a path is a prefix of another one
+         *
+         * @param prefix: the tokens of the prefix
+         * @param tokens: the tokens of the path
+         * @return whether the path starts with the prefix as boolean
+         */
+        private static boolean isPrefix(String[] prefix, String[] tokens) {
+            if (prefix.length > tokens.length)
+                return false;
+            for (int j = 0; j < prefix.length; j++)
+                if (!prefix[j].equals(tokens[j]))
+                    return false;
+            return true;
+        }
+
+        /**
+         * Method to revert all the changes applied <br>
+         * No-any params required
+         */
+        private void rollback() {
+            while (!undoLog.isEmpty())
+                undoLog.pop().run();
+        }
+
+    }
+
+}
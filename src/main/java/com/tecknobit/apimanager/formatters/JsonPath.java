@@ -0,0 +1,542 @@
+package com.tecknobit.apimanager.formatters;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.tecknobit.apimanager.formatters.JsonHelper.NUMERIC_CLASS_CAST_ERROR_VALUE;
+import static com.tecknobit.apimanager.formatters.JsonHelper.NUMERIC_DEF_VALUE_IF_MISSED;
+
+/**
+ * The {@code JsonPath} class is useful to resolve a compiled path against {@code "JSON"} sources with a single direct
+ * walk, without searching the keys and without serializing the source
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // compile the path once
+ *         JsonPath pricePath = JsonHelper.compile("data.bids[0].price");
+ *         JsonPath pricesPath = JsonHelper.compile("data.bids[*].price");
+ *
+ *         // and then resolve it against each message with the same shape
+ *         double price = pricePath.readDouble(message); // --> 30000.0
+ *         ArrayList<String> prices = pricesPath.read(message); // --> [30000.0, 29999.5, ...]
+ *
+ *         // or extract multiple values with a single traversal
+ *         JsonPath.Extractor extractor = JsonPath.extractor("symbol", "data.bids[*].price", "data.asks[-1].price");
+ *         Object[] values = extractor.extract(message); // --> [BTCUSDT, [30000.0, 29999.5, ...], 30010.0]
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the path is composed by keys separated by {@code "."}, each key can be followed by one or more indexes in the
+ * {@code "[index]"} form, where a negative index counts from the end of the list, or by the {@code "[*]"} wildcard to
+ * select all the items of a list; a path can start with an index when the source is a {@link JSONArray}
+ * @since 2.2.5
+ */
+public class JsonPath {
+
+    /**
+     * {@code WILDCARD_INDEX} is constant that memorizes the index of the steps which select all the items of a list
+     */
+    static final int WILDCARD_INDEX = Integer.MIN_VALUE;
+
+    /**
+     * {@code path} the path compiled
+     */
+    private final String path;
+
+    /**
+     * {@code keys} the keys of the steps of the path, null for the steps on the items of a list
+     */
+    private final String[] keys;
+
+    /**
+     * {@code indexes} the indexes of the steps on the items of a list
+     */
+    private final int[] indexes;
+
+    /**
+     * {@code definite} whether the path selects a single value, so it has not wildcard steps
+     */
+    private final boolean definite;
+
+    /**
+     * Constructor to init {@link JsonPath}
+     *
+     * @param path: the path to compile
+     * @throws IllegalArgumentException when the path inserted is not a valid path
+     */
+    private JsonPath(String path) {
+        this.path = path;
+        ArrayList<Object> steps = parseSteps(path);
+        keys = new String[steps.size()];
+        indexes = new int[steps.size()];
+        boolean definite = true;
+        for (int j = 0; j < keys.length; j++) {
+            Object step = steps.get(j);
+            if (step instanceof String key)
+                keys[j] = key;
+            else {
+                indexes[j] = (int) step;
+                if (indexes[j] == WILDCARD_INDEX)
+                    definite = false;
+            }
+        }
+        this.definite = definite;
+    }
+
+    /**
+     * Method to compile a path
+     *
+     * @param path: the path to compile, e.g. {@code "data.bids[*].price"}
+     * @return the path compiled as {@link JsonPath}
+     * @throws IllegalArgumentException when the path inserted is not a valid path
+     */
+    public static JsonPath compile(String path) {
+        return new JsonPath(path);
+    }
+
+    /**
+     * Method to create an extractor of multiple values with a single traversal of the source
+     *
+     * @param paths: the paths of the values to extract
+     * @return the extractor as {@link Extractor}
+     * @throws IllegalArgumentException when a path inserted is not a valid path
+     */
+    @Wrapper
+    public static Extractor extractor(String... paths) {
+        return new Extractor(paths);
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source
+     *
+     * @param source: the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @return the value reached as {@link T}, when the path has wildcard steps will be returned an {@link ArrayList} with
+     * all the values reached, if the value is not exist will return null
+     * @apiNote the source can be also a {@link JsonHelper}, in this case when the path starts with a key will be used its
+     * {@link JSONObject} source, else its {@link JSONArray} one
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(Object source) {
+        if (source instanceof JsonHelper jsonHelper) {
+            if (keys.length > 0 && keys[0] == null)
+                source = jsonHelper.getJSONArraySource();
+            else
+                source = jsonHelper.getJSONObjectSource();
+        }
+        if (definite)
+            return (T) walk(source, 0);
+        ArrayList<Object> values = new ArrayList<>();
+        collect(source, 0, values);
+        return (T) values;
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a string value
+     *
+     * @param source: the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @return value as {@link String}, if it is not exist will return null value
+     */
+    @Wrapper
+    public String readString(Object source) {
+        return readString(source, null);
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a string value
+     *
+     * @param source:   the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @param defValue: default value to return if primary value not exists
+     * @return value as {@link String}, if it is not exist will return {@code defValue}
+     */
+    public String readString(Object source, String defValue) {
+        Object value = read(source);
+        if (value == null || value == JSONObject.NULL)
+            return defValue;
+        return value.toString();
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a double value
+     *
+     * @param source: the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @return value as double, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double readDouble(Object source) {
+        return readDouble(source, NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a double value
+     *
+     * @param source:   the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @param defValue: default value to return if primary value not exists
+     * @return value as double, if it is not exist will return {@code defValue}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public double readDouble(Object source, double defValue) {
+        Object value = read(source);
+        if (value == null)
+            return defValue;
+        if (value instanceof Number number)
+            return number.doubleValue();
+        return NumericParser.parseDouble(value.toString(), NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a long value
+     *
+     * @param source: the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @return value as long, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public long readLong(Object source) {
+        return readLong(source, NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to resolve the path against a {@code "JSON"} source and get a long value
+     *
+     * @param source:   the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where resolve the path
+     * @param defValue: default value to return if primary value not exists
+     * @return value as long, if it is not exist will return {@code defValue}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public long readLong(Object source, long defValue) {
+        Object value = read(source);
+        if (value == null)
+            return defValue;
+        if (value instanceof Number number)
+            return number.longValue();
+        return NumericParser.parseLong(value.toString(), NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to walk a definite path from a step
+     *
+     * @param value: the value reached by the previous steps
+     * @param step:  the step from walk
+     * @return the value reached as {@link Object}, if it is not exist will return null
+     */
+    private Object walk(Object value, int step) {
+        for (; step < keys.length && value != null; step++)
+            value = next(value, keys[step], indexes[step]);
+        return value;
+    }
+
+    /**
+     * Method to collect all the values reached by a path with wildcard steps
+     *
+     * @param value:  the value reached by the previous steps
+     * @param step:   the step from walk
+     * @param values: the list where collect the values reached
+     */
+    private void collect(Object value, int step, ArrayList<Object> values) {
+        for (; step < keys.length && value != null; step++) {
+            if (keys[step] == null && indexes[step] == WILDCARD_INDEX) {
+                if (value instanceof JSONArray list)
+                    for (int j = 0; j < list.length(); j++)
+                        collect(list.opt(j), step + 1, values);
+                return;
+            }
+            value = next(value, keys[step], indexes[step]);
+        }
+        if (value != null)
+            values.add(value);
+    }
+
+    /**
+     * Method to execute a single step of a path
+     *
+     * @param value: the value where execute the step
+     * @param key:   the key of the step, null if the step is on the items of a list
+     * @param index: the index of the step
+     * @return the value reached as {@link Object}, if it is not exist will return null
+     */
+    private static Object next(Object value, String key, int index) {
+        if (key != null) {
+            if (value instanceof JSONObject json)
+                return json.opt(key);
+        } else if (value instanceof JSONArray list) {
+            if (index < 0)
+                index += list.length();
+            return list.opt(index);
+        }
+        return null;
+    }
+
+    /**
+     * Method to parse the steps of a path
+     *
+     * @param path: the path to parse
+     * @return the steps as {@link ArrayList} of {@link Object}, the keys as {@link String} and the indexes as {@link Integer}
+     * @throws IllegalArgumentException when the path inserted is not a valid path
+     */
+    static ArrayList<Object> parseSteps(String path) {
+        if (path == null || path.isEmpty())
+            throw new IllegalArgumentException("The JSON path inserted is not a valid path");
+        ArrayList<Object> steps = new ArrayList<>();
+        int length = path.length();
+        int position = path.startsWith("$") ? 1 : 0;
+        if (position == 1 && length > 1 && path.charAt(1) == '.')
+            position++;
+        boolean expectKey = position < length && path.charAt(position) != '[';
+        while (position < length) {
+            char character = path.charAt(position);
+            if (character == '[') {
+                int end = path.indexOf(']', position);
+                if (end == -1)
+                    throw new IllegalArgumentException("Missing ']' in the JSON path: " + path);
+                String index = path.substring(position + 1, end).trim();
+                if (index.equals("*"))
+                    steps.add(WILDCARD_INDEX);
+                else {
+                    try {
+                        steps.add(Integer.parseInt(index));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid index \"" + index + "\" in the JSON path: " + path);
+                    }
+                }
+                position = end + 1;
+                if (position < length && path.charAt(position) == '.') {
+                    position++;
+                    expectKey = true;
+                }
+            } else if (expectKey) {
+                int end = position;
+                while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[')
+                    end++;
+                if (end == position)
+                    throw new IllegalArgumentException("Empty key in the JSON path: " + path);
+                steps.add(path.substring(position, end));
+                position = end;
+                expectKey = false;
+                if (position < length && path.charAt(position) == '.') {
+                    position++;
+                    expectKey = true;
+                }
+            } else
+                throw new IllegalArgumentException("The JSON path inserted is not a valid path: " + path);
+        }
+        if (expectKey)
+            throw new IllegalArgumentException("The JSON path inserted cannot end with '.': " + path);
+        return steps;
+    }
+
+    /**
+     * Method to get {@link #path} instance <br>
+     * No-any params required
+     *
+     * @return {@link #path} instance as {@link String}
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Method to get whether the path selects a single value <br>
+     * No-any params required
+     *
+     * @return whether the path selects a single value as boolean
+     */
+    public boolean isDefinite() {
+        return definite;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * The {@code Extractor} class is useful to extract the values of multiple {@link JsonPath} with a single traversal
+     * of the source, the steps shared by the paths are executed only once
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    public static class Extractor {
+
+        /**
+         * {@code paths} the paths to extract
+         */
+        private final JsonPath[] paths;
+
+        /**
+         * {@code root} the root of the tree of the steps of the paths
+         */
+        private final Step root;
+
+        /**
+         * Constructor to init {@link Extractor}
+         *
+         * @param paths: the paths of the values to extract
+         * @throws IllegalArgumentException when a path inserted is not a valid path
+         */
+        public Extractor(String... paths) {
+            this.paths = new JsonPath[paths.length];
+            root = new Step();
+            for (int j = 0; j < paths.length; j++) {
+                JsonPath jsonPath = new JsonPath(paths[j]);
+                this.paths[j] = jsonPath;
+                Step step = root;
+                for (int i = 0; i < jsonPath.keys.length; i++)
+                    step = step.getChild(jsonPath.keys[i], jsonPath.indexes[i]);
+                step.addTerminal(j);
+            }
+        }
+
+        /**
+         * Method to extract the values of the paths from a {@code "JSON"} source
+         *
+         * @param source: the {@code "JSON"} source, {@link JSONObject} or {@link JSONArray}, where extract the values
+         * @return the values as array of {@link Object}, in the same order of the paths, where the values of the paths
+         * with wildcard steps are {@link ArrayList} and the values not exist are null
+         * @apiNote the source can be also a {@link JsonHelper}, in this case will be used its {@link JSONObject} source
+         * if it is set, else its {@link JSONArray} one
+         */
+        public Object[] extract(Object source) {
+            if (source instanceof JsonHelper jsonHelper) {
+                JSONObject jsonObject = jsonHelper.getJSONObjectSource();
+                if (jsonObject != null && !jsonObject.isEmpty())
+                    source = jsonObject;
+                else
+                    source = jsonHelper.getJSONArraySource();
+            }
+            Object[] values = new Object[paths.length];
+            for (int j = 0; j < paths.length; j++)
+                if (!paths[j].definite)
+                    values[j] = new ArrayList<>();
+            root.visit(source, values);
+            return values;
+        }
+
+        /**
+         * Method to get {@link #paths} instance <br>
+         * No-any params required
+         *
+         * @return {@link #paths} instance as array of {@link JsonPath}
+         */
+        public JsonPath[] getPaths() {
+            return paths.clone();
+        }
+
+    }
+
+    /**
+     * The {@code Step} class is useful to create the tree of the steps of the paths of an {@link Extractor}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class Step {
+
+        /**
+         * {@code keyChildren} the children steps on the keys of an object
+         */
+        private HashMap<String, Step> keyChildren;
+
+        /**
+         * {@code indexChildren} the children steps on the items of a list
+         */
+        private HashMap<Integer, Step> indexChildren;
+
+        /**
+         * {@code wildcardChild} the child step on all the items of a list
+         */
+        private Step wildcardChild;
+
+        /**
+         * {@code terminals} the positions of the paths which end with this step
+         */
+        private int[] terminals = new int[0];
+
+        /**
+         * Method to get, creating it if not exists, a child step
+         *
+         * @param key:   the key of the step, null if the step is on the items of a list
+         * @param index: the index of the step
+         * @return the child step as {@link Step}
+         */
+        private Step getChild(String key, int index) {
+            if (key != null) {
+                if (keyChildren == null)
+                    keyChildren = new HashMap<>();
+                return keyChildren.computeIfAbsent(key, k -> new Step());
+            } else if (index == WILDCARD_INDEX) {
+                if (wildcardChild == null)
+                    wildcardChild = new Step();
+                return wildcardChild;
+            }
+            if (indexChildren == null)
+                indexChildren = new HashMap<>();
+            return indexChildren.computeIfAbsent(index, k -> new Step());
+        }
+
+        /**
+         * Method to add a path which ends with this step
+         *
+         * @param terminal: the position of the path
+         */
+        private void addTerminal(int terminal) {
+            int[] terminals = new int[this.terminals.length + 1];
+            System.arraycopy(this.terminals, 0, terminals, 0, this.terminals.length);
+            terminals[this.terminals.length] = terminal;
+            this.terminals = terminals;
+        }
+
+        /**
+         * Method to visit a value with this step and its children
+         *
+         * @param value:  the value reached by the previous steps
+         * @param values: the values extracted
+         */
+        @SuppressWarnings("unchecked")
+        private void visit(Object value, Object[] values) {
+            for (int terminal : terminals) {
+                if (values[terminal] instanceof ArrayList<?> list)
+                    ((ArrayList<Object>) list).add(value);
+                else
+                    values[terminal] = value;
+            }
+            if (value instanceof JSONObject json) {
+                if (keyChildren != null) {
+                    for (Map.Entry<String, Step> keyChild : keyChildren.entrySet()) {
+                        Object child = json.opt(keyChild.getKey());
+                        if (child != null)
+                            keyChild.getValue().visit(child, values);
+                    }
+                }
+            } else if (value instanceof JSONArray list) {
+                if (indexChildren != null) {
+                    for (Map.Entry<Integer, Step> indexChild : indexChildren.entrySet()) {
+                        int index = indexChild.getKey();
+                        Object child = list.opt(index < 0 ? index + list.length() : index);
+                        if (child != null)
+                            indexChild.getValue().visit(child, values);
+                    }
+                }
+                if (wildcardChild != null)
+                    for (int j = 0; j < list.length(); j++)
+                        wildcardChild.visit(list.opt(j), values);
+            }
+        }
+
+    }
+
+}
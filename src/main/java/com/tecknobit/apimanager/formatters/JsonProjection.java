@@ -0,0 +1,341 @@
+package com.tecknobit.apimanager.formatters;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.tecknobit.apimanager.formatters.JsonPath.WILDCARD_INDEX;
+
+/**
+ * The {@code JsonProjection} class is useful to parse a {@code "JSON"} source building only the values of the paths
+ * declared, all the other values are skipped by the parser without being built
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // declare once the paths needed
+ *         JsonProjection projection = JsonHelper.projection("symbol", "data.bids[*]", "data.balances[*].free");
+ *
+ *         // and then parse each message with the same shape
+ *         JsonHelper message = projection.parse(inputStream);
+ *         String symbol = message.getString("symbol");
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the paths have the same format of the {@link JsonPath}, but the negative indexes are not supported because
+ * the length of a list is not known while it is read. The source built keeps the structure of the original one, so
+ * the paths declared can be resolved on it as usual, and the items of a list skipped before an index selected are
+ * replaced by {@link JSONObject#NULL} to keep their positions
+ * @since 2.2.5
+ */
+public class JsonProjection {
+
+    /**
+     * {@code paths} the paths of the values to build
+     */
+    private final String[] paths;
+
+    /**
+     * {@code root} the root of the tree of the steps of the paths
+     */
+    private final Node root;
+
+    /**
+     * Constructor to init {@link JsonProjection}
+     *
+     * @param paths: the paths of the values to build, e.g. {@code "data.bids[*].price"}
+     * @throws IllegalArgumentException when a path inserted is not a valid path or when no path is inserted
+     */
+    public JsonProjection(String... paths) {
+        if (paths.length == 0)
+            throw new IllegalArgumentException("The projection must have at least one path");
+        this.paths = paths.clone();
+        root = new Node();
+        for (String path : paths) {
+            Node node = root;
+            for (Object step : JsonPath.parseSteps(path)) {
+                if (node.whole)
+                    break;
+                if (step instanceof String key)
+                    node = node.getChild(key, 0);
+                else {
+                    int index = (int) step;
+                    if (index < 0 && index != WILDCARD_INDEX) {
+                        throw new IllegalArgumentException("The negative indexes are not supported by the projections: "
+                                + path);
+                    }
+                    node = node.getChild(null, index);
+                }
+            }
+            node.setWhole();
+        }
+        root.seal();
+    }
+
+    /**
+     * Method to build the projection of the next value of a cursor, the other values are skipped
+     *
+     * @param cursor: the cursor positioned at the value to read
+     * @return the projection of the value as {@link T}, the objects as {@link JSONObject} and the lists as
+     * {@link JSONArray}, null if the value has not the structure of the paths
+     * @throws org.json.JSONException when the source is not a valid {@code "JSON"} source
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(JsonCursor cursor) {
+        return (T) project(cursor, root);
+    }
+
+    /**
+     * Method to parse a source building only the values of the paths
+     *
+     * @param jsonSource: the source to parse
+     * @return the projection of the source as {@link JsonHelper}
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     */
+    @Wrapper
+    public JsonHelper parse(String jsonSource) {
+        return new JsonHelper(jsonSource, this);
+    }
+
+    /**
+     * Method to parse a source building only the values of the paths
+     *
+     * @param jsonSource: the reader of the source to parse, it is not closed by this method
+     * @return the projection of the source as {@link JsonHelper}
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     */
+    @Wrapper
+    public JsonHelper parse(Reader jsonSource) {
+        return new JsonHelper(jsonSource, this);
+    }
+
+    /**
+     * Method to parse a source building only the values of the paths
+     *
+     * @param jsonSource: the stream of the source to parse, encoded in {@code "UTF-8"}, it is not closed by this method
+     * @return the projection of the source as {@link JsonHelper}
+     * @throws IllegalArgumentException when {@code "jsonSource"} inserted is not a valid {@code "JSON"} source
+     */
+    @Wrapper
+    public JsonHelper parse(InputStream jsonSource) {
+        return new JsonHelper(jsonSource, this);
+    }
+
+    /**
+     * Method to build the projection of the next value of a cursor
+     *
+     * @param cursor: the cursor positioned at the value to read
+     * @param node:   the node of the paths which selects the value
+     * @return the projection of the value as {@link Object}, null if the value has not the structure of the paths
+     */
+    private static Object project(JsonCursor cursor, Node node) {
+        if (node.whole)
+            return cursor.readValue();
+        switch (cursor.peek()) {
+            case BEGIN_OBJECT -> {
+                if (node.keyChildren == null)
+                    break;
+                cursor.beginObject();
+                JSONObject jsonObject = new JSONObject();
+                while (cursor.hasNext()) {
+                    String name = cursor.nextName();
+                    Node child = node.keyChildren.get(name);
+                    if (child == null)
+                        cursor.skipValue();
+                    else {
+                        Object value = project(cursor, child);
+                        if (value != null)
+                            jsonObject.put(name, value);
+                    }
+                }
+                cursor.endObject();
+                return jsonObject;
+            }
+            case BEGIN_ARRAY -> {
+                if (node.wildcardChild == null && node.indexChildren == null)
+                    break;
+                cursor.beginArray();
+                JSONArray jsonArray = new JSONArray();
+                for (int j = 0; cursor.hasNext(); j++) {
+                    Node child = node.wildcardChild;
+                    if (node.indexChildren != null && j <= node.maxIndex)
+                        child = node.indexChildren.getOrDefault(j, child);
+                    if (child == null) {
+                        cursor.skipValue();
+                        if (j < node.maxIndex)
+                            jsonArray.put(JSONObject.NULL);
+                    } else {
+                        Object value = project(cursor, child);
+                        jsonArray.put(value != null ? value : JSONObject.NULL);
+                    }
+                }
+                cursor.endArray();
+                return jsonArray;
+            }
+        }
+        cursor.skipValue();
+        return null;
+    }
+
+    /**
+     * Method to get {@link #paths} instance <br>
+     * No-any params required
+     *
+     * @return {@link #paths} instance as array of {@link String}
+     */
+    public String[] getPaths() {
+        return paths.clone();
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return String.join(", ", paths);
+    }
+
+    /**
+     * The {@code Node} class is useful to create the tree of the steps of the paths of a {@link JsonProjection}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class Node {
+
+        /**
+         * {@code keyChildren} the children nodes on the keys of an object
+         */
+        private HashMap<String, Node> keyChildren;
+
+        /**
+         * {@code indexChildren} the children nodes on the items of a list
+         */
+        private HashMap<Integer, Node> indexChildren;
+
+        /**
+         * {@code wildcardChild} the child node on all the items of a list
+         */
+        private Node wildcardChild;
+
+        /**
+         * {@code maxIndex} the max index of the {@link #indexChildren}, -1 if there are not index children
+         */
+        private int maxIndex = -1;
+
+        /**
+         * {@code whole} whether the value is selected entirely by a path
+         */
+        private boolean whole;
+
+        /**
+         * Method to get, creating it if not exists, a child node
+         *
+         * @param key:   the key of the node, null if the node is on the items of a list
+         * @param index: the index of the node
+         * @return the child node as {@link Node}
+         */
+        private Node getChild(String key, int index) {
+            if (key != null) {
+                if (keyChildren == null)
+                    keyChildren = new HashMap<>();
+                return keyChildren.computeIfAbsent(key, k -> new Node());
+            } else if (index == WILDCARD_INDEX) {
+                if (wildcardChild == null)
+                    wildcardChild = new Node();
+                return wildcardChild;
+            }
+            if (indexChildren == null)
+                indexChildren = new HashMap<>();
+            maxIndex = Math.max(maxIndex, index);
+            return indexChildren.computeIfAbsent(index, k -> new Node());
+        }
+
+        /**
+         * Method to select the value entirely, the children are not needed anymore <br>
+         * No-any params required
+         */
+        private void setWhole() {
+            whole = true;
+            keyChildren = null;
+            indexChildren = null;
+            wildcardChild = null;
+            maxIndex = -1;
+        }
+
+        /**
+         * Method to complete the tree after all the paths have been added, the children on the indexes are merged with
+         * the child on all the items, so an item selected by both is built with the union of their paths <br>
+         * No-any params required
+         */
+        private void seal() {
+            if (keyChildren != null)
+                for (Node child : keyChildren.values())
+                    child.seal();
+            if (wildcardChild != null)
+                wildcardChild.seal();
+            if (indexChildren != null) {
+                for (Map.Entry<Integer, Node> child : indexChildren.entrySet()) {
+                    if (wildcardChild != null)
+                        child.setValue(merge(child.getValue(), wildcardChild));
+                    child.getValue().seal();
+                }
+            }
+        }
+
+        /**
+         * Method to merge two nodes in a new node with the union of their paths
+         *
+         * @param first:  the first node to merge
+         * @param second: the second node to merge
+         * @return the node merged as {@link Node}
+         */
+        private static Node merge(Node first, Node second) {
+            Node node = new Node();
+            if (first.whole || second.whole) {
+                node.whole = true;
+                return node;
+            }
+            for (Node source : new Node[]{first, second}) {
+                if (source.keyChildren != null)
+                    for (Map.Entry<String, Node> child : source.keyChildren.entrySet())
+                        node.mergeChild(node.getChild(child.getKey(), 0), child.getValue(), child.getKey(), 0);
+                if (source.indexChildren != null)
+                    for (Map.Entry<Integer, Node> child : source.indexChildren.entrySet())
+                        node.mergeChild(node.getChild(null, child.getKey()), child.getValue(), null, child.getKey());
+                if (source.wildcardChild != null)
+                    node.mergeChild(node.getChild(null, WILDCARD_INDEX), source.wildcardChild, null, WILDCARD_INDEX);
+            }
+            return node;
+        }
+
+        /**
+         * Method to merge a node in a child of this node
+         *
+         * @param child:  the child of this node
+         * @param source: the node to merge in the child
+         * @param key:    the key of the child, null if the child is on the items of a list
+         * @param index:  the index of the child
+         */
+        private void mergeChild(Node child, Node source, String key, int index) {
+            Node merged = merge(child, source);
+            if (key != null)
+                keyChildren.put(key, merged);
+            else if (index == WILDCARD_INDEX)
+                wildcardChild = merged;
+            else
+                indexChildren.put(index, merged);
+        }
+
+    }
+
+}
@@ -0,0 +1,976 @@
+package com.tecknobit.apimanager.formatters;
+
+import com.tecknobit.apimanager.annotations.Wrapper;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static com.tecknobit.apimanager.formatters.JsonHelper.NUMERIC_CLASS_CAST_ERROR_VALUE;
+import static com.tecknobit.apimanager.formatters.JsonHelper.NUMERIC_DEF_VALUE_IF_MISSED;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code JsonView} class is useful to read some values from a {@code "JSON"} source kept as raw {@code "UTF-8"}
+ * bytes, without parsing it entirely
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // no work is done when the view is created
+ *         JsonView view = JsonHelper.view(message.toByteArray());
+ *
+ *         // the first access builds the structural index of the source, then only the values requested are decoded
+ *         String symbol = view.getString("s"); // --> BTCUSDT
+ *         double price = view.getDouble("p"); // --> 30000.5
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the values are searched like {@link JsonHelper} does, so you don't need to pass the path to reach them.
+ * The structural index memorizes only the offsets of the keys and of the values in the source, so it is cheaper than
+ * building the {@link JSONObject} or the {@link JSONArray} of the source, and it is shared by the views of the values
+ * returned by {@link #getView(String)} and {@link #getView(int)}
+ * @since 2.2.5
+ */
+public class JsonView {
+
+    /**
+     * {@code OBJECT} is constant that memorizes the kind of the object tokens
+     */
+    private static final byte OBJECT = 1;
+
+    /**
+     * {@code ARRAY} is constant that memorizes the kind of the array tokens
+     */
+    private static final byte ARRAY = 2;
+
+    /**
+     * {@code KEY} is constant that memorizes the kind of the key tokens
+     */
+    private static final byte KEY = 3;
+
+    /**
+     * {@code STRING} is constant that memorizes the kind of the string tokens
+     */
+    private static final byte STRING = 4;
+
+    /**
+     * {@code NUMBER} is constant that memorizes the kind of the number tokens
+     */
+    private static final byte NUMBER = 5;
+
+    /**
+     * {@code TRUE} is constant that memorizes the kind of the true tokens
+     */
+    private static final byte TRUE = 6;
+
+    /**
+     * {@code FALSE} is constant that memorizes the kind of the false tokens
+     */
+    private static final byte FALSE = 7;
+
+    /**
+     * {@code NULL} is constant that memorizes the kind of the null tokens
+     */
+    private static final byte NULL = 8;
+
+    /**
+     * {@code ESCAPED} is constant that memorizes the flag of the key and string tokens which contain escape sequences
+     */
+    private static final byte ESCAPED = 0x10;
+
+    /**
+     * {@code source} the raw bytes of the source
+     */
+    private final byte[] source;
+
+    /**
+     * {@code offset} the offset of the source in the {@link #source} bytes
+     */
+    private final int offset;
+
+    /**
+     * {@code length} the length of the source in the {@link #source} bytes
+     */
+    private final int length;
+
+    /**
+     * {@code tape} the structural index of the source, null until the first access
+     */
+    private volatile Tape tape;
+
+    /**
+     * {@code token} the token of the value viewed
+     */
+    private final int token;
+
+    /**
+     * Constructor to init {@link JsonView}
+     *
+     * @param source: the raw {@code "UTF-8"} bytes of the source, they must not be changed while the view is used
+     */
+    public JsonView(byte[] source) {
+        this(source, 0, source.length);
+    }
+
+    /**
+     * Constructor to init {@link JsonView}
+     *
+     * @param source: the raw {@code "UTF-8"} bytes which contain the source, they must not be changed while the view is
+     *                used
+     * @param offset: the offset of the source in the bytes
+     * @param length: the length of the source in the bytes
+     */
+    public JsonView(byte[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > source.length)
+            throw new IndexOutOfBoundsException("Invalid range of the source");
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        token = 0;
+    }
+
+    /**
+     * Constructor to init {@link JsonView}
+     *
+     * @param source: the source to view
+     */
+    public JsonView(String source) {
+        this(source.getBytes(UTF_8));
+    }
+
+    /**
+     * Constructor to init {@link JsonView}
+     *
+     * @param parent: the view which contains the value to view
+     * @param token:  the token of the value to view
+     */
+    private JsonView(JsonView parent, int token) {
+        source = parent.source;
+        offset = parent.offset;
+        length = parent.length;
+        tape = parent.tape;
+        this.token = token;
+    }
+
+    /**
+     * Method to get whether the value viewed is an array <br>
+     * No-any params required
+     *
+     * @return whether the value viewed is an array as boolean
+     * @throws JSONException when the source is not a valid {@code "JSON"} source
+     */
+    public boolean isArray() {
+        return getTape().kind(token) == ARRAY;
+    }
+
+    /**
+     * Method to get the number of the keys of the object or of the items of the array viewed <br>
+     * No-any params required
+     *
+     * @return the number of the keys or of the items as int, 0 if the value viewed is not an object or an array
+     * @throws JSONException when the source is not a valid {@code "JSON"} source
+     */
+    public int length() {
+        Tape tape = getTape();
+        byte kind = tape.kind(token);
+        int items = 0;
+        if (kind == OBJECT || kind == ARRAY) {
+            int end = tape.next[token];
+            for (int item = token + 1; item < end; item = tape.next[item])
+                items++;
+            if (kind == OBJECT)
+                items /= 2;
+        }
+        return items;
+    }
+
+    /**
+     * Method to check whether the value viewed contains a key at any level
+     *
+     * @param key: the key to check
+     * @return whether the value viewed contains the key as boolean
+     * @throws JSONException when the source is not a valid {@code "JSON"} source
+     */
+    public boolean containsKey(String key) {
+        return containsKey(getTape(), token, key.getBytes(UTF_8));
+    }
+
+    /**
+     * Method to get a string value
+     *
+     * @param key: key of string value to get
+     * @return value as {@link String}, if it is not exist will return null value
+     * @apiNote the numbers and the booleans are returned as their text, the objects and the arrays as null
+     */
+    @Wrapper
+    public String getString(String key) {
+        return getString(key, null);
+    }
+
+    /**
+     * Method to get a string value
+     *
+     * @param key:      key of string value to get
+     * @param defValue: default value to return if primary value not exists
+     * @return value as {@link String}, if it is not exist will return {@code defValue}
+     * @apiNote the numbers and the booleans are returned as their text, the objects and the arrays as null
+     */
+    public String getString(String key, String defValue) {
+        return decodeString(search(key), defValue);
+    }
+
+    /**
+     * Method to get a string value from the array viewed
+     *
+     * @param index: index of string value to get
+     * @return value as {@link String}, if it is not exist will return null value
+     * @apiNote the numbers and the booleans are returned as their text, the objects and the arrays as null
+     */
+    public String getString(int index) {
+        return decodeString(item(index), null);
+    }
+
+    /**
+     * Method to get a double value
+     *
+     * @param key: key of double value to get
+     * @return value as double, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public double getDouble(String key) {
+        return getDouble(key, NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to get a double value
+     *
+     * @param key:      key of double value to get
+     * @param defValue: default value to return if primary value not exists
+     * @return value as double, if it is not exist will return {@code defValue}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public double getDouble(String key, double defValue) {
+        return decodeDouble(search(key), defValue);
+    }
+
+    /**
+     * Method to get a double value from the array viewed
+     *
+     * @param index: index of double value to get
+     * @return value as double, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not a number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public double getDouble(int index) {
+        return decodeDouble(item(index), NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to get a long value
+     *
+     * @param key: key of long value to get
+     * @return value as long, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not an integer number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public long getLong(String key) {
+        return getLong(key, NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to get a long value
+     *
+     * @param key:      key of long value to get
+     * @param defValue: default value to return if primary value not exists
+     * @return value as long, if it is not exist will return {@code defValue}
+     * @apiNote if the value is not an integer number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public long getLong(String key, long defValue) {
+        return decodeLong(search(key), defValue);
+    }
+
+    /**
+     * Method to get a long value from the array viewed
+     *
+     * @param index: index of long value to get
+     * @return value as long, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not an integer number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public long getLong(int index) {
+        return decodeLong(item(index), NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to get an int value
+     *
+     * @param key: key of int value to get
+     * @return value as int, if it is not exist will return {@link JsonHelper#NUMERIC_DEF_VALUE_IF_MISSED}
+     * @apiNote if the value is not an int number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    @Wrapper
+    public int getInt(String key) {
+        return getInt(key, NUMERIC_DEF_VALUE_IF_MISSED);
+    }
+
+    /**
+     * Method to get an int value
+     *
+     * @param key:      key of int value to get
+     * @param defValue: default value to return if primary value not exists
+     * @return value as int, if it is not exist will return {@code defValue}
+     * @apiNote if the value is not an int number will be returned {@link JsonHelper#NUMERIC_CLASS_CAST_ERROR_VALUE}
+     */
+    public int getInt(String key, int defValue) {
+        long value = decodeLong(search(key), defValue);
+        if ((int) value != value)
+            return NUMERIC_CLASS_CAST_ERROR_VALUE;
+        return (int) value;
+    }
+
+    /**
+     * Method to get a boolean value
+     *
+     * @param key: key of boolean value to get
+     * @return value as boolean, if it is not exist will return false
+     */
+    @Wrapper
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    /**
+     * Method to get a boolean value
+     *
+     * @param key:      key of boolean value to get
+     * @param defValue: default value to return if primary value not exists
+     * @return value as boolean, if it is not exist will return {@code defValue}
+     */
+    public boolean getBoolean(String key, boolean defValue) {
+        int value = search(key);
+        if (value == -1)
+            return defValue;
+        Tape tape = getTape();
+        return switch (tape.kind(value)) {
+            case TRUE -> true;
+            case STRING -> Boolean.parseBoolean(decodeString(value, null));
+            case OBJECT, ARRAY -> defValue;
+            default -> false;
+        };
+    }
+
+    /**
+     * Method to get a generic value building it
+     *
+     * @param key: key of the value to get
+     * @return value as {@link T}, the objects as {@link JSONObject}, the arrays as {@link JSONArray}, the strings as
+     * {@link String}, the numbers as {@link Number}, the booleans as {@link Boolean} and the nulls as
+     * {@link JSONObject#NULL}, if it is not exist will return null
+     * @apiNote when the key is found inside a list will be returned the entire list, like {@link JsonHelper} does
+     */
+    public <T> T get(String key) {
+        return decodeValue(search(key));
+    }
+
+    /**
+     * Method to get a generic value from the array viewed building it
+     *
+     * @param index: index of the value to get
+     * @return value as {@link T}, the objects as {@link JSONObject}, the arrays as {@link JSONArray}, the strings as
+     * {@link String}, the numbers as {@link Number}, the booleans as {@link Boolean} and the nulls as
+     * {@link JSONObject#NULL}, if it is not exist will return null
+     */
+    public <T> T get(int index) {
+        return decodeValue(item(index));
+    }
+
+    /**
+     * Method to get a view of an object or of an array value without building it
+     *
+     * @param key: key of the value to view
+     * @return the view of the value as {@link JsonView}, if it is not exist or is not an object or an array will return
+     * null
+     */
+    public JsonView getView(String key) {
+        return createView(search(key));
+    }
+
+    /**
+     * Method to get a view of an object or of an array item of the array viewed without building it
+     *
+     * @param index: index of the value to view
+     * @return the view of the value as {@link JsonView}, if it is not exist or is not an object or an array will return
+     * null
+     */
+    public JsonView getView(int index) {
+        return createView(item(index));
+    }
+
+    /**
+     * Method to build the value viewed as {@link JsonHelper} <br>
+     * No-any params required
+     *
+     * @return the value viewed as {@link JsonHelper}
+     * @throws JSONException when the value viewed is not an object or an array
+     */
+    public JsonHelper toJsonHelper() {
+        Object value = decodeValue(token);
+        if (value instanceof JSONObject jsonObject)
+            return new JsonHelper(jsonObject);
+        else if (value instanceof JSONArray jsonArray)
+            return new JsonHelper(jsonArray);
+        throw new JSONException("The value viewed is not an object or an array");
+    }
+
+    /**
+     * Method to search the token of the value of a key like {@link JsonHelper} does
+     *
+     * @param key: the key to search
+     * @return the token of the value, -1 if it is not exist
+     */
+    private int search(String key) {
+        Tape tape = getTape();
+        if (tape.kind(token) != OBJECT)
+            return -1;
+        return search(tape, token, key.getBytes(UTF_8));
+    }
+
+    /**
+     * Method to search the token of the value of a key inside an object, the direct keys of the object are checked
+     * before the children ones and when the key is found inside a list will be returned the token of the list
+     *
+     * @param tape:   the structural index of the source
+     * @param object: the token of the object where search the key
+     * @param key:    the key to search
+     * @return the token of the value, -1 if it is not exist
+     */
+    private int search(Tape tape, int object, byte[] key) {
+        int end = tape.next[object];
+        for (int item = object + 1; item < end; item = tape.next[item + 1])
+            if (keyEquals(tape, item, key))
+                return item + 1;
+        for (int item = object + 1; item < end; item = tape.next[item + 1]) {
+            int value = item + 1;
+            byte kind = tape.kind(value);
+            if (kind == OBJECT) {
+                int search = search(tape, value, key);
+                if (search != -1)
+                    return search;
+            } else if (kind == ARRAY && containsKey(tape, value, key))
+                return value;
+        }
+        return -1;
+    }
+
+    /**
+     * Method to get the token of an item of the array viewed
+     *
+     * @param index: the index of the item
+     * @return the token of the item, -1 if it is not exist
+     */
+    private int item(int index) {
+        Tape tape = getTape();
+        if (tape.kind(token) != ARRAY || index < 0)
+            return -1;
+        int end = tape.next[token];
+        for (int item = token + 1; item < end; item = tape.next[item])
+            if (index-- == 0)
+                return item;
+        return -1;
+    }
+
+    /**
+     * Method to check whether a value contains a key at any level, scanning the tokens of the value without decoding
+     * them
+     *
+     * @param tape:  the structural index of the source
+     * @param value: the token of the value where check the key
+     * @param key:   the key to check
+     * @return whether the value contains the key as boolean
+     */
+    private boolean containsKey(Tape tape, int value, byte[] key) {
+        int end = tape.next[value];
+        for (int item = value + 1; item < end; item++)
+            if (tape.kind(item) == KEY && keyEquals(tape, item, key))
+                return true;
+        return false;
+    }
+
+    /**
+     * Method to check whether a key token is equal to a key
+     *
+     * @param tape: the structural index of the source
+     * @param item: the key token to check
+     * @param key:  the key to compare
+     * @return whether the key token is equal to the key as boolean
+     */
+    private boolean keyEquals(Tape tape, int item, byte[] key) {
+        int start = tape.starts[item] + 1;
+        int keyLength = tape.ends[item] - 1 - start;
+        if ((tape.kinds[item] & ESCAPED) != 0)
+            return decodeString(item, null).equals(new String(key, UTF_8));
+        return keyLength == key.length && Arrays.equals(source, start, start + keyLength, key, 0, key.length);
+    }
+
+    /**
+     * Method to decode a value as string
+     *
+     * @param value:    the token of the value
+     * @param defValue: default value to return if the value not exists
+     * @return the value as {@link String}
+     */
+    private String decodeString(int value, String defValue) {
+        if (value == -1)
+            return defValue;
+        Tape tape = getTape();
+        int start = tape.starts[value];
+        int end = tape.ends[value];
+        switch (tape.kind(value)) {
+            case KEY, STRING -> {
+                if ((tape.kinds[value] & ESCAPED) != 0)
+                    return new JsonCursor(new String(source, start, end - start, UTF_8)).nextString();
+                return new String(source, start + 1, end - start - 2, UTF_8);
+            }
+            case NUMBER, TRUE, FALSE -> {
+                return new String(source, start, end - start, ISO_8859_1);
+            }
+            case NULL -> {
+                return defValue;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Method to get the text of a numeric value, also when it is wrapped in a string
+     *
+     * @param value: the token of the value
+     * @return the text of the value as {@link String}, null if the value is not a number or a string
+     */
+    private String numericText(int value) {
+        Tape tape = getTape();
+        return switch (tape.kind(value)) {
+            case NUMBER -> new String(source, tape.starts[value], tape.ends[value] - tape.starts[value], ISO_8859_1);
+            case STRING -> decodeString(value, null).trim();
+            default -> null;
+        };
+    }
+
+    /**
+     * Method to decode a value as double
+     *
+     * @param value:    the token of the value
+     * @param defValue: default value to return if the value not exists
+     * @return the value as double
+     */
+    private double decodeDouble(int value, double defValue) {
+        if (value == -1)
+            return defValue;
+        String text = numericText(value);
+        if (text == null)
+            return NUMERIC_CLASS_CAST_ERROR_VALUE;
+        return NumericParser.parseDouble(text, NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to decode a value as long
+     *
+     * @param value:    the token of the value
+     * @param defValue: default value to return if the value not exists
+     * @return the value as long
+     */
+    private long decodeLong(int value, long defValue) {
+        if (value == -1)
+            return defValue;
+        String text = numericText(value);
+        if (text == null)
+            return NUMERIC_CLASS_CAST_ERROR_VALUE;
+        return NumericParser.parseLong(text, NUMERIC_CLASS_CAST_ERROR_VALUE);
+    }
+
+    /**
+     * Method to decode a value building it
+     *
+     * @param value: the token of the value
+     * @return the value as {@link T}, null if the value not exists
+     */
+    private <T> T decodeValue(int value) {
+        if (value == -1)
+            return null;
+        Tape tape = getTape();
+        int start = tape.starts[value];
+        return new JsonCursor(new ByteArrayInputStream(source, start, tape.ends[value] - start)).readValue();
+    }
+
+    /**
+     * Method to create the view of a value
+     *
+     * @param value: the token of the value
+     * @return the view of the value as {@link JsonView}, null if the value not exists or is not an object or an array
+     */
+    private JsonView createView(int value) {
+        if (value == -1)
+            return null;
+        byte kind = getTape().kind(value);
+        if (kind != OBJECT && kind != ARRAY)
+            return null;
+        return new JsonView(this, value);
+    }
+
+    /**
+     * Method to get the structural index of the source, building it if it is not built yet <br>
+     * No-any params required
+     *
+     * @return the structural index as {@link Tape}
+     * @throws JSONException when the source is not a valid {@code "JSON"} source
+     */
+    private Tape getTape() {
+        Tape tape = this.tape;
+        if (tape == null) {
+            tape = new Tape(source, offset, length);
+            this.tape = tape;
+        }
+        return tape;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        if (token == 0)
+            return new String(source, offset, length, UTF_8);
+        Tape tape = getTape();
+        return new String(source, tape.starts[token], tape.ends[token] - tape.starts[token], UTF_8);
+    }
+
+    /**
+     * The {@code Tape} class is useful to memorize the structural index of a source, where each token memorizes its
+     * kind, its offsets in the source and the token which follows its value
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     * @since 2.2.5
+     */
+    private static final class Tape {
+
+        /**
+         * {@code EXPECT_VALUE} is constant that memorizes that a value is expected
+         */
+        private static final int EXPECT_VALUE = 0;
+
+        /**
+         * {@code EXPECT_FIRST_VALUE} is constant that memorizes that the first value of an array, or its end, is
+         * expected
+         */
+        private static final int EXPECT_FIRST_VALUE = 1;
+
+        /**
+         * {@code EXPECT_KEY} is constant that memorizes that a key is expected
+         */
+        private static final int EXPECT_KEY = 2;
+
+        /**
+         * {@code EXPECT_FIRST_KEY} is constant that memorizes that the first key of an object, or its end, is expected
+         */
+        private static final int EXPECT_FIRST_KEY = 3;
+
+        /**
+         * {@code EXPECT_COLON} is constant that memorizes that the {@code ':'} after a key is expected
+         */
+        private static final int EXPECT_COLON = 4;
+
+        /**
+         * {@code EXPECT_SEPARATOR} is constant that memorizes that a {@code ','} or the end of the container is
+         * expected after a value, or the end of the source after the root value
+         */
+        private static final int EXPECT_SEPARATOR = 5;
+
+        /**
+         * {@code kinds} the kinds of the tokens
+         */
+        private byte[] kinds;
+
+        /**
+         * {@code starts} the offsets where the tokens start
+         */
+        private int[] starts;
+
+        /**
+         * {@code ends} the offsets where the tokens end, exclusive
+         */
+        private int[] ends;
+
+        /**
+         * {@code next} the tokens which follow the values of the tokens, so the objects and the arrays can be skipped
+         */
+        private int[] next;
+
+        /**
+         * {@code size} the number of the tokens
+         */
+        private int size;
+
+        /**
+         * Constructor to init {@link Tape} scanning the source
+         *
+         * @param source: the raw bytes of the source
+         * @param offset: the offset of the source in the bytes
+         * @param length: the length of the source in the bytes
+         * @throws JSONException when the source is not a valid {@code "JSON"} source
+         */
+        private Tape(byte[] source, int offset, int length) {
+            int capacity = Math.max(16, length / 8);
+            kinds = new byte[capacity];
+            starts = new int[capacity];
+            ends = new int[capacity];
+            next = new int[capacity];
+            int[] containers = new int[16];
+            int depth = 0;
+            int expected = EXPECT_VALUE;
+            int position = offset;
+            int end = offset + length;
+            while (position < end) {
+                byte character = source[position];
+                switch (character) {
+                    case ' ', '\n', '\r', '\t' -> position++;
+                    case ',' -> {
+                        if (expected != EXPECT_SEPARATOR || depth == 0)
+                            throw unexpected(character, position - offset);
+                        expected = kinds[containers[depth - 1]] == OBJECT ? EXPECT_KEY : EXPECT_VALUE;
+                        position++;
+                    }
+                    case ':' -> {
+                        if (expected != EXPECT_COLON)
+                            throw unexpected(character, position - offset);
+                        expected = EXPECT_VALUE;
+                        position++;
+                    }
+                    case '{', '[' -> {
+                        checkValue(expected, depth, character, position - offset);
+                        if (depth == containers.length)
+                            containers = Arrays.copyOf(containers, depth * 2);
+                        containers[depth++] = add(character == '{' ? OBJECT : ARRAY, position, position + 1);
+                        expected = character == '{' ? EXPECT_FIRST_KEY : EXPECT_FIRST_VALUE;
+                        position++;
+                    }
+                    case '}', ']' -> {
+                        if (depth == 0)
+                            throw unexpected(character, position - offset);
+                        int container = containers[depth - 1];
+                        byte kind = character == '}' ? OBJECT : ARRAY;
+                        if (kinds[container] != kind)
+                            throw new JSONException("Mismatched '" + (char) character + "' at " + (position - offset));
+                        int empty = kind == OBJECT ? EXPECT_FIRST_KEY : EXPECT_FIRST_VALUE;
+                        if (expected != EXPECT_SEPARATOR && expected != empty)
+                            throw unexpected(character, position - offset);
+                        depth--;
+                        ends[container] = ++position;
+                        next[container] = size;
+                        expected = EXPECT_SEPARATOR;
+                    }
+                    case '"' -> {
+                        int start = position++;
+                        boolean key = expected == EXPECT_KEY || expected == EXPECT_FIRST_KEY;
+                        if (!key)
+                            checkValue(expected, depth, character, start - offset);
+                        byte kind = key ? KEY : STRING;
+                        while (true) {
+                            if (position >= end)
+                                throw new JSONException("Unterminated string at " + (start - offset));
+                            byte stringCharacter = source[position++];
+                            if (stringCharacter == '"')
+                                break;
+                            if (stringCharacter == '\\') {
+                                kind |= ESCAPED;
+                                position++;
+                            }
+                        }
+                        add(kind, start, position);
+                        expected = key ? EXPECT_COLON : EXPECT_SEPARATOR;
+                    }
+                    default -> {
+                        int start = position;
+                        checkValue(expected, depth, character, start - offset);
+                        while (position < end && !isDelimiter(source[position]))
+                            position++;
+                        byte kind;
+                        if (character == 't')
+                            kind = isLiteral(source, start, position, "true") ? TRUE : 0;
+                        else if (character == 'f')
+                            kind = isLiteral(source, start, position, "false") ? FALSE : 0;
+                        else if (character == 'n')
+                            kind = isLiteral(source, start, position, "null") ? NULL : 0;
+                        else
+                            kind = isNumber(source, start, position) ? NUMBER : 0;
+                        if (kind == 0)
+                            throw new JSONException("Invalid value '" + new String(source, start, position - start,
+                                    UTF_8) + "' at " + (start - offset));
+                        add(kind, start, position);
+                        expected = EXPECT_SEPARATOR;
+                    }
+                }
+            }
+            if (depth > 0)
+                throw new JSONException("Unterminated source");
+            if (size == 0)
+                throw new JSONException("Empty source");
+            if (expected != EXPECT_SEPARATOR)
+                throw new JSONException("Unexpected end of the source");
+        }
+
+        /**
+         * Method to check that a value can start at the current position
+         *
+         * @param expected:  the token expected at the current position
+         * @param depth:     the current depth of the containers
+         * @param character: the character which starts the value
+         * @param position:  the position of the character in the source
+         * @throws JSONException when a value is not expected at the current position
+         */
+        private static void checkValue(int expected, int depth, byte character, int position) {
+            if (expected == EXPECT_VALUE || expected == EXPECT_FIRST_VALUE)
+                return;
+            if (depth == 0)
+                throw new JSONException("Unexpected content after the end of the source");
+            throw unexpected(character, position);
+        }
+
+        /**
+         * Method to create the exception thrown when a character is not expected
+         *
+         * @param character: the character not expected
+         * @param position:  the position of the character in the source
+         * @return the exception as {@link JSONException}
+         */
+        private static JSONException unexpected(byte character, int position) {
+            return new JSONException("Unexpected '" + (char) character + "' at " + position);
+        }
+
+        /**
+         * Method to check whether a scalar value is a literal
+         *
+         * @param source:  the raw bytes of the source
+         * @param start:   the offset where the value starts
+         * @param end:     the offset where the value ends, exclusive
+         * @param literal: the literal expected
+         * @return whether the value is the literal as boolean
+         */
+        private static boolean isLiteral(byte[] source, int start, int end, String literal) {
+            if (end - start != literal.length())
+                return false;
+            for (int j = 0; j < literal.length(); j++)
+                if (source[start + j] != literal.charAt(j))
+                    return false;
+            return true;
+        }
+
+        /**
+         * Method to check whether a scalar value has the syntax of a number, e.g. {@code "-12.5e3"}
+         *
+         * @param source: the raw bytes of the source
+         * @param start:  the offset where the value starts
+         * @param end:    the offset where the value ends, exclusive
+         * @return whether the value is a number as boolean
+         */
+        private static boolean isNumber(byte[] source, int start, int end) {
+            int position = start;
+            if (position < end && source[position] == '-')
+                position++;
+            if (position == end)
+                return false;
+            if (source[position] == '0')
+                position++;
+            else {
+                int integer = position;
+                position = skipDigits(source, position, end);
+                if (position == integer)
+                    return false;
+            }
+            if (position < end && source[position] == '.') {
+                int fraction = ++position;
+                position = skipDigits(source, position, end);
+                if (position == fraction)
+                    return false;
+            }
+            if (position < end && (source[position] == 'e' || source[position] == 'E')) {
+                position++;
+                if (position < end && (source[position] == '+' || source[position] == '-'))
+                    position++;
+                int exponent = position;
+                position = skipDigits(source, position, end);
+                if (position == exponent)
+                    return false;
+            }
+            return position == end;
+        }
+
+        /**
+         * Method to skip the digits of a number
+         *
+         * @param source:   the raw bytes of the source
+         * @param position: the offset where start to skip
+         * @param end:      the offset where the value ends, exclusive
+         * @return the offset of the first byte which is not a digit as int
+         */
+        private static int skipDigits(byte[] source, int position, int end) {
+            while (position < end && source[position] >= '0' && source[position] <= '9')
+                position++;
+            return position;
+        }
+
+        /**
+         * Method to add a token
+         *
+         * @param kind:  the kind of the token
+         * @param start: the offset where the token starts
+         * @param end:   the offset where the token ends, exclusive
+         * @return the index of the token added
+         */
+        private int add(byte kind, int start, int end) {
+            if (size == kinds.length) {
+                int capacity = size * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            kinds[size] = kind;
+            starts[size] = start;
+            ends[size] = end;
+            next[size] = size + 1;
+            return size++;
+        }
+
+        /**
+         * Method to get the kind of a token without its flags
+         *
+         * @param token: the token
+         * @return the kind of the token as byte
+         */
+        private byte kind(int token) {
+            return (byte) (kinds[token] & ~ESCAPED);
+        }
+
+        /**
+         * Method to check whether a byte ends a scalar value
+         *
+         * @param character: the byte to check
+         * @return whether the byte ends a scalar value as boolean
+         */
+        private static boolean isDelimiter(byte character) {
+            return character == ',' || character == '}' || character == ']' || character == ':' || character == ' '
+                    || character == '\n' || character == '\r' || character == '\t';
+        }
+
+    }
+
+}
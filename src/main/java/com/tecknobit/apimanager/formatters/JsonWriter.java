@@ -0,0 +1,716 @@
+package com.tecknobit.apimanager.formatters;
+
+import okio.BufferedSink;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code JsonWriter} class is useful to serialize values in {@code "JSON"} format directly as {@code "UTF-8"}
+ * bytes, without building any intermediate {@link JSONObject} or {@link String}
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // serialize a value using the scratch writer of the current thread
+ *         byte[] payload = JsonWriter.serialize(params);
+ *
+ *         // or write a value token by token
+ *         JsonWriter writer = new JsonWriter();
+ *         writer.beginObject()
+ *                 .name("symbol").value("BTCUSDT")
+ *                 .name("quantity").value(0.0015)
+ *                 .endObject();
+ *         writer.writeTo(sink);
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the values are serialized like the {@link JSONObject} class does: the {@link Map} and the
+ * {@link JSONObject} values are written as objects skipping the null values, the {@link Iterable}, the arrays and the
+ * {@link JSONArray} values are written as arrays, the {@link JSONString} values are written as their raw
+ * {@link JSONString#toJSONString()} text, the numbers are written without their trailing zeros and the other
+ * objects are written as the string of their {@link Object#toString()} value
+ * @since 2.2.5
+ */
+public class JsonWriter {
+
+    /**
+     * {@code DEFAULT_CAPACITY} is constant that memorizes the default capacity of the buffer
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * {@code MAX_RETAINED_CAPACITY} is constant that memorizes the max capacity of the buffer retained by the scratch
+     * writer of a thread, the bigger buffers are released after the serialization
+     */
+    public static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    /**
+     * {@code SCRATCH_WRITER} the scratch writer reused by each thread
+     */
+    private static final ThreadLocal<JsonWriter> SCRATCH_WRITER = ThreadLocal.withInitial(JsonWriter::new);
+
+    /**
+     * {@code HEX_DIGITS} the hexadecimal digits used to escape the characters
+     */
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(UTF_8);
+
+    /**
+     * {@code EMPTY_DOCUMENT} is constant that memorizes the scope of a document not written yet
+     */
+    private static final int EMPTY_DOCUMENT = 0;
+
+    /**
+     * {@code NONEMPTY_DOCUMENT} is constant that memorizes the scope of a document with its root value written
+     */
+    private static final int NONEMPTY_DOCUMENT = 1;
+
+    /**
+     * {@code EMPTY_OBJECT} is constant that memorizes the scope of an object without names written
+     */
+    private static final int EMPTY_OBJECT = 2;
+
+    /**
+     * {@code DANGLING_NAME} is constant that memorizes the scope of an object with a name written and its value not
+     */
+    private static final int DANGLING_NAME = 3;
+
+    /**
+     * {@code NONEMPTY_OBJECT} is constant that memorizes the scope of an object with at least a value written
+     */
+    private static final int NONEMPTY_OBJECT = 4;
+
+    /**
+     * {@code EMPTY_ARRAY} is constant that memorizes the scope of an array without values written
+     */
+    private static final int EMPTY_ARRAY = 5;
+
+    /**
+     * {@code NONEMPTY_ARRAY} is constant that memorizes the scope of an array with at least a value written
+     */
+    private static final int NONEMPTY_ARRAY = 6;
+
+    /**
+     * {@code buffer} the buffer where the bytes are written
+     */
+    private byte[] buffer;
+
+    /**
+     * {@code size} the number of the bytes written in the {@link #buffer}
+     */
+    private int size;
+
+    /**
+     * {@code scopes} the stack of the scopes of the values which are writing
+     */
+    private int[] scopes;
+
+    /**
+     * {@code depth} the number of the scopes in the {@link #scopes} stack
+     */
+    private int depth;
+
+    /**
+     * {@code inUse} whether the writer is used as scratch writer by a serialization
+     */
+    private boolean inUse;
+
+    /**
+     * Constructor to init {@link JsonWriter} <br>
+     * No-any params required
+     */
+    public JsonWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor to init {@link JsonWriter}
+     *
+     * @param capacity: the initial capacity of the buffer
+     */
+    public JsonWriter(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be positive");
+        buffer = new byte[capacity];
+        scopes = new int[32];
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Method to serialize a value using the scratch writer of the current thread
+     *
+     * @param value: the value to serialize
+     * @return the value serialized as {@code "UTF-8"} bytes
+     * @throws JSONException when the value contains a not finite number
+     */
+    public static byte[] serialize(Object value) {
+        JsonWriter writer = acquireScratchWriter();
+        try {
+            return writer.value(value).toByteArray();
+        } finally {
+            writer.releaseScratchWriter();
+        }
+    }
+
+    /**
+     * Method to serialize a value in a sink using the scratch writer of the current thread
+     *
+     * @param value: the value to serialize
+     * @param sink:  the sink where write the value
+     * @throws JSONException when the value contains a not finite number
+     * @throws IOException   when an error occurred writing in the sink
+     */
+    public static void serialize(Object value, BufferedSink sink) throws IOException {
+        JsonWriter writer = acquireScratchWriter();
+        try {
+            writer.value(value).writeTo(sink);
+        } finally {
+            writer.releaseScratchWriter();
+        }
+    }
+
+    /**
+     * Method to begin a new object <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter beginObject() {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        writeByte('{');
+        return this;
+    }
+
+    /**
+     * Method to end the current object <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the current value is not an object or a name has not its value
+     */
+    public JsonWriter endObject() {
+        int scope = scopes[depth - 1];
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT)
+            throw new JSONException("Nesting problem: there is not an object to end");
+        depth--;
+        writeByte('}');
+        return this;
+    }
+
+    /**
+     * Method to begin a new array <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter beginArray() {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        writeByte('[');
+        return this;
+    }
+
+    /**
+     * Method to end the current array <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the current value is not an array
+     */
+    public JsonWriter endArray() {
+        int scope = scopes[depth - 1];
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY)
+            throw new JSONException("Nesting problem: there is not an array to end");
+        depth--;
+        writeByte(']');
+        return this;
+    }
+
+    /**
+     * Method to write the name of the next value of the current object
+     *
+     * @param name: the name to write
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the current value is not an object or the previous name has not its value
+     */
+    public JsonWriter name(String name) {
+        if (name == null)
+            throw new JSONException("The name cannot be null");
+        switch (scopes[depth - 1]) {
+            case EMPTY_OBJECT -> scopes[depth - 1] = DANGLING_NAME;
+            case NONEMPTY_OBJECT -> {
+                writeByte(',');
+                scopes[depth - 1] = DANGLING_NAME;
+            }
+            default -> throw new JSONException("Nesting problem: a name is not expected");
+        }
+        writeString(name);
+        writeByte(':');
+        return this;
+    }
+
+    /**
+     * Method to write a string value
+     *
+     * @param value: the value to write, null to write a null value
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter value(String value) {
+        if (value == null)
+            return nullValue();
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Method to write a long value
+     *
+     * @param value: the value to write
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Method to write a double value
+     *
+     * @param value: the value to write
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the value is not finite
+     */
+    public JsonWriter value(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            throw new JSONException("JSON does not allow non-finite numbers.");
+        beforeValue();
+        writeNumberText(Double.toString(value));
+        return this;
+    }
+
+    /**
+     * Method to write a boolean value
+     *
+     * @param value: the value to write
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        writeAscii(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Method to write a null value <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter nullValue() {
+        beforeValue();
+        writeAscii("null");
+        return this;
+    }
+
+    /**
+     * Method to write a generic value
+     *
+     * @param value: the value to write, see the {@link JsonWriter} notes for the formats used
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the value contains a not finite number or a {@link JSONString} which cannot be
+     *                       written
+     */
+    public JsonWriter value(Object value) {
+        if (value == null || JSONObject.NULL.equals(value))
+            return nullValue();
+        if (value instanceof JSONString jsonString)
+            return value(jsonString);
+        if (value instanceof String text)
+            return value(text);
+        if (value instanceof Boolean bool)
+            return value(bool.booleanValue());
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+            return value(((Number) value).longValue());
+        if (value instanceof Number number)
+            return value(number);
+        if (value instanceof Map<?, ?> map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object item = entry.getValue();
+                if (item != null)
+                    name(String.valueOf(entry.getKey())).value(item);
+            }
+            return endObject();
+        }
+        if (value instanceof JSONObject object) {
+            beginObject();
+            for (String key : object.keySet())
+                name(key).value(object.opt(key));
+            return endObject();
+        }
+        if (value instanceof JSONArray list) {
+            beginArray();
+            for (int j = 0; j < list.length(); j++)
+                value(list.opt(j));
+            return endArray();
+        }
+        if (value instanceof Iterable<?> list) {
+            beginArray();
+            for (Object item : list)
+                value(item);
+            return endArray();
+        }
+        if (value.getClass().isArray()) {
+            beginArray();
+            int length = Array.getLength(value);
+            for (int j = 0; j < length; j++)
+                value(Array.get(value, j));
+            return endArray();
+        }
+        if (value instanceof Enum<?> constant)
+            return value(constant.name());
+        return value(value.toString());
+    }
+
+    /**
+     * Method to write a value which provides its own {@code "JSON"} text, the text is written raw like the
+     * {@link JSONObject} class does
+     *
+     * @param value: the value to write
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the text of the value cannot be obtained
+     */
+    private JsonWriter value(JSONString value) {
+        String text;
+        try {
+            text = value.toJSONString();
+        } catch (Exception e) {
+            throw new JSONException(e);
+        }
+        if (text == null)
+            return value(value.toString());
+        beforeValue();
+        byte[] bytes = text.getBytes(UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    /**
+     * Method to write a numeric value
+     *
+     * @param value: the value to write
+     * @return the writer itself as {@link JsonWriter}
+     * @throws JSONException when the value is not finite
+     */
+    private JsonWriter value(Number value) {
+        if (value instanceof Double number)
+            return value(number.doubleValue());
+        if (value instanceof Float number) {
+            if (number.isNaN() || number.isInfinite())
+                throw new JSONException("JSON does not allow non-finite numbers.");
+            beforeValue();
+            writeNumberText(Float.toString(number));
+            return this;
+        }
+        beforeValue();
+        if (value instanceof BigInteger)
+            writeAscii(value.toString());
+        else
+            writeNumberText(value.toString());
+        return this;
+    }
+
+    /**
+     * Method to get the number of the bytes written <br>
+     * No-any params required
+     *
+     * @return the number of the bytes written as int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method to get a copy of the bytes written <br>
+     * No-any params required
+     *
+     * @return the bytes written as byte[]
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Method to write the bytes written in a sink
+     *
+     * @param sink: the sink where write the bytes
+     * @throws IOException when an error occurred writing in the sink
+     */
+    public void writeTo(BufferedSink sink) throws IOException {
+        sink.write(buffer, 0, size);
+    }
+
+    /**
+     * Method to write the bytes written in a stream
+     *
+     * @param stream: the stream where write the bytes
+     * @throws IOException when an error occurred writing in the stream
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        stream.write(buffer, 0, size);
+    }
+
+    /**
+     * Method to reset the writer to write a new value, the buffer is reused <br>
+     * No-any params required
+     *
+     * @return the writer itself as {@link JsonWriter}
+     */
+    public JsonWriter reset() {
+        size = 0;
+        depth = 0;
+        scopes[depth++] = EMPTY_DOCUMENT;
+        return this;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the bytes written as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, UTF_8);
+    }
+
+    /**
+     * Method to get the scratch writer of the current thread ready to write a new value <br>
+     * No-any params required
+     *
+     * @return the scratch writer as {@link JsonWriter}, or a new writer if the scratch writer is already in use
+     */
+    private static JsonWriter acquireScratchWriter() {
+        JsonWriter writer = SCRATCH_WRITER.get();
+        if (writer.inUse)
+            return new JsonWriter();
+        writer.inUse = true;
+        return writer.reset();
+    }
+
+    /**
+     * Method to release the scratch writer after a serialization, releasing its buffer if it is bigger than
+     * {@link #MAX_RETAINED_CAPACITY} <br>
+     * No-any params required
+     */
+    private void releaseScratchWriter() {
+        inUse = false;
+        if (buffer.length > MAX_RETAINED_CAPACITY)
+            buffer = new byte[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Method to update the scope of the current value before writing a new value <br>
+     * No-any params required
+     *
+     * @throws JSONException when a value is not expected
+     */
+    private void beforeValue() {
+        switch (scopes[depth - 1]) {
+            case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+            case EMPTY_ARRAY -> scopes[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> writeByte(',');
+            case DANGLING_NAME -> scopes[depth - 1] = NONEMPTY_OBJECT;
+            case NONEMPTY_DOCUMENT -> throw new JSONException("JSON must have only one top-level value");
+            default -> throw new JSONException("Nesting problem: a name is expected");
+        }
+    }
+
+    /**
+     * Method to push a new scope in the {@link #scopes} stack
+     *
+     * @param scope: the scope to push
+     */
+    private void push(int scope) {
+        if (depth == scopes.length)
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        scopes[depth++] = scope;
+    }
+
+    /**
+     * Method to write a string escaping it like the {@link JSONObject#quote(String)} method does
+     *
+     * @param value: the string to write
+     */
+    private void writeString(String value) {
+        int length = value.length();
+        ensureCapacity(length + 2);
+        buffer[size++] = '"';
+        char previous = 0;
+        for (int j = 0; j < length; j++) {
+            char character = value.charAt(j);
+            switch (character) {
+                case '"', '\\' -> {
+                    writeByte('\\');
+                    writeByte(character);
+                }
+                case '/' -> {
+                    if (previous == '<')
+                        writeByte('\\');
+                    writeByte('/');
+                }
+                case '\b' -> writeEscape('b');
+                case '\t' -> writeEscape('t');
+                case '\n' -> writeEscape('n');
+                case '\f' -> writeEscape('f');
+                case '\r' -> writeEscape('r');
+                default -> {
+                    if (character < ' ' || (character >= 0x80 && character < 0xa0)
+                            || (character >= 0x2000 && character < 0x2100))
+                        writeUnicodeEscape(character);
+                    else if (character < 0x80)
+                        writeByte(character);
+                    else if (character < 0x800) {
+                        writeByte(0xc0 | (character >> 6));
+                        writeByte(0x80 | (character & 0x3f));
+                    } else if (Character.isHighSurrogate(character) && j + 1 < length
+                            && Character.isLowSurrogate(value.charAt(j + 1))) {
+                        int codePoint = Character.toCodePoint(character, value.charAt(++j));
+                        writeByte(0xf0 | (codePoint >> 18));
+                        writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+                        writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+                        writeByte(0x80 | (codePoint & 0x3f));
+                    } else if (Character.isSurrogate(character))
+                        writeByte('?');
+                    else {
+                        writeByte(0xe0 | (character >> 12));
+                        writeByte(0x80 | ((character >> 6) & 0x3f));
+                        writeByte(0x80 | (character & 0x3f));
+                    }
+                }
+            }
+            previous = character;
+        }
+        writeByte('"');
+    }
+
+    /**
+     * Method to write a character escaped with a backslash
+     *
+     * @param character: the character of the escape
+     */
+    private void writeEscape(char character) {
+        writeByte('\\');
+        writeByte(character);
+    }
+
+    /**
+     * Method to write a character escaped with its unicode code
+     *
+     * @param character: the character to escape
+     */
+    private void writeUnicodeEscape(char character) {
+        writeByte('\\');
+        writeByte('u');
+        writeByte(HEX_DIGITS[(character >> 12) & 0xf]);
+        writeByte(HEX_DIGITS[(character >> 8) & 0xf]);
+        writeByte(HEX_DIGITS[(character >> 4) & 0xf]);
+        writeByte(HEX_DIGITS[character & 0xf]);
+    }
+
+    /**
+     * Method to write a long value without creating its string
+     *
+     * @param value: the value to write
+     */
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10)
+            digits++;
+        int position = size + digits;
+        size = position;
+        do {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    /**
+     * Method to write the text of a number removing its trailing zeros like the
+     * {@link JSONObject#numberToString(Number)} method does
+     *
+     * @param number: the text of the number to write
+     */
+    private void writeNumberText(String number) {
+        int end = number.length();
+        if (number.indexOf('.') > 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+            while (number.charAt(end - 1) == '0')
+                end--;
+            if (number.charAt(end - 1) == '.')
+                end--;
+        }
+        ensureCapacity(end);
+        for (int j = 0; j < end; j++)
+            buffer[size++] = (byte) number.charAt(j);
+    }
+
+    /**
+     * Method to write an ascii text
+     *
+     * @param text: the text to write
+     */
+    private void writeAscii(String text) {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int j = 0; j < length; j++)
+            buffer[size++] = (byte) text.charAt(j);
+    }
+
+    /**
+     * Method to write a single byte
+     *
+     * @param value: the byte to write
+     */
+    private void writeByte(int value) {
+        if (size == buffer.length)
+            ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Method to ensure that the {@link #buffer} can contain other bytes
+     *
+     * @param bytes: the number of the other bytes to write
+     */
+    private void ensureCapacity(int bytes) {
+        int required = size + bytes;
+        if (required > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+    }
+
+}
@@ -0,0 +1,326 @@
+package com.tecknobit.apimanager.formatters;
+
+import java.math.BigDecimal;
+
+/**
+ * The {@code NumericParser} class is a useful tool class to parse the numeric values formatted as text, like the
+ * prices and the quantities sent as strings by the exchanges, without throwing any exception when the text is not a
+ * valid number: in that case the value chosen by the caller is returned
+ * <pre>
+ *     {@code
+ *
+ *           double price = NumericParser.parseDouble("0.00010000", -1); // --> 1.0E-4
+ *           long volume = NumericParser.parseLong("not_a_number", -1); // --> -1
+ *           BigDecimal amount = NumericParser.parseBigDecimal("0.00010000"); // --> 0.00010000
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the most of the decimal values are parsed directly from their characters without creating any
+ * intermediate object, the others, like the values with more than 19 significant digits, are delegated to the
+ * {@code "Java"}'s parsers only after have been validated, so no exception is thrown in any case
+ * @since 2.2.5
+ */
+public abstract class NumericParser {
+
+    /**
+     * {@code MAX_EXACT_MANTISSA} the max mantissa that a double can represent exactly
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * {@code MAX_MANTISSA_DIGITS} the max number of the significant digits that can be accumulated in a long
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    /**
+     * {@code MAX_EXPONENT_DIGITS} the max number of the digits of an exponent accepted
+     */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    /**
+     * {@code POWERS_OF_TEN} the powers of ten that a double can represent exactly
+     */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Method to parse a text as double value
+     *
+     * @param text:         the text to parse, the leading and trailing whitespaces are ignored
+     * @param invalidValue: the value to return if the text is not a valid number
+     * @return the value parsed as double, {@code "invalidValue"} if the text is not a valid number
+     */
+    public static double parseDouble(CharSequence text, double invalidValue) {
+        if (text == null)
+            return invalidValue;
+        int start = 0, end = text.length();
+        while (start < end && text.charAt(start) <= ' ')
+            start++;
+        while (end > start && text.charAt(end - 1) <= ' ')
+            end--;
+        if (start == end)
+            return invalidValue;
+        int index = start;
+        boolean negative = false;
+        char sign = text.charAt(index);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0, exponent = 0;
+        boolean hasDigits = false, truncated = false;
+        while (index < end) {
+            int digit = text.charAt(index) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            hasDigits = true;
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa != 0)
+                    digits++;
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+            index++;
+        }
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+            while (index < end) {
+                int digit = text.charAt(index) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                hasDigits = true;
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    if (mantissa != 0)
+                        digits++;
+                    exponent--;
+                } else
+                    truncated |= digit != 0;
+                index++;
+            }
+        }
+        if (!hasDigits)
+            return parseSpecialValue(text, index, end, negative, invalidValue);
+        if (index < end && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+            int explicitExponent = scanExponent(text, index + 1, end);
+            if (explicitExponent == Integer.MIN_VALUE)
+                return invalidValue;
+            exponent += explicitExponent;
+            index = end;
+        }
+        if (index != end)
+            return invalidValue;
+        if (mantissa == 0)
+            return negative ? -0.0 : 0.0;
+        if (!truncated && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+            double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Method to parse a text as float value
+     *
+     * @param text:         the text to parse, the leading and trailing whitespaces are ignored
+     * @param invalidValue: the value to return if the text is not a valid number
+     * @return the value parsed as float, {@code "invalidValue"} if the text is not a valid number
+     */
+    public static float parseFloat(CharSequence text, float invalidValue) {
+        if (!isNumeric(text))
+            return invalidValue;
+        return Float.parseFloat(text.toString());
+    }
+
+    /**
+     * Method to parse a text as long value
+     *
+     * @param text:         the text to parse, it must contain only an optional sign and digits
+     * @param invalidValue: the value to return if the text is not a valid long value or overflows its range
+     * @return the value parsed as long, {@code "invalidValue"} if the text is not a valid long value
+     */
+    public static long parseLong(CharSequence text, long invalidValue) {
+        if (text == null || text.isEmpty())
+            return invalidValue;
+        int index = 0, end = text.length();
+        boolean negative = false;
+        char sign = text.charAt(0);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            if (++index == end)
+                return invalidValue;
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long value = 0;
+        while (index < end) {
+            int digit = text.charAt(index++) - '0';
+            if (digit < 0 || digit > 9 || value < multiplyLimit)
+                return invalidValue;
+            value *= 10;
+            if (value < limit + digit)
+                return invalidValue;
+            value -= digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Method to parse a text as int value
+     *
+     * @param text:         the text to parse, it must contain only an optional sign and digits
+     * @param invalidValue: the value to return if the text is not a valid int value or overflows its range
+     * @return the value parsed as int, {@code "invalidValue"} if the text is not a valid int value
+     */
+    public static int parseInt(CharSequence text, int invalidValue) {
+        long value = parseLong(text, Long.MIN_VALUE);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            return invalidValue;
+        return (int) value;
+    }
+
+    /**
+     * Method to parse a text as {@link BigDecimal} value preserving its scale, so the text {@code "0.00010000"} is
+     * parsed as a value with scale 8
+     *
+     * @param text: the text to parse, the leading and trailing whitespaces are ignored
+     * @return the value parsed as {@link BigDecimal}, null if the text is not a valid decimal number
+     */
+    public static BigDecimal parseBigDecimal(CharSequence text) {
+        if (text == null)
+            return null;
+        int start = 0, end = text.length();
+        while (start < end && text.charAt(start) <= ' ')
+            start++;
+        while (end > start && text.charAt(end - 1) <= ' ')
+            end--;
+        if (start == end)
+            return null;
+        int index = start;
+        boolean negative = false;
+        char sign = text.charAt(index);
+        if (sign == '-' || sign == '+') {
+            negative = sign == '-';
+            index++;
+        }
+        long unscaledValue = 0;
+        int digits = 0, scale = 0;
+        boolean hasDigits = false, overflow = false;
+        while (index < end) {
+            int digit = text.charAt(index) - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            hasDigits = true;
+            if (unscaledValue != 0 || digit != 0)
+                overflow |= ++digits > MAX_MANTISSA_DIGITS;
+            unscaledValue = unscaledValue * 10 + digit;
+            index++;
+        }
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+            while (index < end) {
+                int digit = text.charAt(index) - '0';
+                if (digit < 0 || digit > 9)
+                    break;
+                hasDigits = true;
+                if (unscaledValue != 0 || digit != 0)
+                    overflow |= ++digits > MAX_MANTISSA_DIGITS;
+                unscaledValue = unscaledValue * 10 + digit;
+                scale++;
+                index++;
+            }
+        }
+        if (!hasDigits)
+            return null;
+        if (index < end && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+            int exponent = scanExponent(text, index + 1, end);
+            if (exponent == Integer.MIN_VALUE)
+                return null;
+            long adjustedScale = (long) scale - exponent;
+            if (adjustedScale < Integer.MIN_VALUE || adjustedScale > Integer.MAX_VALUE)
+                return null;
+            scale = (int) adjustedScale;
+            index = end;
+        }
+        if (index != end)
+            return null;
+        if (overflow)
+            return new BigDecimal(text.subSequence(start, end).toString());
+        return BigDecimal.valueOf(negative ? -unscaledValue : unscaledValue, scale);
+    }
+
+    /**
+     * Method to check whether a text is a valid decimal number, the {@code "NaN"} and {@code "Infinity"} values are
+     * considered valid as well
+     *
+     * @param text: the text to check, the leading and trailing whitespaces are ignored
+     * @return whether the text is a valid decimal number as boolean
+     */
+    public static boolean isNumeric(CharSequence text) {
+        return !Double.isNaN(parseDouble(text, Double.NaN)) || isNaN(text);
+    }
+
+    /**
+     * Method to scan the exponent of a decimal number
+     *
+     * @param text:  the text which contains the exponent
+     * @param index: the index of the first character after the exponent marker
+     * @param end:   the end of the text
+     * @return the exponent as int, {@link Integer#MIN_VALUE} if the exponent is not valid
+     */
+    private static int scanExponent(CharSequence text, int index, int end) {
+        boolean negative = false;
+        if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+'))
+            negative = text.charAt(index++) == '-';
+        if (index == end || end - index > MAX_EXPONENT_DIGITS)
+            return Integer.MIN_VALUE;
+        int exponent = 0;
+        while (index < end) {
+            int digit = text.charAt(index++) - '0';
+            if (digit < 0 || digit > 9)
+                return Integer.MIN_VALUE;
+            exponent = exponent * 10 + digit;
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Method to parse the special values {@code "NaN"} and {@code "Infinity"}
+     *
+     * @param text:         the text to parse
+     * @param index:        the index of the first character after the sign
+     * @param end:          the end of the text
+     * @param negative:     whether the text has a negative sign
+     * @param invalidValue: the value to return if the text is not a special value
+     * @return the special value as double, {@code "invalidValue"} if the text is not a special value
+     */
+    private static double parseSpecialValue(CharSequence text, int index, int end, boolean negative,
+                                            double invalidValue) {
+        CharSequence value = text.subSequence(index, end);
+        if ("Infinity".contentEquals(value))
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        if ("NaN".contentEquals(value))
+            return Double.NaN;
+        return invalidValue;
+    }
+
+    /**
+     * Method to check whether a text is the {@code "NaN"} value
+     *
+     * @param text: the text to check
+     * @return whether the text is the {@code "NaN"} value as boolean
+     */
+    private static boolean isNaN(CharSequence text) {
+        if (text == null)
+            return false;
+        String value = text.toString().trim();
+        return value.equals("NaN") || value.equals("+NaN") || value.equals("-NaN");
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.tecknobit.apimanager.formatters;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@code StringPool} class is useful to share the instances of the strings which are repeated many times in the
+ * {@code "JSON"} sources, like the keys and the symbols of the messages of the exchanges
+ *
+ * <pre>
+ *     {@code
+ *
+ *         // create one pool and use it for all the sources with the same shape
+ *         StringPool stringPool = new StringPool();
+ *
+ *         JsonHelper snapshot = new JsonHelper(source, stringPool);
+ *         JsonCursor cursor = new JsonCursor(inputStream, stringPool);
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the pool is bounded and lock-free: each string is memorized in a slot chosen by its hash, so when two
+ * strings share the same slot the last one replaces the other one. This means that the pool never grows over its
+ * capacity and it is safe to use it by multiple threads, but some repeated strings could be not shared
+ * @since 2.2.5
+ */
+public class StringPool {
+
+    /**
+     * {@code DEFAULT_CAPACITY} is constant that memorizes the default number of the slots of the pool
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * {@code DEFAULT_MAX_LENGTH} is constant that memorizes the default max length of the strings to share
+     */
+    public static final int DEFAULT_MAX_LENGTH = 32;
+
+    /**
+     * {@code slots} the slots where the strings are memorized
+     */
+    private final AtomicReferenceArray<String> slots;
+
+    /**
+     * {@code mask} the mask to choose the slot of a hash
+     */
+    private final int mask;
+
+    /**
+     * {@code maxLength} the max length of the strings to share, the longer strings are not memorized
+     */
+    private final int maxLength;
+
+    /**
+     * Constructor to init {@link StringPool} <br>
+     * No-any params required
+     */
+    public StringPool() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructor to init {@link StringPool}
+     *
+     * @param capacity: the number of the slots of the pool, it will be rounded up to a power of two
+     */
+    public StringPool(int capacity) {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructor to init {@link StringPool}
+     *
+     * @param capacity:  the number of the slots of the pool, it will be rounded up to a power of two
+     * @param maxLength: the max length of the strings to share, the longer strings are not memorized
+     */
+    public StringPool(int capacity, int maxLength) {
+        if (capacity <= 0 || capacity > 1 << 30)
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30");
+        if (maxLength < 0)
+            throw new IllegalArgumentException("The max length cannot be negative");
+        int slotsNumber = Integer.highestOneBit(capacity);
+        if (slotsNumber < capacity)
+            slotsNumber <<= 1;
+        slots = new AtomicReferenceArray<>(slotsNumber);
+        mask = slotsNumber - 1;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Method to get the shared instance of a string
+     *
+     * @param value: the string to share
+     * @return the shared instance of the string as {@link String}, or the string itself if it has not been memorized yet
+     * or is longer than {@link #maxLength}
+     */
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength)
+            return value;
+        int slot = slotOf(value.hashCode());
+        String shared = slots.get(slot);
+        if (value.equals(shared))
+            return shared;
+        slots.set(slot, value);
+        return value;
+    }
+
+    /**
+     * Method to get the shared instance of a string contained in a buffer of characters, without creating a new
+     * string when it has been already memorized
+     *
+     * @param buffer: the buffer which contains the string
+     * @param offset: the offset of the string in the buffer
+     * @param length: the length of the string
+     * @return the shared instance of the string as {@link String}
+     */
+    public String intern(char[] buffer, int offset, int length) {
+        if (length > maxLength)
+            return new String(buffer, offset, length);
+        int hash = 0;
+        for (int j = offset; j < offset + length; j++)
+            hash = 31 * hash + buffer[j];
+        int slot = slotOf(hash);
+        String shared = slots.get(slot);
+        if (shared != null && contentEquals(shared, buffer, offset, length))
+            return shared;
+        String value = new String(buffer, offset, length);
+        slots.set(slot, value);
+        return value;
+    }
+
+    /**
+     * Method to remove all the strings memorized <br>
+     * No-any params required
+     */
+    public void clear() {
+        for (int j = 0; j < slots.length(); j++)
+            slots.set(j, null);
+    }
+
+    /**
+     * Method to get the number of the strings memorized <br>
+     * No-any params required
+     *
+     * @return the number of the strings memorized as int
+     */
+    public int size() {
+        int size = 0;
+        for (int j = 0; j < slots.length(); j++)
+            if (slots.get(j) != null)
+                size++;
+        return size;
+    }
+
+    /**
+     * Method to get the number of the slots of the pool <br>
+     * No-any params required
+     *
+     * @return the number of the slots of the pool as int
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Method to get {@link #maxLength} instance <br>
+     * No-any params required
+     *
+     * @return {@link #maxLength} instance as int
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Method to choose the slot of a hash
+     *
+     * @param hash: the hash of the string
+     * @return the slot as int
+     */
+    private int slotOf(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Method to check whether a string has the same content of a range of a buffer of characters
+     *
+     * @param value:  the string to check
+     * @param buffer: the buffer to compare
+     * @param offset: the offset of the range in the buffer
+     * @param length: the length of the range
+     * @return whether the string has the same content as boolean
+     */
+    private static boolean contentEquals(String value, char[] buffer, int offset, int length) {
+        if (value.length() != length)
+            return false;
+        for (int j = 0; j < length; j++)
+            if (value.charAt(j) != buffer[offset + j])
+                return false;
+        return true;
+    }
+
+}
@@ -0,0 +1,553 @@
+package com.tecknobit.apimanager.trading;
+
+import com.tecknobit.apimanager.formatters.NumericParser;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * The {@code FixedDecimal} class is a compact decimal value made up by a long mantissa and a scale, useful to manage
+ * the prices and the quantities of the markets without the precision loss of the double values and without the
+ * allocations of the {@link BigDecimal} values
+ * <pre>
+ *     {@code
+ *
+ *          FixedDecimal price = FixedDecimal.parse("0.00010000"); // --> mantissa 10000, scale 8
+ *          FixedDecimal quantity = FixedDecimal.parse("1500.5");
+ *
+ *          FixedDecimal amount = price.multiply(quantity); // --> 0.150050000
+ *          FixedDecimal rounded = amount.setScale(4); // --> 0.1501
+ *     }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the operations that overflow the range of the mantissa throw an {@link ArithmeticException}, like the
+ * {@link Math#addExact(long, long)} method does, while the operations which need more than {@link #MAX_SCALE}
+ * decimal digits are rounded with the {@link RoundingMode#HALF_UP} mode. Two values are equal when they represent the
+ * same number, so {@code "1.50"} is equal to {@code "1.5"}
+ * @since 2.2.5
+ */
+public final class FixedDecimal extends Number implements Comparable<FixedDecimal> {
+
+    /**
+     * {@code serialVersionUID} is constant that memorizes the version of the serialized form of a value
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * {@code MAX_SCALE} is constant that memorizes the max number of decimal digits of a value
+     */
+    public static final int MAX_SCALE = 18;
+
+    /**
+     * {@code ZERO} is constant that memorizes the zero value
+     */
+    public static final FixedDecimal ZERO = new FixedDecimal(0, 0);
+
+    /**
+     * {@code ONE_HUNDRED} is constant that memorizes the one hundred value
+     */
+    public static final FixedDecimal ONE_HUNDRED = new FixedDecimal(100, 0);
+
+    /**
+     * {@code POWERS_OF_TEN} the powers of ten that a long can represent
+     */
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    /**
+     * {@code DOUBLE_POWERS_OF_TEN} the powers of ten that a double can represent exactly
+     */
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    /**
+     * {@code MAX_EXACT_MANTISSA} the max mantissa that a double can represent exactly
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * {@code mantissa} the unscaled value
+     */
+    private final long mantissa;
+
+    /**
+     * {@code scale} the number of decimal digits of the value
+     */
+    private final int scale;
+
+    /**
+     * Constructor to init {@link FixedDecimal}
+     *
+     * @param mantissa: the unscaled value
+     * @param scale:    the number of decimal digits of the value, between 0 and {@link #MAX_SCALE}
+     * @throws IllegalArgumentException when the scale is out of its range
+     */
+    public FixedDecimal(long mantissa, int scale) {
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("The scale must be between 0 and " + MAX_SCALE);
+        this.mantissa = mantissa;
+        this.scale = scale;
+    }
+
+    /**
+     * Method to create a {@link FixedDecimal} from a long value
+     *
+     * @param value: the value to convert
+     * @return the value as {@link FixedDecimal}
+     */
+    public static FixedDecimal valueOf(long value) {
+        if (value == 0)
+            return ZERO;
+        return new FixedDecimal(value, 0);
+    }
+
+    /**
+     * Method to create a {@link FixedDecimal} from a double value, using its shortest decimal representation, so
+     * {@code 0.1} is converted as {@code "0.1"}
+     *
+     * @param value: the value to convert
+     * @return the value as {@link FixedDecimal}
+     * @throws ArithmeticException when the value is not finite or is out of the range of a {@link FixedDecimal}
+     */
+    public static FixedDecimal valueOf(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            throw new ArithmeticException("The value must be finite");
+        return valueOf(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Method to create a {@link FixedDecimal} from a {@link BigDecimal} value, the values with more than
+     * {@link #MAX_SCALE} decimal digits are rounded
+     *
+     * @param value: the value to convert
+     * @return the value as {@link FixedDecimal}
+     * @throws ArithmeticException when the value is out of the range of a {@link FixedDecimal}
+     */
+    public static FixedDecimal valueOf(BigDecimal value) {
+        FixedDecimal decimal = valueOf(value, null);
+        if (decimal == null)
+            throw new ArithmeticException("The value " + value + " is out of the range of a FixedDecimal");
+        return decimal;
+    }
+
+    /**
+     * Method to create a {@link FixedDecimal} from a {@link BigDecimal} value without throwing any exception, the
+     * values with more than {@link #MAX_SCALE} decimal digits are rounded
+     *
+     * @param value:        the value to convert
+     * @param invalidValue: the value to return if the value is out of the range of a {@link FixedDecimal}
+     * @return the value as {@link FixedDecimal}
+     */
+    public static FixedDecimal valueOf(BigDecimal value, FixedDecimal invalidValue) {
+        if (value == null)
+            return invalidValue;
+        if (value.scale() > MAX_SCALE)
+            value = value.setScale(MAX_SCALE, HALF_UP);
+        if (value.precision() - value.scale() > 19)
+            return invalidValue;
+        if (value.scale() < 0)
+            value = value.setScale(0);
+        BigInteger unscaledValue = value.unscaledValue();
+        if (unscaledValue.bitLength() > 63) {
+            value = value.stripTrailingZeros();
+            if (value.scale() < 0)
+                value = value.setScale(0);
+            unscaledValue = value.unscaledValue();
+            if (unscaledValue.bitLength() > 63)
+                return invalidValue;
+        }
+        return new FixedDecimal(unscaledValue.longValue(), value.scale());
+    }
+
+    /**
+     * Method to parse a text as {@link FixedDecimal} value preserving its scale, so the text {@code "0.00010000"} is
+     * parsed as a value with mantissa 10000 and scale 8
+     *
+     * @param text: the text to parse, the leading and trailing whitespaces are ignored
+     * @return the value parsed as {@link FixedDecimal}
+     * @throws IllegalArgumentException when the text is not a valid decimal number or is out of the range of a
+     *                                  {@link FixedDecimal}
+     */
+    public static FixedDecimal parse(CharSequence text) {
+        FixedDecimal decimal = parse(text, null);
+        if (decimal == null)
+            throw new IllegalArgumentException("The text " + text + " is not a valid FixedDecimal");
+        return decimal;
+    }
+
+    /**
+     * Method to parse a text as {@link FixedDecimal} value preserving its scale without throwing any exception
+     *
+     * @param text:         the text to parse, the leading and trailing whitespaces are ignored
+     * @param invalidValue: the value to return if the text is not a valid decimal number or is out of the range of a
+     *                      {@link FixedDecimal}
+     * @return the value parsed as {@link FixedDecimal}, {@code "invalidValue"} if the text is not valid
+     */
+    public static FixedDecimal parse(CharSequence text, FixedDecimal invalidValue) {
+        if (text == null)
+            return invalidValue;
+        int start = 0, end = text.length();
+        while (start < end && text.charAt(start) <= ' ')
+            start++;
+        while (end > start && text.charAt(end - 1) <= ' ')
+            end--;
+        int index = start;
+        boolean negative = false;
+        if (index < end && (text.charAt(index) == '-' || text.charAt(index) == '+'))
+            negative = text.charAt(index++) == '-';
+        long mantissa = 0;
+        int scale = 0;
+        boolean hasDigits = false, fraction = false, overflow = false;
+        while (index < end) {
+            char character = text.charAt(index);
+            if (character == '.' && !fraction) {
+                fraction = true;
+                index++;
+                continue;
+            }
+            int digit = character - '0';
+            if (digit < 0 || digit > 9)
+                break;
+            hasDigits = true;
+            if (mantissa > (Long.MAX_VALUE - digit) / 10)
+                overflow = true;
+            else
+                mantissa = mantissa * 10 + digit;
+            if (fraction)
+                scale++;
+            index++;
+        }
+        if (!hasDigits)
+            return invalidValue;
+        if (index < end && (text.charAt(index) == 'e' || text.charAt(index) == 'E'))
+            overflow = true;
+        else if (index != end)
+            return invalidValue;
+        if (overflow || scale > MAX_SCALE)
+            return valueOf(NumericParser.parseBigDecimal(text.subSequence(start, end)), invalidValue);
+        return new FixedDecimal(negative ? -mantissa : mantissa, scale);
+    }
+
+    /**
+     * Method to get {@link #mantissa} instance <br>
+     * No-any params required
+     *
+     * @return {@link #mantissa} instance as long
+     */
+    public long getMantissa() {
+        return mantissa;
+    }
+
+    /**
+     * Method to get {@link #scale} instance <br>
+     * No-any params required
+     *
+     * @return {@link #scale} instance as int
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Method to add a value
+     *
+     * @param value: the value to add
+     * @return the sum as {@link FixedDecimal}, with the greatest scale of the two values
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal add(FixedDecimal value) {
+        int scale = Math.max(this.scale, value.scale);
+        return new FixedDecimal(Math.addExact(scaleUp(mantissa, scale - this.scale),
+                scaleUp(value.mantissa, scale - value.scale)), scale);
+    }
+
+    /**
+     * Method to subtract a value
+     *
+     * @param value: the value to subtract
+     * @return the difference as {@link FixedDecimal}, with the greatest scale of the two values
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal subtract(FixedDecimal value) {
+        int scale = Math.max(this.scale, value.scale);
+        return new FixedDecimal(Math.subtractExact(scaleUp(mantissa, scale - this.scale),
+                scaleUp(value.mantissa, scale - value.scale)), scale);
+    }
+
+    /**
+     * Method to multiply by a value
+     *
+     * @param value: the value to multiply by
+     * @return the product as {@link FixedDecimal}, with the sum of the scales of the two values, rounded to
+     * {@link #MAX_SCALE} decimal digits if it is needed
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal multiply(FixedDecimal value) {
+        int scale = this.scale + value.scale;
+        long high = Math.multiplyHigh(mantissa, value.mantissa);
+        long low = mantissa * value.mantissa;
+        if (scale <= MAX_SCALE && high == (low >> 63))
+            return new FixedDecimal(low, scale);
+        return valueOf(toBigDecimal().multiply(value.toBigDecimal()));
+    }
+
+    /**
+     * Method to multiply by a long value
+     *
+     * @param value: the value to multiply by
+     * @return the product as {@link FixedDecimal}, with the same scale of this value
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal multiply(long value) {
+        return new FixedDecimal(Math.multiplyExact(mantissa, value), scale);
+    }
+
+    /**
+     * Method to divide by a value
+     *
+     * @param value: the value to divide by
+     * @param scale: the number of decimal digits of the result, it is rounded with the {@link RoundingMode#HALF_UP}
+     *               mode
+     * @return the quotient as {@link FixedDecimal}
+     * @throws ArithmeticException when the value is zero or the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal divide(FixedDecimal value, int scale) {
+        if (value.mantissa == 0)
+            throw new ArithmeticException("Division by zero");
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("The scale must be between 0 and " + MAX_SCALE);
+        int exponent = scale + value.scale - this.scale;
+        long dividend = mantissa, divisor = value.mantissa;
+        if (exponent >= 0 && canScaleUp(dividend, exponent))
+            dividend *= POWERS_OF_TEN[exponent];
+        else if (exponent < 0 && canScaleUp(divisor, -exponent))
+            divisor *= POWERS_OF_TEN[-exponent];
+        else
+            return valueOf(toBigDecimal().divide(value.toBigDecimal(), scale, HALF_UP));
+        if (divisor == Long.MIN_VALUE)
+            return valueOf(toBigDecimal().divide(value.toBigDecimal(), scale, HALF_UP));
+        return new FixedDecimal(divideHalfUp(dividend, divisor), scale);
+    }
+
+    /**
+     * Method to change the scale of the value
+     *
+     * @param scale: the new number of decimal digits, when it is lower than the current scale the value is rounded
+     *               with the {@link RoundingMode#HALF_UP} mode
+     * @return the value with the new scale as {@link FixedDecimal}
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal setScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("The scale must be between 0 and " + MAX_SCALE);
+        if (scale == this.scale)
+            return this;
+        if (scale > this.scale)
+            return new FixedDecimal(scaleUp(mantissa, scale - this.scale), scale);
+        return new FixedDecimal(divideHalfUp(mantissa, POWERS_OF_TEN[this.scale - scale]), scale);
+    }
+
+    /**
+     * Method to negate the value <br>
+     * No-any params required
+     *
+     * @return the negated value as {@link FixedDecimal}
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal negate() {
+        return new FixedDecimal(Math.negateExact(mantissa), scale);
+    }
+
+    /**
+     * Method to get the absolute value <br>
+     * No-any params required
+     *
+     * @return the absolute value as {@link FixedDecimal}
+     * @throws ArithmeticException when the result overflows the range of a {@link FixedDecimal}
+     */
+    public FixedDecimal abs() {
+        if (mantissa >= 0)
+            return this;
+        return negate();
+    }
+
+    /**
+     * Method to get the sign of the value <br>
+     * No-any params required
+     *
+     * @return -1, 0 or 1 as the value is negative, zero or positive as int
+     */
+    public int signum() {
+        return Long.signum(mantissa);
+    }
+
+    /**
+     * Method to convert the value to {@link BigDecimal} <br>
+     * No-any params required
+     *
+     * @return the value as {@link BigDecimal} with the same scale
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(mantissa, scale);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+        return mantissa / POWERS_OF_TEN[scale];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+        if (mantissa >= -MAX_EXACT_MANTISSA && mantissa <= MAX_EXACT_MANTISSA)
+            return mantissa / DOUBLE_POWERS_OF_TEN[scale];
+        return Double.parseDouble(toString());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(FixedDecimal value) {
+        if (scale == value.scale)
+            return Long.compare(mantissa, value.mantissa);
+        int scale = Math.max(this.scale, value.scale);
+        if (canScaleUp(mantissa, scale - this.scale) && canScaleUp(value.mantissa, scale - value.scale)) {
+            return Long.compare(mantissa * POWERS_OF_TEN[scale - this.scale],
+                    value.mantissa * POWERS_OF_TEN[scale - value.scale]);
+        }
+        return toBigDecimal().compareTo(value.toBigDecimal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof FixedDecimal that))
+            return false;
+        return compareTo(that) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        long mantissa = this.mantissa;
+        int scale = this.scale;
+        while (scale > 0 && mantissa % 10 == 0) {
+            mantissa /= 10;
+            scale--;
+        }
+        return 31 * Long.hashCode(mantissa) + scale;
+    }
+
+    /**
+     * Returns a string representation of the value without the scientific notation <br>
+     * No-any params required
+     *
+     * @return a string representation of the value with all its decimal digits, e.g. {@code "0.00010000"}
+     */
+    @Override
+    public String toString() {
+        if (scale == 0)
+            return Long.toString(mantissa);
+        String digits = Long.toString(mantissa);
+        boolean negative = mantissa < 0;
+        if (negative)
+            digits = digits.substring(1);
+        StringBuilder value = new StringBuilder(digits.length() + scale + 3);
+        if (negative)
+            value.append('-');
+        int integers = digits.length() - scale;
+        if (integers <= 0) {
+            value.append("0.");
+            value.append("0".repeat(-integers));
+            value.append(digits);
+        } else {
+            value.append(digits, 0, integers);
+            value.append('.');
+            value.append(digits, integers, digits.length());
+        }
+        return value.toString();
+    }
+
+    /**
+     * Method to check whether a mantissa can be scaled up without overflow
+     *
+     * @param mantissa: the mantissa to scale up
+     * @param digits:   the number of digits to add
+     * @return whether the mantissa can be scaled up as boolean
+     */
+    private static boolean canScaleUp(long mantissa, int digits) {
+        if (digits >= POWERS_OF_TEN.length)
+            return mantissa == 0;
+        long limit = Long.MAX_VALUE / POWERS_OF_TEN[digits];
+        return mantissa >= -limit && mantissa <= limit;
+    }
+
+    /**
+     * Method to scale up a mantissa
+     *
+     * @param mantissa: the mantissa to scale up
+     * @param digits:   the number of digits to add
+     * @return the mantissa scaled up as long
+     * @throws ArithmeticException when the result overflows
+     */
+    private static long scaleUp(long mantissa, int digits) {
+        if (digits == 0)
+            return mantissa;
+        if (!canScaleUp(mantissa, digits))
+            throw new ArithmeticException("long overflow");
+        return mantissa * POWERS_OF_TEN[digits];
+    }
+
+    /**
+     * Method to divide two long values rounding the result with the {@link RoundingMode#HALF_UP} mode
+     *
+     * @param dividend: the dividend
+     * @param divisor:  the divisor, different from zero and from {@link Long#MIN_VALUE}
+     * @return the quotient as long
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        long absDivisor = Math.abs(divisor);
+        if (remainder >= absDivisor - remainder)
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        return quotient;
+    }
+
+}
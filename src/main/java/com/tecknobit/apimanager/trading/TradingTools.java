@@ -2,6 +2,7 @@ package com.tecknobit.apimanager.trading;
 
 import java.util.ArrayList;
 
+import static com.tecknobit.apimanager.trading.FixedDecimal.ONE_HUNDRED;
 import static java.lang.Double.parseDouble;
 import static java.lang.String.format;
 
@@ -217,6 +218,89 @@ public abstract class TradingTools {
         return roundValue(getPercentualizedValue(startValue, percentualizer), decimalDigits);
     }
 
+    /**
+     * Method to get percent between two values without precision loss
+     *
+     * @param startValue:    first value to make compare
+     * @param lastValue:     last value to compare and get percent by first value
+     * @param decimalDigits: number of digits to round final percent value
+     * @return percent value as {@link FixedDecimal} e.g. 8 or -8
+     * @throws IllegalArgumentException if startValue or lastValue are negative
+     * @throws ArithmeticException      if startValue is zero and lastValue is not
+     */
+    public static FixedDecimal computeAssetPercent(FixedDecimal startValue, FixedDecimal lastValue, int decimalDigits) {
+        return computeProportion(startValue, lastValue, decimalDigits).subtract(ONE_HUNDRED);
+    }
+
+    /**
+     * Method to get percent between two values and textualize it
+     *
+     * @param percent: value to compute
+     * @return percent value formatted e.g. +8% or -8% as {@link String}
+     */
+    public static String textualizeAssetPercent(FixedDecimal percent) {
+        if (percent.signum() > 0)
+            return "+" + percent + "%";
+        else if (percent.signum() < 0)
+            return percent + "%";
+        else
+            return "=" + percent + "%";
+    }
+
+    /**
+     * Method to get proportion between two values without precision loss
+     *
+     * @param startValue:    first value to make compare
+     * @param lastValue:     last value to compare and calculate proportion with start value
+     * @param decimalDigits: number of digits to round final proportion value
+     * @return proportion value as {@link FixedDecimal}
+     * @throws IllegalArgumentException if startValue or lastValue are negative
+     * @throws ArithmeticException      if startValue is zero and lastValue is not
+     */
+    public static FixedDecimal computeProportion(FixedDecimal startValue, FixedDecimal lastValue, int decimalDigits) {
+        if (startValue.signum() < 0 || lastValue.signum() < 0)
+            throw new IllegalArgumentException("Start value and last value must be positive");
+        if (decimalDigits < 0)
+            throw new IllegalArgumentException("Decimal digits number cannot be less than 0");
+        if (startValue.signum() == 0 && lastValue.signum() == 0)
+            return ONE_HUNDRED.setScale(decimalDigits);
+        return lastValue.multiply(100).divide(startValue, decimalDigits);
+    }
+
+    /**
+     * Method to round a value without precision loss
+     *
+     * @param value:         value to round
+     * @param decimalDigits: number of digits to round final value
+     * @return value rounded with decimal digits inserted as {@link FixedDecimal}
+     * @throws IllegalArgumentException if decimalDigits is negative
+     */
+    public static FixedDecimal roundValue(FixedDecimal value, int decimalDigits) {
+        if (decimalDigits < 0)
+            throw new IllegalArgumentException("Decimal digits number cannot be less than 0");
+        return value.setScale(decimalDigits);
+    }
+
+    /**
+     * Method to percentualize a value without precision loss
+     *
+     * @param startValue:     value to percentualize
+     * @param percentualizer: percent slice to add or remove from start value
+     * @param decimalDigits:  number of digits to round final value
+     * @return percentualized value as {@link FixedDecimal}, e.g. 100 percentualized by -10 is 90
+     * @throws IllegalArgumentException if startValue is negative or percentualizer is lesser than -100
+     */
+    public static FixedDecimal getPercentualizedValue(FixedDecimal startValue, FixedDecimal percentualizer,
+                                                      int decimalDigits) {
+        if (startValue.signum() < 0)
+            throw new IllegalArgumentException("Start value must be positive");
+        if (percentualizer.compareTo(ONE_HUNDRED.negate()) < 0)
+            throw new IllegalArgumentException("Percentualizer cannot be lesser than -100");
+        if (decimalDigits < 0)
+            throw new IllegalArgumentException("Decimal digits number cannot be less than 0");
+        return startValue.multiply(ONE_HUNDRED.add(percentualizer)).divide(ONE_HUNDRED, decimalDigits);
+    }
+
     /**
      * Method to get forecast of an asset in base of days gap inserted
      *
@@ -0,0 +1,205 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import com.tecknobit.apimanager.apis.sockets.SocketEngine.SocketSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.apimanager.apis.sockets.SocketEngine.OverflowPolicy.BLOCK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The {@code SocketEngineTest} class checks the outbound queues of the {@link SocketEngine}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class SocketEngineTest {
+
+    /**
+     * {@code MAX_QUEUED_CONTENTS} the max number of the contents queued for a session
+     */
+    private static final int MAX_QUEUED_CONTENTS = 4;
+
+    /**
+     * {@code RELAYS} the number of the relays requested by each client, enough to fill the socket buffers of its peer
+     */
+    private static final int RELAYS = 200;
+
+    /**
+     * {@code CONTENTS_PER_RELAY} the number of the contents written to the peer session by each relay
+     */
+    private static final int CONTENTS_PER_RELAY = 4;
+
+    /**
+     * {@code RELAYED_CONTENT} the content relayed to the peer session
+     */
+    private static final String RELAYED_CONTENT = "x".repeat(65536);
+
+    /**
+     * {@code manager} the manager which starts the engine
+     */
+    private SocketManager manager;
+
+    /**
+     * {@code clients} the clients connected to the engine
+     */
+    private List<Socket> clients;
+
+    /**
+     * Method to init the manager <br>
+     * No-any params required
+     *
+     * @throws Exception when the manager cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        manager = new SocketManager(true);
+        clients = new ArrayList<>();
+    }
+
+    /**
+     * Method to close the clients and the manager <br>
+     * No-any params required
+     *
+     * @throws Exception when an error occurred closing them
+     */
+    @After
+    public void tearDown() throws Exception {
+        for (Socket client : clients)
+            client.close();
+        manager.shutdown(1000);
+    }
+
+    /**
+     * Method to check that two I/O threads which relay to the full queues of each other's sessions never wait, so
+     * they neither deadlock nor stall the other sessions, but pause the reading of the relaying sessions keeping the
+     * queues bounded, and resume it when the peers read the contents <br>
+     * No-any params required
+     *
+     * @throws Exception when an error occurred
+     */
+    @Test(timeout = 60000)
+    public void ioThreadsRelayingToEachOtherArePaused() throws Exception {
+        List<SocketSession> peers = new CopyOnWriteArrayList<>();
+        CountDownLatch opened = new CountDownLatch(2);
+        CountDownLatch relayed = new CountDownLatch(2 * RELAYS);
+        AtomicInteger maxQueuedContents = new AtomicInteger();
+        int port = freePort();
+        SocketEngine engine = manager.startEngine(port, 2, new SocketEngine.SessionHandler() {
+
+            @Override
+            public void onOpen(SocketSession session) {
+                if (peers.size() < 2) {
+                    peers.add(session);
+                    opened.countDown();
+                }
+            }
+
+            @Override
+            public void onContent(SocketSession session, String content) throws Exception {
+                if (content.equals("relay")) {
+                    SocketSession peer = peers.get(0) == session ? peers.get(1) : peers.get(0);
+                    for (int j = 0; j < CONTENTS_PER_RELAY; j++) {
+                        peer.writeContent(RELAYED_CONTENT);
+                        maxQueuedContents.accumulateAndGet(peer.getQueuedContents(), Math::max);
+                    }
+                    relayed.countDown();
+                } else
+                    session.writeContent("pong");
+            }
+
+        });
+        engine.setOutboundLimit(MAX_QUEUED_CONTENTS, BLOCK);
+        Socket first = connect(port);
+        Socket second = connect(port);
+        assertTrue(opened.await(10, SECONDS));
+        for (int j = 0; j < RELAYS; j++) {
+            send(first, "relay");
+            send(second, "relay");
+        }
+        Socket third = connect(port);
+        third.setSoTimeout(10000);
+        send(third, "ping");
+        assertEquals("pong", new BufferedReader(new InputStreamReader(third.getInputStream(), UTF_8)).readLine());
+        assertTrue("The relays have not been paused", relayed.getCount() > 0);
+        AtomicInteger received = new AtomicInteger();
+        for (Socket client : List.of(first, second))
+            new Thread(() -> drain(client, received)).start();
+        assertTrue("The reading of the paused sessions has not been resumed", relayed.await(30, SECONDS));
+        assertTrue("The queues exceeded their limit: " + maxQueuedContents.get(),
+                maxQueuedContents.get() <= MAX_QUEUED_CONTENTS + CONTENTS_PER_RELAY);
+        long deadline = System.currentTimeMillis() + 30000;
+        while (received.get() < 2 * RELAYS * CONTENTS_PER_RELAY && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertEquals(2 * RELAYS * CONTENTS_PER_RELAY, received.get());
+    }
+
+    /**
+     * Method to read the contents relayed to a client until it is closed
+     *
+     * @param client:   the client which reads the contents
+     * @param received: the counter of the contents received
+     */
+    private static void drain(Socket client, AtomicInteger received) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), UTF_8));
+            while (reader.readLine() != null)
+                received.incrementAndGet();
+        } catch (Exception ignored) {
+        }
+    }
+
+    /**
+     * Method to connect a client to the engine
+     *
+     * @param port: the port of the engine
+     * @return the client connected as {@link Socket}
+     * @throws Exception when the client cannot connect
+     */
+    private Socket connect(int port) throws Exception {
+        Socket client = new Socket("localhost", port);
+        clients.add(client);
+        return client;
+    }
+
+    /**
+     * Method to send a content to the engine
+     *
+     * @param client:  the client which sends the content
+     * @param content: the content to send
+     * @throws Exception when the content cannot be sent
+     */
+    private static void send(Socket client, String content) throws Exception {
+        PrintWriter writer = new PrintWriter(client.getOutputStream(), true, UTF_8);
+        writer.println(content);
+    }
+
+    /**
+     * Method to get a free port on the loopback interface <br>
+     * No-any params required
+     *
+     * @return a free port as int
+     * @throws Exception when no port is available
+     */
+    private static int freePort() throws Exception {
+        try (ServerSocket probe = new ServerSocket(0)) {
+            return probe.getLocalPort();
+        }
+    }
+
+}
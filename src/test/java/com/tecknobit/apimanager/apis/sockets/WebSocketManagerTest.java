@@ -0,0 +1,179 @@
+package com.tecknobit.apimanager.apis.sockets;
+
+import com.tecknobit.apimanager.apis.sockets.WebSocketManager.StreamConnection;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.apimanager.apis.sockets.WebSocketManager.NORMAL_CLOSURE_CODE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The {@code WebSocketManagerTest} class checks the reconnections and the closures of the {@link WebSocketManager}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class WebSocketManagerTest {
+
+    /**
+     * {@code SUBSCRIBE_MESSAGE} the message sent to subscribe to the topic
+     */
+    private static final String SUBSCRIBE_MESSAGE = "{\"subscribe\":\"trades\"}";
+
+    /**
+     * {@code HANDSHAKE_GUID} the guid used to accept the handshake of a web socket
+     */
+    private static final String HANDSHAKE_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    /**
+     * {@code server} the server which upgrades the connections to web sockets
+     */
+    private MockWebServer server;
+
+    /**
+     * {@code manager} the manager under test
+     */
+    private WebSocketManager manager;
+
+    /**
+     * Method to start the server and init the manager <br>
+     * No-any params required
+     *
+     * @throws Exception when the server cannot be started
+     */
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start(InetAddress.getLoopbackAddress(), 0);
+        manager = new WebSocketManager();
+        manager.setReconnectionDelay(50);
+    }
+
+    /**
+     * Method to shut down the manager and the server <br>
+     * No-any params required
+     *
+     * @throws Exception when the server cannot be shut down
+     */
+    @After
+    public void tearDown() throws Exception {
+        manager.shutdown();
+        server.shutdown();
+    }
+
+    /**
+     * Method to check that a connection closed by the server is reconnected and its subscriptions are sent again <br>
+     * No-any params required
+     *
+     * @throws Exception when an error occurred
+     */
+    @Test(timeout = 20000)
+    public void reconnectsAndResubscribes() throws Exception {
+        BlockingQueue<String> subscriptions = new LinkedBlockingQueue<>();
+        AtomicInteger connections = new AtomicInteger();
+        WebSocketListener serverListener = new WebSocketListener() {
+
+            @Override
+            public void onMessage(WebSocket webSocket, String text) {
+                subscriptions.add(text);
+                webSocket.send("trade-" + connections.incrementAndGet());
+                if (connections.get() == 1)
+                    webSocket.close(1001, "going away");
+            }
+
+            @Override
+            public void onClosing(WebSocket webSocket, int code, String reason) {
+                webSocket.close(NORMAL_CLOSURE_CODE, null);
+            }
+
+        };
+        server.enqueue(new MockResponse().withWebSocketUpgrade(serverListener));
+        server.enqueue(new MockResponse().withWebSocketUpgrade(serverListener));
+        BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        StreamConnection connection = manager.connect(server.url("/ws").toString());
+        connection.subscribe("trades", SUBSCRIBE_MESSAGE, frames::add);
+        assertEquals(SUBSCRIBE_MESSAGE, subscriptions.poll(10, SECONDS));
+        assertEquals("trade-1", frames.poll(10, SECONDS));
+        assertEquals(SUBSCRIBE_MESSAGE, subscriptions.poll(10, SECONDS));
+        assertEquals("trade-2", frames.poll(10, SECONDS));
+        assertEquals(2, server.getRequestCount());
+    }
+
+    /**
+     * Method to check that a close frame without status is answered with the {@link WebSocketManager#NORMAL_CLOSURE_CODE}
+     * <br>
+     * No-any params required
+     *
+     * @throws Exception when an error occurred
+     */
+    @Test(timeout = 20000)
+    public void answersCloseFrameWithoutStatus() throws Exception {
+        try (ServerSocket rawServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            manager.connect("http://localhost:" + rawServer.getLocalPort() + "/ws");
+            try (Socket peer = rawServer.accept()) {
+                DataInputStream input = new DataInputStream(peer.getInputStream());
+                OutputStream output = peer.getOutputStream();
+                acceptHandshake(input, output);
+                output.write(new byte[]{(byte) 0x88, 0x00});
+                output.flush();
+                assertEquals(0x88, input.readUnsignedByte());
+                int length = input.readUnsignedByte() & 0x7F;
+                assertEquals(2, length);
+                byte[] mask = new byte[4];
+                input.readFully(mask);
+                int code = ((input.readUnsignedByte() ^ (mask[0] & 0xFF)) << 8)
+                        | (input.readUnsignedByte() ^ (mask[1] & 0xFF));
+                assertEquals(NORMAL_CLOSURE_CODE, code);
+            }
+        }
+    }
+
+    /**
+     * Method to accept the handshake of a web socket
+     *
+     * @param input:  the stream where read the handshake request
+     * @param output: the stream where write the handshake response
+     * @throws Exception when the handshake cannot be accepted
+     */
+    private static void acceptHandshake(DataInputStream input, OutputStream output) throws Exception {
+        String key = null;
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            int read = input.read();
+            if (read == '\n') {
+                String header = line.toString().trim();
+                if (header.isEmpty())
+                    break;
+                if (header.toLowerCase().startsWith("sec-websocket-key:"))
+                    key = header.substring(header.indexOf(':') + 1).trim();
+                line.setLength(0);
+            } else
+                line.append((char) read);
+        }
+        byte[] digest = MessageDigest.getInstance("SHA-1").digest((key + HANDSHAKE_GUID).getBytes(UTF_8));
+        output.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+                "Upgrade: websocket\r\n" +
+                "Connection: Upgrade\r\n" +
+                "Sec-WebSocket-Accept: " + Base64.getEncoder().encodeToString(digest) + "\r\n\r\n").getBytes(UTF_8));
+        output.flush();
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.tecknobit.apimanager.formatters;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The {@code JsonWriterTest} class checks that the {@link JsonWriter} writes the same bytes of the {@link JSONObject}
+ * serialization, so the payloads signed by the requests do not change
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @since 2.2.5
+ */
+public class JsonWriterTest {
+
+    /**
+     * {@code NUMBERS} the numeric values to check
+     */
+    private static final List<Number> NUMBERS = List.of(
+            0.1f, 1.5f, 3f, -0f, 1e10f, 1.0E-5f, Float.MAX_VALUE, Float.MIN_VALUE,
+            0.1, 2.0, 100.0, -7.0, 1e21, 1.0E-7, 123456789.0,
+            new BigDecimal("0.10"), new BigDecimal("100"), new BigDecimal("1E+3"), new BigDecimal("-2.500"),
+            new BigInteger("123456789012345678901234567890"), 42, 42L, (short) 7, (byte) 1
+    );
+
+    /**
+     * Method to check the parity of the numeric values with the {@link JSONObject} serialization <br>
+     * No-any params required
+     */
+    @Test
+    public void numbersMatchJSONObject() {
+        for (Number number : NUMBERS)
+            assertParity(Map.of("value", number));
+    }
+
+    /**
+     * Method to check the parity of a nested payload with the {@link JSONObject} serialization <br>
+     * No-any params required
+     */
+    @Test
+    public void nestedValuesMatchJSONObject() {
+        assertParity(Map.of("values", List.of(0.1f, 2.0, new BigDecimal("0.10"), 3f, "text")));
+        assertParity(Map.of("order", Map.of("quantity", 0.3f)));
+    }
+
+    /**
+     * Method to check the parity of the {@link JSONString} values, written raw, with the {@link JSONObject}
+     * serialization <br>
+     * No-any params required
+     */
+    @Test
+    public void jsonStringValuesMatchJSONObject() {
+        JSONString price = () -> "{\"amount\":1.50,\"currency\":\"€\"}";
+        assertParity(Map.of("price", price));
+        assertParity(Map.of("prices", List.of(price, (JSONString) () -> null)));
+    }
+
+    /**
+     * Method to check that the non-finite floats are rejected <br>
+     * No-any params required
+     */
+    @Test(expected = JSONException.class)
+    public void nonFiniteFloatIsRejected() {
+        JsonWriter.serialize(List.of(Float.NaN));
+    }
+
+    /**
+     * Method to check that the non-finite doubles are rejected <br>
+     * No-any params required
+     */
+    @Test(expected = JSONException.class)
+    public void nonFiniteDoubleIsRejected() {
+        JsonWriter.serialize(List.of(Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Method to assert that a payload is written as the {@link JSONObject} does
+     *
+     * @param payload: the payload to check
+     */
+    private static void assertParity(Map<String, ?> payload) {
+        assertEquals(new JSONObject(payload).toString(), new String(JsonWriter.serialize(payload), UTF_8));
+    }
+
+}